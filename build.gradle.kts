@@ -1,6 +1,7 @@
 plugins {
     `maven-publish`
     id("hytale-mod") version "0.+"
+    alias(libs.plugins.jmh)
 }
 val hytaleServerVersion = providers
     .gradleProperty("hytale_server_version")
@@ -18,9 +19,23 @@ repositories {
 }
 
 dependencies {
+    // Server-independent skill logic, bundled into the plugin jar below
+    implementation(project(":core"))
     compileOnly(libs.jetbrains.annotations)
     compileOnly(libs.jspecify)
+    // Provided by the server at runtime; used to read the skill JSON files
+    compileOnly(libs.gson)
     compileOnly("com.hypixel.hytale:Server:$hytaleServerVersion")
+
+    testImplementation(libs.junit.jupiter)
+    // Refs are only used as map keys by the resources under test
+    testImplementation(libs.mockito.core)
+    testImplementation("com.hypixel.hytale:Server:$hytaleServerVersion")
+    testRuntimeOnly(libs.junit.platform.launcher)
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
 
 hytale {
@@ -66,6 +81,11 @@ tasks.named<ProcessResources>("processResources") {
     inputs.properties(replaceProperties)
 }
 
+// The server only loads the plugin jar, so core's classes and resources ship inside it
+tasks.named<Jar>("jar") {
+    from(project(":core").sourceSets.main.get().output)
+}
+
 tasks.withType<Jar> {
     manifest {
         attributes["Specification-Title"] = rootProject.name
@@ -78,6 +98,21 @@ tasks.withType<Jar> {
     }
 }
 
+// JMH benchmarks for the mining hot path (src/jmh/java).
+// Run with `./gradlew jmh`; results land in build/results/jmh/results.json.
+// The gc profiler reports allocation per operation (gc.alloc.rate.norm) for every benchmark.
+jmh {
+    jmhVersion.set(libs.versions.jmh.core.get())
+    profilers.add("gc")
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+
+    // Narrow the run, e.g. `./gradlew jmh -PjmhInclude=LevelCurve`
+    providers.gradleProperty("jmhInclude").orNull?.let { includes.add(it) }
+}
+
 publishing {
     repositories {
         // This is where you put repositories that you want to publish to.
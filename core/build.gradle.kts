@@ -0,0 +1,31 @@
+// Skill rules (formulas, loot, config, engine) with no dependency on the Hytale server,
+// so they can be driven by the headless simulator and benchmarked on their own.
+plugins {
+    `java-library`
+}
+
+group = "com.venomie"
+version = rootProject.version
+val javaVersion = 25
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    // Provided by the server (or the simulator) at runtime; used to read the skill JSON files
+    compileOnly(libs.gson)
+
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    }
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
@@ -0,0 +1,13 @@
+package com.venomie.hytaleleveladditions.boosts;
+
+/**
+ * Who an XP boost applies to.
+ */
+public enum BoostScope {
+    /** Every player on the server */
+    Global,
+    /** Every player in one world, by world name */
+    World,
+    /** One player, by UUID */
+    Player
+}
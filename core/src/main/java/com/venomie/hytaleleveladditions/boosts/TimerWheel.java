@@ -0,0 +1,184 @@
+package com.venomie.hytaleleveladditions.boosts;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel: a ring of slots, each a linked list of timers due in that slot.
+ * <p>
+ * Scheduling and cancelling are O(1). Advancing visits one slot per elapsed tick and only
+ * touches the timers hashed to it; a timer more than one lap away stays in its slot until
+ * the lap its deadline falls in. Time is in milliseconds, rounded up to whole ticks.
+ * <p>
+ * Due timers are detached from their slots before any of them fires, so a callback may
+ * schedule or cancel timers (including ones due in the same advance, which then do not
+ * fire).
+ * <p>
+ * Not thread-safe; the owner synchronizes.
+ *
+ * @param <T> payload handed back when a timer fires
+ */
+public final class TimerWheel<T> {
+
+    private final long tickMillis;
+    private final Timer<T>[] slots;
+    private final int mask;
+
+    /** Next tick to process; every tick before it has fired */
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis resolution of the wheel
+     * @param slotCount  number of slots, rounded up to a power of two
+     * @param nowMillis  current time; timers due before it fire on the first advance
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimerWheel(long tickMillis, int slotCount, long nowMillis) {
+        if (tickMillis <= 0) throw new IllegalArgumentException("tickMillis must be positive");
+        int capacity = Integer.highestOneBit(Math.max(2, slotCount - 1)) << 1;
+        this.tickMillis = tickMillis;
+        this.slots = (Timer<T>[]) new Timer[capacity];
+        this.mask = capacity - 1;
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /** Schedules a payload to fire at {@code atMillis} (or on the next advance if that has passed) */
+    public Timer<T> schedule(long atMillis, T payload) {
+        long tick = Math.max(Math.ceilDiv(atMillis, tickMillis), currentTick);
+        Timer<T> timer = new Timer<>(payload, tick);
+        link(timer);
+        size++;
+        return timer;
+    }
+
+    /** Removes a pending timer; no-op if it already fired or was cancelled */
+    public void cancel(Timer<T> timer) {
+        if (!timer.pending) return;
+        timer.pending = false;
+        // A timer detached for firing is no longer in a slot or counted in size
+        if (timer.linked) {
+            unlink(timer);
+            size--;
+        }
+    }
+
+    /**
+     * Fires every timer due at or before {@code nowMillis}.
+     * After a gap longer than one lap, each slot is visited once and the due timers fire
+     * in deadline order.
+     *
+     * @return number of timers fired
+     */
+    public int advance(long nowMillis, Consumer<T> fired) {
+        long target = nowMillis / tickMillis;
+        if (target < currentTick || size == 0) {
+            currentTick = Math.max(currentTick, target + 1);
+            return 0;
+        }
+
+        List<Timer<T>> due = new ArrayList<>();
+        if (target - currentTick >= slots.length) {
+            for (int slot = 0; slot < slots.length; slot++) {
+                collectDue(slot, target, due);
+            }
+            due.sort(Comparator.comparingLong(timer -> timer.deadlineTick));
+            currentTick = target + 1;
+        } else {
+            for (; currentTick <= target; currentTick++) {
+                collectDue((int) (currentTick & mask), currentTick, due);
+            }
+        }
+
+        int count = 0;
+        for (Timer<T> timer : due) {
+            // Skip timers cancelled by an earlier callback of this advance
+            if (!timer.pending) continue;
+            timer.pending = false;
+            count++;
+            fired.accept(timer.payload);
+        }
+        return count;
+    }
+
+    /** Number of pending timers */
+    public int size() {
+        return size;
+    }
+
+    /** Time at which the next tick is due, or Long.MAX_VALUE if nothing is pending */
+    public long nextTickMillis() {
+        return size == 0 ? Long.MAX_VALUE : currentTick * tickMillis;
+    }
+
+    /** Handle of a scheduled payload */
+    public static final class Timer<T> {
+        private final T payload;
+        private final long deadlineTick;
+        private Timer<T> prev;
+        private Timer<T> next;
+        private boolean pending;
+        /** In a slot's list; false once detached to fire */
+        private boolean linked;
+
+        private Timer(T payload, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        /** True until the timer fires or is cancelled */
+        public boolean isPending() {
+            return pending;
+        }
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    /** Detaches the slot's timers due at or before {@code target}; they stay pending until fired */
+    private void collectDue(int slot, long target, List<Timer<T>> due) {
+        Timer<T> timer = slots[slot];
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            if (timer.deadlineTick <= target) {
+                unlink(timer);
+                size--;
+                due.add(timer);
+            }
+            timer = next;
+        }
+    }
+
+    private void link(Timer<T> timer) {
+        int slot = (int) (timer.deadlineTick & mask);
+        Timer<T> head = slots[slot];
+        timer.next = head;
+        if (head != null) head.prev = timer;
+        slots[slot] = timer;
+        timer.pending = true;
+        timer.linked = true;
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[(int) (timer.deadlineTick & mask)] = timer.next;
+        }
+        if (timer.next != null) timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        timer.linked = false;
+    }
+}
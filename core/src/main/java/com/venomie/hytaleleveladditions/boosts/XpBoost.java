@@ -0,0 +1,90 @@
+package com.venomie.hytaleleveladditions.boosts;
+
+import java.util.UUID;
+
+/**
+ * A multiplier on XP gains that applies between a start and an expiry time.
+ * <p>
+ * Created through {@link XpBoosts}; the timer fields are owned by it.
+ */
+public final class XpBoost {
+
+    private final int id;
+    private final BoostScope scope;
+    private final String worldName;
+    private final UUID playerId;
+    private final double multiplier;
+    private final long startMillis;
+    private final long expiryMillis;
+
+    // Guarded by XpBoosts
+    boolean active;
+    TimerWheel.Timer<XpBoost> startTimer;
+    TimerWheel.Timer<XpBoost> expiryTimer;
+
+    XpBoost(int id, BoostScope scope, String worldName, UUID playerId,
+            double multiplier, long startMillis, long expiryMillis) {
+        this.id = id;
+        this.scope = scope;
+        this.worldName = worldName;
+        this.playerId = playerId;
+        this.multiplier = multiplier;
+        this.startMillis = startMillis;
+        this.expiryMillis = expiryMillis;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public BoostScope getScope() {
+        return scope;
+    }
+
+    /** Target world for {@link BoostScope#World}, otherwise null */
+    public String getWorldName() {
+        return worldName;
+    }
+
+    /** Target player for {@link BoostScope#Player}, otherwise null */
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public double getMultiplier() {
+        return multiplier;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public long getExpiryMillis() {
+        return expiryMillis;
+    }
+
+    /** Whether the boost applies at the given time */
+    public boolean isActiveAt(long nowMillis) {
+        return nowMillis >= startMillis && nowMillis < expiryMillis;
+    }
+
+    /** One-line summary for chat, e.g. "#2 x2.0 World 'overworld' active, 59m left" */
+    public String describe(long nowMillis) {
+        String target = switch (scope) {
+            case Global -> "Global";
+            case World -> "World '" + worldName + "'";
+            case Player -> "Player " + playerId;
+        };
+        String timing = nowMillis < startMillis
+                ? "starts in " + formatDuration(startMillis - nowMillis)
+                : "active, " + formatDuration(expiryMillis - nowMillis) + " left";
+        return "#" + id + " x" + multiplier + " " + target + " " + timing;
+    }
+
+    private static String formatDuration(long millis) {
+        long minutes = Math.max(0, millis) / 60_000;
+        if (minutes < 60) return minutes + "m";
+        long hours = minutes / 60;
+        return hours < 48 ? hours + "h" + (minutes % 60) + "m" : (hours / 24) + "d" + (hours % 24) + "h";
+    }
+}
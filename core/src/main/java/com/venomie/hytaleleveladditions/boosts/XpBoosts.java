@@ -0,0 +1,206 @@
+package com.venomie.hytaleleveladditions.boosts;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Registry of time-windowed XP boosts (weekend events, per-world events, personal boosts).
+ * <p>
+ * Start and expiry times live in a {@link TimerWheel}. Readers call {@link #current(long)},
+ * which is a volatile read plus a time comparison; only when the wheel's next tick is due
+ * does one caller advance it, and only when a boost actually starts or expires is the
+ * {@link XpMultipliers} snapshot rebuilt. Boost lists are never scanned per XP grant.
+ * <p>
+ * Boosts are kept in memory only; they do not survive a restart.
+ */
+public final class XpBoosts {
+
+    private XpBoosts() {
+        // Utility class; prevent instantiation
+    }
+
+    /** Timer resolution: boosts start and expire within a second of their time */
+    private static final long TICK_MILLIS = 1000;
+
+    /** 1024 one-second slots, so a lap of the wheel is ~17 minutes */
+    private static final int WHEEL_SLOTS = 1024;
+
+    private static final Object LOCK = new Object();
+
+    // Guarded by LOCK
+    private static TimerWheel<XpBoost> wheel;
+    private static final Map<Integer, XpBoost> BOOSTS = new LinkedHashMap<>();
+    private static int nextId = 1;
+
+    private static volatile XpMultipliers current = XpMultipliers.NONE;
+
+    /** When the wheel next needs advancing; Long.MAX_VALUE while nothing is scheduled */
+    private static volatile long nextCheckMillis = Long.MAX_VALUE;
+
+    // ===============================
+    // Read path
+    // ===============================
+
+    /** Returns the multipliers in effect at {@code nowMillis}, firing any due timers first */
+    public static XpMultipliers current(long nowMillis) {
+        if (nowMillis >= nextCheckMillis) {
+            synchronized (LOCK) {
+                if (nowMillis >= nextCheckMillis) advance(nowMillis);
+            }
+        }
+        return current;
+    }
+
+    // ===============================
+    // Management
+    // ===============================
+
+    /**
+     * Adds a boost. It applies from {@code startMillis} (immediately if already passed)
+     * until {@code expiryMillis}.
+     *
+     * @param target world name for {@link BoostScope#World}, player UUID for
+     *               {@link BoostScope#Player}, ignored for {@link BoostScope#Global}
+     * @throws IllegalArgumentException if the multiplier is not positive, the window is
+     *                                  empty or the target is missing
+     */
+    public static XpBoost add(BoostScope scope, Object target, double multiplier,
+                              long startMillis, long expiryMillis, long nowMillis) {
+        if (!(multiplier > 0) || Double.isInfinite(multiplier)) {
+            throw new IllegalArgumentException("Multiplier must be a positive number");
+        }
+        if (expiryMillis <= startMillis || expiryMillis <= nowMillis) {
+            throw new IllegalArgumentException("Boost would never be active");
+        }
+        String worldName = null;
+        UUID playerId = null;
+        switch (scope) {
+            case World -> {
+                if (!(target instanceof String name)) throw new IllegalArgumentException("World boosts need a world name");
+                worldName = name;
+            }
+            case Player -> {
+                if (!(target instanceof UUID id)) throw new IllegalArgumentException("Player boosts need a player UUID");
+                playerId = id;
+            }
+            case Global -> { }
+        }
+
+        synchronized (LOCK) {
+            advance(nowMillis);
+            XpBoost boost = new XpBoost(nextId++, scope, worldName, playerId, multiplier, startMillis, expiryMillis);
+            BOOSTS.put(boost.getId(), boost);
+
+            TimerWheel<XpBoost> timers = wheel(nowMillis);
+            if (boost.isActiveAt(nowMillis)) {
+                boost.active = true;
+            } else {
+                boost.startTimer = timers.schedule(startMillis, boost);
+            }
+            boost.expiryTimer = timers.schedule(expiryMillis, boost);
+
+            if (boost.active) rebuild();
+            updateNextCheck();
+            return boost;
+        }
+    }
+
+    /**
+     * Ends a boost early.
+     *
+     * @return the removed boost, or null if no boost has that ID
+     */
+    public static XpBoost remove(int id) {
+        synchronized (LOCK) {
+            XpBoost boost = BOOSTS.remove(id);
+            if (boost == null) return null;
+
+            if (boost.startTimer != null) wheel.cancel(boost.startTimer);
+            if (boost.expiryTimer != null) wheel.cancel(boost.expiryTimer);
+            if (boost.active) {
+                boost.active = false;
+                rebuild();
+            }
+            updateNextCheck();
+            return boost;
+        }
+    }
+
+    /** Every boost that has not expired yet (active or upcoming), oldest first */
+    public static List<XpBoost> list(long nowMillis) {
+        synchronized (LOCK) {
+            advance(nowMillis);
+            return new ArrayList<>(BOOSTS.values());
+        }
+    }
+
+    /** Removes every boost */
+    public static void clear() {
+        synchronized (LOCK) {
+            BOOSTS.clear();
+            wheel = null;
+            current = XpMultipliers.NONE;
+            nextCheckMillis = Long.MAX_VALUE;
+        }
+    }
+
+    // ===============================
+    // Internal utility (hold LOCK)
+    // ===============================
+
+    private static TimerWheel<XpBoost> wheel(long nowMillis) {
+        if (wheel == null) wheel = new TimerWheel<>(TICK_MILLIS, WHEEL_SLOTS, nowMillis);
+        return wheel;
+    }
+
+    private static void advance(long nowMillis) {
+        if (wheel == null) return;
+
+        boolean[] changed = {false};
+        wheel.advance(nowMillis, boost -> {
+            // Start and expiry both land here; the boost's window decides which one it was
+            boolean active = boost.isActiveAt(nowMillis);
+            if (nowMillis >= boost.getExpiryMillis()) {
+                BOOSTS.remove(boost.getId());
+                if (boost.startTimer != null) wheel.cancel(boost.startTimer);
+            }
+            if (active != boost.active) {
+                boost.active = active;
+                changed[0] = true;
+            }
+        });
+        if (changed[0]) rebuild();
+        updateNextCheck();
+    }
+
+    /** Recomputes the published multipliers from the active boosts */
+    private static void rebuild() {
+        double global = 1.0;
+        Map<String, Double> worlds = new HashMap<>();
+        Map<UUID, Double> players = new HashMap<>();
+        for (XpBoost boost : BOOSTS.values()) {
+            if (!boost.active) continue;
+            switch (boost.getScope()) {
+                case Global -> global *= boost.getMultiplier();
+                case World -> worlds.merge(boost.getWorldName(), boost.getMultiplier(), (a, b) -> a * b);
+                case Player -> players.merge(boost.getPlayerId(), boost.getMultiplier(), (a, b) -> a * b);
+            }
+        }
+
+        // Fold the global factor into each world so readers do a single lookup
+        double globalFactor = global;
+        worlds.replaceAll((world, multiplier) -> multiplier * globalFactor);
+
+        current = worlds.isEmpty() && players.isEmpty() && global == 1.0
+                ? XpMultipliers.NONE
+                : new XpMultipliers(global, Map.copyOf(worlds), Map.copyOf(players));
+    }
+
+    private static void updateNextCheck() {
+        nextCheckMillis = wheel == null ? Long.MAX_VALUE : wheel.nextTickMillis();
+    }
+}
@@ -0,0 +1,59 @@
+package com.venomie.hytaleleveladditions.boosts;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of the XP multipliers in effect, rebuilt by {@link XpBoosts} only when
+ * a boost starts, expires or is added or removed.
+ * <p>
+ * Boosts stack multiplicatively. The global factor is already folded into every world
+ * factor, so a reader does one world lookup per tick and one player lookup per player:
+ * {@code forWorld(world) * forPlayer(player)}.
+ */
+public final class XpMultipliers {
+
+    /** No active boosts */
+    public static final XpMultipliers NONE = new XpMultipliers(1.0, Map.of(), Map.of());
+
+    private final double global;
+    private final Map<String, Double> worlds;
+    private final Map<UUID, Double> players;
+
+    XpMultipliers(double global, Map<String, Double> worlds, Map<UUID, Double> players) {
+        this.global = global;
+        this.worlds = worlds;
+        this.players = players;
+    }
+
+    /** True if nothing is boosted; XP can be applied as is */
+    public boolean isNeutral() {
+        return global == 1.0 && worlds.isEmpty() && players.isEmpty();
+    }
+
+    /** True if at least one player has a personal boost */
+    public boolean hasPlayerBoosts() {
+        return !players.isEmpty();
+    }
+
+    /** Global x world multiplier for players in the given world */
+    public double forWorld(String worldName) {
+        Double multiplier = worlds.get(worldName);
+        return multiplier != null ? multiplier : global;
+    }
+
+    /** Personal multiplier of a player (1.0 without personal boosts) */
+    public double forPlayer(UUID playerId) {
+        Double multiplier = players.get(playerId);
+        return multiplier != null ? multiplier : 1.0;
+    }
+
+    /**
+     * Applies a multiplier to an XP amount, rounding to the nearest whole XP.
+     * Saturates at Long.MAX_VALUE instead of overflowing.
+     */
+    public static long scale(long xp, double multiplier) {
+        if (multiplier == 1.0) return xp;
+        return Math.round(xp * multiplier);
+    }
+}
@@ -0,0 +1,91 @@
+package com.venomie.hytaleleveladditions.combat;
+
+import java.util.List;
+
+/**
+ * Rules turning combat damage into Sword XP, part of the active SkillConfig.
+ * <p>
+ * Two stages keep farms in check:
+ * <ul>
+ *   <li>Per target: the first {@code targetFullXpDamage} damage a target takes counts in
+ *       full; beyond that each point is worth {@code full / creditedSoFar}, so the XP a
+ *       single target can give grows only logarithmically (training dummies, regenerating
+ *       bosses).</li>
+ *   <li>Per attacker and tick: the counted damage is summed and converted once,
+ *       {@code xp = xpBase * damage ^ xpExponent}. An exponent below 1 makes a tick of
+ *       AoE hits worth less than the same damage spread over time.</li>
+ * </ul>
+ */
+public final class SwordXpRules {
+
+    /** Defaults used when Skills.json has no "Sword" section */
+    public static final SwordXpRules DEFAULT = new SwordXpRules(List.of("Weapon_Sword_"), 1.0, 0.9, 200);
+
+    private final String[] weaponPrefixes;
+    private final double xpBase;
+    private final double xpExponent;
+    private final double targetFullXpDamage;
+
+    /**
+     * @param weaponPrefixes     item ID prefixes that count as swords
+     * @param xpBase             XP for one point of damage in a tick
+     * @param xpExponent         curve exponent applied to the damage summed per tick (0 < e <= 1 recommended)
+     * @param targetFullXpDamage damage a single target gives full XP for
+     */
+    public SwordXpRules(List<String> weaponPrefixes, double xpBase, double xpExponent, double targetFullXpDamage) {
+        if (!(xpBase >= 0)) throw new IllegalArgumentException("Sword XpBase must be >= 0");
+        if (!(xpExponent > 0)) throw new IllegalArgumentException("Sword XpExponent must be > 0");
+        if (!(targetFullXpDamage > 0)) throw new IllegalArgumentException("Sword TargetFullXpDamage must be > 0");
+        this.weaponPrefixes = weaponPrefixes.toArray(new String[0]);
+        this.xpBase = xpBase;
+        this.xpExponent = xpExponent;
+        this.targetFullXpDamage = targetFullXpDamage;
+    }
+
+    /** Whether an item (by ID) counts as a sword; null (empty hand) never does */
+    public boolean isSword(String itemId) {
+        if (itemId == null) return false;
+        for (String prefix : weaponPrefixes) {
+            if (itemId.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Damage that counts towards XP when a target that has already been credited
+     * {@code credited} damage takes {@code damage} more.
+     */
+    public double countedDamage(double credited, double damage) {
+        if (damage <= 0) return 0;
+        double full = targetFullXpDamage;
+        double after = credited + damage;
+        if (after <= full) return damage;
+
+        // Full value up to the threshold, then the integral of full / x beyond it
+        double start = Math.max(credited, full);
+        double inFull = Math.max(0, full - credited);
+        return inFull + full * Math.log(after / start);
+    }
+
+    /** XP for the damage one attacker counted during one tick */
+    public long xpForDamage(double damage) {
+        if (damage <= 0) return 0;
+        return Math.round(xpBase * Math.pow(damage, xpExponent));
+    }
+
+    public List<String> getWeaponPrefixes() {
+        return List.of(weaponPrefixes);
+    }
+
+    public double getXpBase() {
+        return xpBase;
+    }
+
+    public double getXpExponent() {
+        return xpExponent;
+    }
+
+    public double getTargetFullXpDamage() {
+        return targetFullXpDamage;
+    }
+}
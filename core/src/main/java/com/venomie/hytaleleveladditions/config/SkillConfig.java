@@ -0,0 +1,84 @@
+package com.venomie.hytaleleveladditions.config;
+
+import com.venomie.hytaleleveladditions.combat.SwordXpRules;
+import com.venomie.hytaleleveladditions.formulas.LevelCurve;
+import com.venomie.hytaleleveladditions.loot.SkillLootTables;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, fully compiled balance settings: ore XP and tiers, level curves,
+ * Mining bonus loot and Sword XP rules.
+ * <p>
+ * Built off the world threads by {@link SkillConfigLoader} and published as a whole
+ * through {@link SkillConfigs}, so readers always see one consistent version without locking.
+ */
+public final class SkillConfig {
+
+    /** Ore profiles in tier order (index 0 = tier 1) */
+    private final List<OreProfile> ores;
+
+    /** Profile for blocks named like an ore but not in the XP table (bonus drops only) */
+    private final OreProfile unlistedOre;
+
+    private final Map<SkillType, LevelCurve> curves;
+
+    private final SkillLootTables miningLoot;
+
+    private final SwordXpRules sword;
+
+    public SkillConfig(List<OreProfile> ores, OreProfile unlistedOre,
+                       Map<SkillType, LevelCurve> curves, SkillLootTables miningLoot, SwordXpRules sword) {
+        this.ores = List.copyOf(ores);
+        this.unlistedOre = unlistedOre;
+        this.curves = new EnumMap<>(curves);
+        this.miningLoot = miningLoot;
+        this.sword = sword;
+
+        for (SkillType skill : SkillType.values()) {
+            if (!this.curves.containsKey(skill)) {
+                throw new IllegalArgumentException("No level curve for skill " + skill);
+            }
+        }
+    }
+
+    // ===============================
+    // Accessors
+    // ===============================
+
+    /** Returns the known ore profiles in tier order */
+    public List<OreProfile> getOres() {
+        return ores;
+    }
+
+    /** Returns the curve used by the given skill */
+    public LevelCurve getCurve(SkillType skill) {
+        return curves.get(skill);
+    }
+
+    public SkillLootTables getMiningLoot() {
+        return miningLoot;
+    }
+
+    public SwordXpRules getSword() {
+        return sword;
+    }
+
+    /**
+     * Classifies a block ID. Slow path: scans string prefixes, so callers on the
+     * break path should go through OreRegistry, which caches the result per BlockType.
+     *
+     * @return the matching profile, an unlisted-ore profile for other "Ore" blocks, or null
+     */
+    public OreProfile classify(String blockId) {
+        if (blockId == null || !blockId.contains("Ore")) return null;
+        for (OreProfile profile : ores) {
+            if (blockId.startsWith(profile.getPrefix())) return profile;
+        }
+        return unlistedOre;
+    }
+}
@@ -0,0 +1,220 @@
+package com.venomie.hytaleleveladditions.config;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.venomie.hytaleleveladditions.combat.SwordXpRules;
+import com.venomie.hytaleleveladditions.formulas.LevelCurve;
+import com.venomie.hytaleleveladditions.loot.LootTableLoader;
+import com.venomie.hytaleleveladditions.loot.SkillLootTables;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads skill balance settings from JSON and compiles them into a {@link SkillConfig}.
+ *
+ * Format (keys follow the PascalCase used by Hytale assets):
+ * <pre>
+ * {
+ *   "BonusDropItem": "Ingredient_Charcoal",
+ *   "Ores": [                                  // order = tier order (first = tier 1)
+ *     { "Prefix": "Ore_Copper_", "Xp": 50, "BonusDropItem": "..." }  // BonusDropItem optional
+ *   ],
+ *   "Curves": {
+ *     "Mining": { "Base": 100, "Exponent": 1.5, "MaxLevel": 1000 }   // missing skills use defaults
+ *   },
+ *   "Sword": {                                 // optional, see SwordXpRules; missing keys use defaults
+ *     "WeaponPrefixes": ["Weapon_Sword_"], "XpBase": 1.0, "XpExponent": 0.9, "TargetFullXpDamage": 200
+ *   }
+ * }
+ * </pre>
+ * Mining bonus loot is read from a separate loot table file (see {@link LootTableLoader}).
+ */
+public final class SkillConfigLoader {
+
+    private SkillConfigLoader() {
+        // Utility class; prevent instantiation
+    }
+
+    // ====== DEFAULTS ======
+    public static final String SKILLS_RESOURCE = "/Server/Skills/Skills.json";
+    public static final String MINING_LOOT_RESOURCE = "/Server/Skills/Loot/Mining.json";
+
+    private static final double DEFAULT_BASE = 100;
+    private static final double DEFAULT_EXPONENT = 1.5;
+
+    private static final Gson GSON = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE)
+            .create();
+
+    /**
+     * Loads the configuration bundled with the plugin.
+     */
+    public static SkillConfig readBundled() {
+        try (Reader skills = openResource(SKILLS_RESOURCE); Reader loot = openResource(MINING_LOOT_RESOURCE)) {
+            return read(skills, loot);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read bundled skill config", e);
+        }
+    }
+
+    /**
+     * Loads the configuration from a directory laid out like the bundled resources
+     * ({@code Skills.json} and {@code Loot/Mining.json}).
+     *
+     * @throws IOException if a file cannot be read
+     * @throws IllegalArgumentException if a file is malformed
+     */
+    public static SkillConfig readDirectory(Path directory) throws IOException {
+        try (Reader skills = Files.newBufferedReader(directory.resolve("Skills.json"), StandardCharsets.UTF_8);
+             Reader loot = Files.newBufferedReader(directory.resolve("Loot").resolve("Mining.json"), StandardCharsets.UTF_8)) {
+            return read(skills, loot);
+        }
+    }
+
+    /**
+     * Copies the bundled defaults into a directory, keeping any file that already exists.
+     */
+    public static void writeDefaults(Path directory) throws IOException {
+        copyIfMissing(SKILLS_RESOURCE, directory.resolve("Skills.json"));
+        copyIfMissing(MINING_LOOT_RESOURCE, directory.resolve("Loot").resolve("Mining.json"));
+    }
+
+    /**
+     * Parses and compiles a configuration.
+     *
+     * @throws IllegalArgumentException if the JSON is malformed or a value is invalid
+     */
+    public static SkillConfig read(Reader skillsJson, Reader miningLootJson) {
+        ConfigFile file;
+        try {
+            file = GSON.fromJson(skillsJson, ConfigFile.class);
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Malformed skill config JSON", e);
+        }
+        if (file == null) file = new ConfigFile();
+
+        String defaultBonusItem = file.bonusDropItem;
+
+        // Ores, tiers follow list order
+        List<OreProfile> ores = new ArrayList<>();
+        Set<String> prefixes = new HashSet<>();
+        if (file.ores != null) {
+            for (OreJson ore : file.ores) {
+                if (ore.prefix == null || ore.prefix.isEmpty()) {
+                    throw new IllegalArgumentException("Ore " + (ores.size() + 1) + " has no Prefix");
+                }
+                if (!prefixes.add(ore.prefix)) {
+                    throw new IllegalArgumentException("Duplicate ore prefix " + ore.prefix);
+                }
+                int xp = ore.xp == null ? 0 : ore.xp;
+                if (xp < 0) throw new IllegalArgumentException("Ore " + ore.prefix + " has negative Xp");
+                String bonusItem = ore.bonusDropItem != null ? ore.bonusDropItem : defaultBonusItem;
+                ores.add(new OreProfile(ore.prefix, xp, ores.size() + 1, bonusItem));
+            }
+        }
+        OreProfile unlisted = new OreProfile(null, 0, 0, defaultBonusItem);
+
+        // Curves, keyed by SkillType name
+        Map<SkillType, LevelCurve> curves = new EnumMap<>(SkillType.class);
+        for (SkillType skill : SkillType.values()) {
+            CurveJson curve = file.curves == null ? null : file.curves.get(skill.name());
+            curves.put(skill, new LevelCurve(
+                    curve == null || curve.base == null ? DEFAULT_BASE : curve.base,
+                    curve == null || curve.exponent == null ? DEFAULT_EXPONENT : curve.exponent,
+                    curve == null || curve.maxLevel == null ? LevelCurve.DEFAULT_MAX_LEVEL : curve.maxLevel
+            ));
+        }
+        if (file.curves != null) {
+            for (String name : file.curves.keySet()) {
+                if (!isSkill(name)) throw new IllegalArgumentException("Unknown skill in Curves: " + name);
+            }
+        }
+
+        SkillLootTables miningLoot = LootTableLoader.read(
+                miningLootJson, ores.size(), curves.get(SkillType.Mining).getMaxLevel());
+
+        return new SkillConfig(ores, unlisted, curves, miningLoot, readSword(file.sword));
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static SwordXpRules readSword(SwordJson sword) {
+        if (sword == null) return SwordXpRules.DEFAULT;
+        SwordXpRules defaults = SwordXpRules.DEFAULT;
+        return new SwordXpRules(
+                sword.weaponPrefixes == null ? defaults.getWeaponPrefixes() : sword.weaponPrefixes,
+                sword.xpBase == null ? defaults.getXpBase() : sword.xpBase,
+                sword.xpExponent == null ? defaults.getXpExponent() : sword.xpExponent,
+                sword.targetFullXpDamage == null ? defaults.getTargetFullXpDamage() : sword.targetFullXpDamage);
+    }
+
+    private static boolean isSkill(String name) {
+        for (SkillType skill : SkillType.values()) {
+            if (skill.name().equals(name)) return true;
+        }
+        return false;
+    }
+
+    private static Reader openResource(String path) {
+        InputStream in = SkillConfigLoader.class.getResourceAsStream(path);
+        if (in == null) throw new IllegalArgumentException("Missing bundled resource: " + path);
+        return new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+
+    private static void copyIfMissing(String resourcePath, Path target) throws IOException {
+        if (Files.exists(target)) return;
+        Files.createDirectories(target.getParent());
+        try (InputStream in = SkillConfigLoader.class.getResourceAsStream(resourcePath)) {
+            if (in == null) throw new IOException("Missing bundled resource: " + resourcePath);
+            Files.copy(in, target);
+        }
+    }
+
+    // ===============================
+    // JSON model
+    // ===============================
+
+    private static final class ConfigFile {
+        String bonusDropItem;
+        List<OreJson> ores;
+        Map<String, CurveJson> curves;
+        SwordJson sword;
+    }
+
+    private static final class OreJson {
+        String prefix;
+        Integer xp;
+        String bonusDropItem;
+    }
+
+    private static final class CurveJson {
+        Double base;
+        Double exponent;
+        Integer maxLevel;
+    }
+
+    private static final class SwordJson {
+        List<String> weaponPrefixes;
+        Double xpBase;
+        Double xpExponent;
+        Double targetFullXpDamage;
+    }
+}
@@ -0,0 +1,105 @@
+package com.venomie.hytaleleveladditions.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Publishes the current {@link SkillConfig}.
+ * <p>
+ * Readers on the break path do a single volatile read and then work on an immutable
+ * snapshot. {@link #reloadAsync()} builds a replacement on a background thread and swaps
+ * it in with one write; a config that fails to load leaves the current one in place.
+ * <p>
+ * Caches derived from the config (e.g., per-BlockType ore lookups) register a listener
+ * that is run after every swap.
+ */
+public final class SkillConfigs {
+
+    private SkillConfigs() {
+        // Utility class; prevent instantiation
+    }
+
+    private static volatile SkillConfig current;
+
+    /** Directory the config is (re)loaded from; null = bundled defaults only */
+    private static volatile Path directory;
+
+    private static final CopyOnWriteArrayList<Runnable> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Registers a callback run after each new config is published. Callbacks run on the
+     * publishing thread, outside any lock held by this class.
+     */
+    public static void addPublishListener(Runnable listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Returns the active configuration, loading the bundled defaults if nothing was loaded yet.
+     */
+    public static SkillConfig current() {
+        SkillConfig config = current;
+        if (config == null) {
+            boolean published = false;
+            synchronized (SkillConfigs.class) {
+                config = current;
+                if (config == null) {
+                    config = SkillConfigLoader.readBundled();
+                    current = config;
+                    published = true;
+                }
+            }
+            // Only the thread that published runs the listeners; racing readers just use the result
+            if (published) notifyListeners();
+        }
+        return config;
+    }
+
+    /**
+     * Writes the default files into {@code configDirectory} if missing and loads from it.
+     * Called once during plugin setup; later reloads read the same directory.
+     *
+     * @throws IOException if the files cannot be written or read
+     * @throws IllegalArgumentException if a file is malformed
+     */
+    public static SkillConfig load(Path configDirectory) throws IOException {
+        SkillConfigLoader.writeDefaults(configDirectory);
+        SkillConfig config = SkillConfigLoader.readDirectory(configDirectory);
+        directory = configDirectory;
+        publish(config);
+        return config;
+    }
+
+    /**
+     * Rebuilds the configuration off-thread and swaps it in when complete.
+     * The future fails (and nothing changes) if the files are missing or invalid.
+     */
+    public static CompletableFuture<SkillConfig> reloadAsync() {
+        Path dir = directory;
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return dir == null ? SkillConfigLoader.readBundled() : SkillConfigLoader.readDirectory(dir);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).thenApply(config -> {
+            publish(config);
+            return config;
+        });
+    }
+
+    private static void publish(SkillConfig config) {
+        current = config;
+        notifyListeners();
+    }
+
+    /** Runs after the swap (and outside our lock), so work racing the swap is invalidated too */
+    private static void notifyListeners() {
+        for (Runnable listener : LISTENERS) {
+            listener.run();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.venomie.hytaleleveladditions.engine;
+
+/**
+ * Port receiving bonus drops to spawn at a block position.
+ */
+@FunctionalInterface
+public interface DropSink {
+
+    void drop(String itemId, int amount, int blockX, int blockY, int blockZ);
+}
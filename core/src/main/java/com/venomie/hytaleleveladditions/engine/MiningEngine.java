@@ -0,0 +1,116 @@
+package com.venomie.hytaleleveladditions.engine;
+
+import com.venomie.hytaleleveladditions.loot.LootEntry;
+import com.venomie.hytaleleveladditions.loot.LootTable;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.perks.MiningPerkTable;
+import com.venomie.hytaleleveladditions.perks.MiningPerks;
+import com.venomie.hytaleleveladditions.skills.LevelChange;
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Mining rules with no server dependency: XP for ores, bonus drop rolls and perk checks.
+ * <p>
+ * Side effects go through ports: a {@link SkillNotifier} for XP changes, a {@link DropSink}
+ * per call for drops and a {@link RandomSource} for rolls. The plugin binds them to
+ * PlayerRef messages and per-world queues; the headless simulator binds them to counters.
+ * <p>
+ * Stateless apart from the ports, so one instance can be shared by every thread.
+ *
+ * @param <P> the caller's player handle
+ */
+public final class MiningEngine<P> {
+
+    private final SkillNotifier<P> notifier;
+    private final RandomSource random;
+
+    public MiningEngine(SkillNotifier<P> notifier, RandomSource random) {
+        this.notifier = notifier;
+        this.random = random;
+    }
+
+    // ===============================
+    // XP
+    // ===============================
+
+    /** XP for breaking {@code blocks} blocks of an ore (0 for unlisted ores) */
+    public static long xpFor(OreProfile ore, int blocks) {
+        if (!ore.isListed() || blocks <= 0) return 0;
+        return (long) ore.getXp() * blocks;
+    }
+
+    /**
+     * Applies Mining XP and reports the change to the notifier.
+     *
+     * @param player handle passed to the notifier; null skips notification
+     */
+    public LevelChange grantXp(P player, SkillSet skills, long xp) {
+        LevelChange change = skills.addXp(SkillType.Mining, xp);
+        if (PluginMetrics.isEnabled()) {
+            PluginMetrics.XP_GRANTED.add(xp);
+            if (change.leveledUp()) PluginMetrics.LEVEL_UPS.increment();
+        }
+        if (player != null) notifier.onXpChanged(player, skills, SkillType.Mining, change);
+        return change;
+    }
+
+    // ===============================
+    // Bonus drops
+    // ===============================
+
+    /**
+     * Rolls the bonus drop for an ore at the given player level.
+     * The break path uses the player's cached {@link MiningPerks} instead.
+     *
+     * @return the rolled entry; {@link LootEntry#isNothing()} if nothing drops
+     */
+    public LootEntry rollBonusDrop(OreProfile ore, int level) {
+        return MiningPerkTable.forLevel(level).rollBonusDrop(ore.getTier(), random.current());
+    }
+
+    /**
+     * Rolls the bonus drop {@code rolls} times (once per block broken) and sends every hit
+     * to the sink at one block position.
+     *
+     * @return number of drops sent
+     */
+    public int dropBonus(SkillSet skills, OreProfile ore, int rolls, int x, int y, int z, DropSink sink) {
+        return dropBonus(skills.getMiningPerks(), ore, rolls, x, y, z, sink);
+    }
+
+    /**
+     * Same as {@link #dropBonus(SkillSet, OreProfile, int, int, int, int, DropSink)} for a
+     * perk snapshot, e.g. level 1 perks for players without skill data yet.
+     */
+    public int dropBonus(MiningPerks perks, OreProfile ore, int rolls, int x, int y, int z, DropSink sink) {
+        LootTable table = perks.getBonusLoot(ore.getTier());
+        RandomGenerator rng = random.current();
+        int dropped = 0;
+        for (int i = 0; i < rolls; i++) {
+            LootEntry drop = table.roll(rng);
+            if (drop.isNothing()) continue;
+
+            String itemId = drop.getItemId() != null ? drop.getItemId() : ore.getBonusDropItemId();
+            sink.drop(itemId, drop.getAmount(), x, y, z);
+            dropped++;
+        }
+        if (dropped > 0 && PluginMetrics.isEnabled()) PluginMetrics.DROPS_QUEUED.add(dropped);
+        return dropped;
+    }
+
+    // ===============================
+    // Perks
+    // ===============================
+
+    /**
+     * Whether breaking this ore should start vein mining.
+     * The unlock level is set through {@link MiningPerkTable#setVeinMineMinLevel(int)}.
+     */
+    public static boolean canVeinMine(SkillSet skills, OreProfile ore) {
+        return skills.getMiningPerks().canVeinMine(ore);
+    }
+}
@@ -0,0 +1,18 @@
+package com.venomie.hytaleleveladditions.engine;
+
+import com.venomie.hytaleleveladditions.loot.LootRandom;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Port supplying the random generator for the calling thread.
+ */
+@FunctionalInterface
+public interface RandomSource {
+
+    /** Thread-local generator (or a seeded one if LootRandom has a fixed seed) */
+    RandomSource DEFAULT = LootRandom::current;
+
+    /** Returns a generator that may only be used by the calling thread */
+    RandomGenerator current();
+}
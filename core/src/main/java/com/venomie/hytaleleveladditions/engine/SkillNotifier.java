@@ -0,0 +1,23 @@
+package com.venomie.hytaleleveladditions.engine;
+
+import com.venomie.hytaleleveladditions.skills.LevelChange;
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+/**
+ * Port told about every XP change, e.g. to update leaderboards and announce level-ups.
+ *
+ * @param <P> the caller's player handle
+ */
+@FunctionalInterface
+public interface SkillNotifier<P> {
+
+    SkillNotifier<Object> NONE = (player, skills, skill, change) -> { };
+
+    void onXpChanged(P player, SkillSet skills, SkillType skill, LevelChange change);
+
+    @SuppressWarnings("unchecked")
+    static <P> SkillNotifier<P> none() {
+        return (SkillNotifier<P>) NONE;
+    }
+}
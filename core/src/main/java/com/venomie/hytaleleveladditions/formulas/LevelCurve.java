@@ -0,0 +1,140 @@
+package com.venomie.hytaleleveladditions.formulas;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed XP curve for a single skill.
+ * <p>
+ * The XP needed to go from (level - 1) → level is {@code round(base * (level - 1)^exponent)}.
+ * Instead of walking that formula level by level, the curve builds a cumulative
+ * {@code long[]} table once and answers XP → level with a binary search.
+ * <p>
+ * All sums are done in long math and saturate instead of wrapping. If the table would
+ * overflow before the configured cap is reached, the cap is lowered to the last level
+ * that still fits.
+ */
+public final class LevelCurve {
+
+    /** Default level cap used by the built-in skill curves */
+    public static final int DEFAULT_MAX_LEVEL = 1000;
+
+    private final double base;
+    private final double exponent;
+    private final int maxLevel;
+
+    /** cumulativeXp[level] = total XP needed to reach level; index 0 is unused (mirrors level 1) */
+    private final long[] cumulativeXp;
+
+    /**
+     * @param base     XP multiplier (e.g., 100)
+     * @param exponent growth exponent (e.g., 1.5)
+     * @param maxLevel highest reachable level (>= 1)
+     */
+    public LevelCurve(double base, double exponent, int maxLevel) {
+        if (maxLevel < 1) throw new IllegalArgumentException("maxLevel must be >= 1, got " + maxLevel);
+        if (base < 0 || exponent < 0) throw new IllegalArgumentException("base and exponent must be >= 0");
+
+        this.base = base;
+        this.exponent = exponent;
+
+        long[] table = new long[maxLevel + 1];
+        int cap = maxLevel;
+        for (int level = 2; level <= maxLevel; level++) {
+            long step = computeXpForLevel(level);
+            long total = table[level - 1] + step;
+            if (step == Long.MAX_VALUE || total < 0) {
+                // Next level would overflow; stop the table here
+                cap = level - 1;
+                break;
+            }
+            table[level] = total;
+        }
+
+        this.maxLevel = cap;
+        this.cumulativeXp = cap == maxLevel ? table : Arrays.copyOf(table, cap + 1);
+    }
+
+    // ===============================
+    // Accessors
+    // ===============================
+
+    public double getBase() {
+        return base;
+    }
+
+    public double getExponent() {
+        return exponent;
+    }
+
+    /** Returns the highest level this curve can report */
+    public int getMaxLevel() {
+        return maxLevel;
+    }
+
+    // ===============================
+    // LEVEL CALCULATIONS
+    // ===============================
+
+    /**
+     * Returns the level for a given total XP, clamped to [1, maxLevel].
+     *
+     * @param xp total XP
+     * @return level >= 1
+     */
+    public int getLevelForXp(long xp) {
+        if (xp <= 0) return 1;
+        if (xp >= cumulativeXp[maxLevel]) return maxLevel;
+
+        // Search levels 1..maxLevel; table[1] == 0 so xp > 0 always lands at >= 1
+        int idx = Arrays.binarySearch(cumulativeXp, 1, maxLevel + 1, xp);
+        if (idx >= 0) {
+            // Exact hit; equal entries can only occur for a zero-step curve, take the highest
+            while (idx < maxLevel && cumulativeXp[idx + 1] == xp) idx++;
+            return idx;
+        }
+        // Insertion point is the first level whose threshold is above xp
+        return -idx - 2;
+    }
+
+    /**
+     * Returns the XP required to go from (level - 1) → level.
+     * Level 1 (and anything above the cap) requires 0 XP.
+     */
+    public long xpForLevel(int level) {
+        if (level <= 1 || level > maxLevel) return 0;
+        return cumulativeXp[level] - cumulativeXp[level - 1];
+    }
+
+    /**
+     * Returns the cumulative XP required to reach a given level from level 1.
+     * Levels above the cap return the XP required for the cap.
+     */
+    public long totalXpForLevel(int level) {
+        if (level <= 1) return 0;
+        return cumulativeXp[Math.min(level, maxLevel)];
+    }
+
+    /** Returns the XP accumulated within the current level */
+    public long xpIntoLevel(long totalXp) {
+        if (totalXp <= 0) return 0;
+        return totalXp - cumulativeXp[getLevelForXp(totalXp)];
+    }
+
+    /** Returns the XP still needed to reach the next level (0 at the cap) */
+    public long getXpToNextLevel(long totalXp) {
+        int level = getLevelForXp(totalXp);
+        if (level >= maxLevel) return 0;
+        return cumulativeXp[level + 1] - Math.max(0, totalXp);
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    /** Raw formula, saturating at Long.MAX_VALUE */
+    private long computeXpForLevel(int level) {
+        double raw = base * Math.pow(level - 1, exponent);
+        if (raw >= Long.MAX_VALUE) return Long.MAX_VALUE;
+        return Math.round(raw);
+    }
+}
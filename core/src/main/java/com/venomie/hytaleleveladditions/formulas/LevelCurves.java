@@ -0,0 +1,25 @@
+package com.venomie.hytaleleveladditions.formulas;
+
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+/**
+ * Static access to the LevelCurve of each SkillType.
+ * Curves are part of the active SkillConfig and are replaced when it is reloaded.
+ */
+public final class LevelCurves {
+
+    private LevelCurves() {
+        // Utility class; prevent instantiation
+    }
+
+    /** Returns the curve used by the given skill */
+    public static LevelCurve forSkill(SkillType skill) {
+        return SkillConfigs.current().getCurve(skill);
+    }
+
+    /** Shortcut for the Mining curve */
+    public static LevelCurve mining() {
+        return SkillConfigs.current().getCurve(SkillType.Mining);
+    }
+}
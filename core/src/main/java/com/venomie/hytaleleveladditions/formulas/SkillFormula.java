@@ -4,9 +4,9 @@ package com.venomie.hytaleleveladditions.formulas;
  * SkillFormula provides utility methods for converting between XP and Levels
  * for various skills (e.g., Mining, Sword, Magic).
  *
- * Levels are computed incrementally based on total XP. XP is integer-based,
- * and formulas allow adjustment per skill type. Level calculations start at 1.
- * Max level is not enforced by this class (but you may implement a cap elsewhere, e.g., 100).
+ * This is a thin static facade over the Mining {@link LevelCurve}; see
+ * {@link LevelCurves} for per-skill curves. Level calculations start at 1 and
+ * are capped at the curve's max level.
  */
 public final class SkillFormula {
 
@@ -14,32 +14,22 @@ public final class SkillFormula {
         // Utility class; prevent instantiation
     }
 
+    private static LevelCurve curve() {
+        return LevelCurves.mining();
+    }
+
     // ===============================
     // LEVEL CALCULATIONS
     // ===============================
 
     /**
      * Calculates the level corresponding to a given total XP.
-     * Level starts at 1 and increments until the XP required for the next level
-     * exceeds the given total XP.
      *
      * @param xp total XP (integer)
      * @return level >= 1
      */
     public static int getLevelForXp(long xp) {
-        if (xp <= 0) return 1;
-
-        int level = 1;
-        long accumulatedXp = 0;
-
-        while (true) {
-            long xpNeeded = xpForLevel(level + 1);
-            if (accumulatedXp + xpNeeded > xp) break;
-            accumulatedXp += xpNeeded;
-            level++;
-        }
-
-        return level;
+        return curve().getLevelForXp(xp);
     }
 
     /**
@@ -50,9 +40,7 @@ public final class SkillFormula {
      * @return XP required to reach this level
      */
     public static int xpForLevel(int level) {
-        if (level <= 1) return 0;
-        // Exponential growth formula: rounded for integer XP
-        return (int) Math.round(100 * Math.pow(level - 1, 1.5));
+        return saturate(curve().xpForLevel(level));
     }
 
     /**
@@ -62,11 +50,7 @@ public final class SkillFormula {
      * @return total XP needed to reach this level
      */
     public static int totalXpForLevel(int level) {
-        int total = 0;
-        for (int lvl = 2; lvl <= level; lvl++) {
-            total += xpForLevel(lvl);
-        }
-        return total;
+        return saturate(curve().totalXpForLevel(level));
     }
 
     /**
@@ -76,8 +60,7 @@ public final class SkillFormula {
      * @return XP progress into the current level
      */
     public static int xpIntoLevel(int totalXp) {
-        int level = getLevelForXp(totalXp);
-        return totalXp - totalXpForLevel(level - 1);
+        return saturate(curve().xpIntoLevel(totalXp));
     }
 
     /**
@@ -87,8 +70,11 @@ public final class SkillFormula {
      * @return XP needed to reach next level
      */
     public static int getXpToNextLevel(int totalXp) {
-        int level = getLevelForXp(totalXp);
-        int xpIntoLevel = xpIntoLevel(totalXp);
-        return xpForLevel(level + 1) - xpIntoLevel;
+        return saturate(curve().getXpToNextLevel(totalXp));
+    }
+
+    /** Clamps long XP values into the int range used by this API */
+    private static int saturate(long value) {
+        return (int) Math.min(Integer.MAX_VALUE, value);
     }
 }
@@ -0,0 +1,11 @@
+package com.venomie.hytaleleveladditions.journal;
+
+/**
+ * What a world thread does when the XP log's ring buffer is full.
+ */
+public enum OverflowPolicy {
+    /** Drop the event right away and count it; world threads never wait */
+    Drop,
+    /** Wake the drainer and spin briefly for a free slot, then drop the event if there still is none */
+    Wait
+}
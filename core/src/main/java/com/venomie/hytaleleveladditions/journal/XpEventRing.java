@@ -0,0 +1,189 @@
+package com.venomie.hytaleleveladditions.journal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free ring of XP events: many producers (world threads), one consumer
+ * (the journal's drainer).
+ * <p>
+ * Records are stored in place in a preallocated {@code long[]}, {@link #SLOT_LONGS} longs
+ * per slot, so offering an event allocates nothing. Each slot carries a sequence number
+ * (Vyukov's bounded queue): a producer claims a slot by advancing the tail with a CAS,
+ * fills it, then publishes it by bumping the slot's sequence; the consumer only reads
+ * slots whose sequence says they are published. A full ring rejects the offer instead
+ * of blocking; what happens next is the caller's {@link OverflowPolicy}.
+ */
+public final class XpEventRing {
+
+    /** Longs per slot; see {@link #offer} for the packing */
+    public static final int SLOT_LONGS = 8;
+
+    private final int mask;
+    private final long[] data;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    /** Next slot to consume; only touched by the consumer */
+    private long head;
+
+    /**
+     * @param capacity number of records; rounded up to a power of two
+     */
+    public XpEventRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.data = new long[size * SLOT_LONGS];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    // ===============================
+    // Producers (any thread)
+    // ===============================
+
+    /**
+     * Adds one event.
+     *
+     * @return false if the ring is full; nothing was written
+     */
+    public boolean offer(long timeMillis, long playerMost, long playerLeast, long xp, float multiplier,
+                         int skillId, int flags, int count,
+                         int worldId, int sourceId, int x, int y, int z) {
+        long position = tail.get();
+        int slot;
+        while (true) {
+            slot = (int) (position & mask);
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) break;
+                position = tail.get();
+            } else if (difference < 0) {
+                // The consumer hasn't freed this slot since the last lap
+                return false;
+            } else {
+                // Another producer claimed it first
+                position = tail.get();
+            }
+        }
+
+        int base = slot * SLOT_LONGS;
+        data[base] = timeMillis;
+        data[base + 1] = playerMost;
+        data[base + 2] = playerLeast;
+        data[base + 3] = xp;
+        data[base + 4] = pack(worldId, sourceId);
+        data[base + 5] = pack(x, y);
+        data[base + 6] = pack(z, count);
+        // Skill and flags are bytes on disk; sharing a long keeps a slot to one cache line
+        data[base + 7] = pack(skillId << 16 | flags & 0xFFFF, Float.floatToRawIntBits(multiplier));
+
+        // Publishes the slot; orders the plain writes above before the consumer's read
+        sequences.set(slot, position + 1);
+        return true;
+    }
+
+    // ===============================
+    // Consumer (single thread)
+    // ===============================
+
+    /**
+     * Moves the oldest published event into {@code into} ({@link #SLOT_LONGS} longs, packed
+     * as in {@link #offer}); unpack it with the static accessors.
+     *
+     * @return false if no published event is waiting
+     */
+    public boolean poll(long[] into) {
+        int slot = (int) (head & mask);
+        if (sequences.get(slot) != head + 1) return false;
+
+        System.arraycopy(data, slot * SLOT_LONGS, into, 0, SLOT_LONGS);
+        // Hands the slot back to producers for the next lap
+        sequences.set(slot, head + mask + 1);
+        head++;
+        return true;
+    }
+
+    /** Events offered but not yet polled; approximate while producers are active */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    // ===============================
+    // Unpacking polled events
+    // ===============================
+
+    public static long timeMillis(long[] event) {
+        return event[0];
+    }
+
+    public static long playerMost(long[] event) {
+        return event[1];
+    }
+
+    public static long playerLeast(long[] event) {
+        return event[2];
+    }
+
+    public static long xp(long[] event) {
+        return event[3];
+    }
+
+    public static int worldId(long[] event) {
+        return high(event[4]);
+    }
+
+    public static int sourceId(long[] event) {
+        return low(event[4]);
+    }
+
+    public static int x(long[] event) {
+        return high(event[5]);
+    }
+
+    public static int y(long[] event) {
+        return low(event[5]);
+    }
+
+    public static int z(long[] event) {
+        return high(event[6]);
+    }
+
+    public static int count(long[] event) {
+        return low(event[6]);
+    }
+
+    public static int skillId(long[] event) {
+        return high(event[7]) >>> 16;
+    }
+
+    public static int flags(long[] event) {
+        return high(event[7]) & 0xFFFF;
+    }
+
+    public static float multiplier(long[] event) {
+        return Float.intBitsToFloat(low(event[7]));
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static long pack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    private static int high(long packed) {
+        return (int) (packed >>> 32);
+    }
+
+    private static int low(long packed) {
+        return (int) packed;
+    }
+}
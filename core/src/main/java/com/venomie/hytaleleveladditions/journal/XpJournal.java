@@ -0,0 +1,394 @@
+package com.venomie.hytaleleveladditions.journal;
+
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only binary journal of XP events, for balancing analytics and cheat investigations.
+ * <p>
+ * World threads call {@link #record}: the event is copied into a preallocated
+ * {@link XpEventRing} and nothing else happens on the caller's thread (no I/O, no locks,
+ * no allocation). A single virtual thread drains the ring in batches of up to
+ * {@value #BATCH_RECORDS} records into size-rotated segment files written through a
+ * {@link FileChannel}; the oldest segments are deleted beyond the configured count.
+ * The format is described in {@link XpLogFormat}; {@link XpLogReader} reads it back.
+ * <p>
+ * If the drainer falls behind and the ring fills up, events are handled by the
+ * {@link OverflowPolicy} and counted, never queued without bound.
+ */
+public final class XpJournal implements Closeable {
+
+    /** Journal limits; read from the plugin config */
+    public record Settings(int bufferRecords, long maxSegmentBytes, int maxSegments, OverflowPolicy overflow) {
+    }
+
+    private static final int BATCH_RECORDS = 1024;
+
+    /** Drainer sleep when the ring is empty; bounds how stale the files get */
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    /** Drainer pause after a failed write, so a full disk doesn't turn into a busy loop */
+    private static final long ERROR_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** Longest a world thread spins for a free slot under {@link OverflowPolicy#Wait} */
+    private static final long WAIT_SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final Path directory;
+    private final Settings settings;
+    private final XpEventRing ring;
+    private final Thread drainer;
+    private volatile boolean running = true;
+
+    // ====== NAMES (any thread) ======
+    private final ConcurrentHashMap<String, Integer> nameIds = new ConcurrentHashMap<>();
+    private final Object namesLock = new Object();
+    /** Names by ID; replaced (never mutated in place) when it grows */
+    private volatile String[] names = new String[64];
+    private int nameCount;
+
+    // ====== COUNTERS ======
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    // Written by the drainer only
+    private volatile long written;
+    private volatile long lost;
+    private volatile long bytesWritten;
+    private volatile long segmentsOpened;
+    private volatile long writeErrors;
+    private volatile String lastError;
+
+    // ====== DRAINER STATE ======
+    private final ByteBuffer batch = ByteBuffer.allocateDirect(BATCH_RECORDS * 3 * XpLogFormat.RECORD_SIZE);
+    private final long[] event = new long[XpEventRing.SLOT_LONGS];
+    private final BitSet namesInSegment = new BitSet();
+    private FileChannel segment;
+    private long segmentBytes;
+    private int sequence;
+
+    private XpJournal(Path directory, Settings settings) {
+        this.directory = directory;
+        this.settings = settings;
+        this.ring = new XpEventRing(settings.bufferRecords());
+        this.drainer = Thread.ofVirtual().name("LevelAdditions-XpLog").unstarted(this::drainLoop);
+    }
+
+    /**
+     * Creates the directory if needed and starts the drainer. Segments are only created
+     * once the first event arrives.
+     */
+    public static XpJournal open(Path directory, Settings settings) throws IOException {
+        Files.createDirectories(directory);
+        XpJournal journal = new XpJournal(directory, settings);
+        journal.drainer.start();
+        return journal;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // ===============================
+    // World-thread API
+    // ===============================
+
+    /**
+     * ID of a world or source name (e.g., an ore), stable for the lifetime of this journal.
+     * Lock-free once the name has been seen.
+     */
+    public int nameId(String name) {
+        Integer id = nameIds.get(name);
+        if (id != null) return id;
+
+        synchronized (namesLock) {
+            id = nameIds.get(name);
+            if (id != null) return id;
+
+            String[] current = names;
+            if (nameCount == current.length) current = Arrays.copyOf(current, nameCount * 2);
+            current[nameCount] = name;
+            names = current;
+            nameIds.put(name, nameCount);
+            return nameCount++;
+        }
+    }
+
+    /**
+     * Records XP granted for work at a block position.
+     *
+     * @param xp XP granted to the player, after boosts and sharing
+     * @param multiplier boost multiplier the XP was scaled by
+     * @param count blocks or hits the XP was earned for
+     * @param sourceId {@link #nameId} of the source, or {@link XpLogFormat#NO_NAME}
+     */
+    public void record(long timeMillis, UUID player, SkillType skill, long xp, float multiplier, int count,
+                       int worldId, int sourceId, int x, int y, int z) {
+        offer(timeMillis, player, skill, xp, multiplier, count, worldId, sourceId, XpLogFormat.FLAG_POSITION, x, y, z);
+    }
+
+    /**
+     * Records XP that has no meaningful position (e.g., combat XP summed over a tick).
+     */
+    public void record(long timeMillis, UUID player, SkillType skill, long xp, float multiplier, int count,
+                       int worldId, int sourceId) {
+        offer(timeMillis, player, skill, xp, multiplier, count, worldId, sourceId, 0, 0, 0, 0);
+    }
+
+    // ===============================
+    // Stats
+    // ===============================
+
+    /** Returns a human-readable report, one line per entry */
+    public List<String> report() {
+        List<String> lines = new ArrayList<>();
+        lines.add("XP log: recorded " + recorded.sum() + ", dropped " + dropped.sum()
+                + " (policy " + settings.overflow() + ", waited " + waited.sum() + ")"
+                + ", buffered " + ring.size() + "/" + ring.capacity());
+        lines.add("XP log files: written " + written + " events, " + (bytesWritten / 1024) + " KiB in "
+                + segmentsOpened + " segments, lost to write errors " + lost + " (" + writeErrors + " errors)");
+        String error = lastError;
+        if (error != null) lines.add("XP log last error: " + error);
+        return lines;
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getWritten() {
+        return written;
+    }
+
+    // ===============================
+    // Lifecycle
+    // ===============================
+
+    /**
+     * Stops accepting events, writes everything still buffered and closes the current segment.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ===============================
+    // Internal utility (world threads)
+    // ===============================
+
+    private void offer(long timeMillis, UUID player, SkillType skill, long xp, float multiplier, int count,
+                       int worldId, int sourceId, int flags, int x, int y, int z) {
+        if (!running) {
+            dropped.increment();
+            return;
+        }
+        long most = player.getMostSignificantBits();
+        long least = player.getLeastSignificantBits();
+        if (ring.offer(timeMillis, most, least, xp, multiplier, skill.getId(), flags, count,
+                worldId, sourceId, x, y, z)) {
+            recorded.increment();
+            return;
+        }
+
+        if (settings.overflow() == OverflowPolicy.Wait) {
+            LockSupport.unpark(drainer);
+            long deadline = System.nanoTime() + WAIT_SPIN_NANOS;
+            do {
+                Thread.onSpinWait();
+                if (ring.offer(timeMillis, most, least, xp, multiplier, skill.getId(), flags, count,
+                        worldId, sourceId, x, y, z)) {
+                    recorded.increment();
+                    waited.increment();
+                    return;
+                }
+            } while (System.nanoTime() < deadline);
+        }
+        dropped.increment();
+    }
+
+    // ===============================
+    // Internal utility (drainer)
+    // ===============================
+
+    private void drainLoop() {
+        while (true) {
+            // Read before draining, so events offered before close() are still written
+            boolean stopping = !running;
+            int drained = drainBatch();
+            if (drained > 0) continue;
+            if (stopping) break;
+            LockSupport.parkNanos(drained < 0 ? ERROR_PARK_NANOS : IDLE_PARK_NANOS);
+        }
+        closeSegment();
+    }
+
+    /**
+     * Moves up to one batch from the ring into the current segment.
+     *
+     * @return events written, or -1 if the batch was lost to an I/O error
+     */
+    private int drainBatch() {
+        batch.clear();
+        int events = 0;
+        try {
+            while (events < BATCH_RECORDS && ring.poll(event)) {
+                events++;
+                if (segment == null) openSegment();
+                appendName(XpEventRing.worldId(event));
+                appendName(XpEventRing.sourceId(event));
+                appendEvent();
+            }
+            if (batch.position() == 0) return 0;
+
+            batch.flip();
+            while (batch.hasRemaining()) {
+                segmentBytes += segment.write(batch);
+            }
+            bytesWritten += batch.limit();
+            written += events;
+
+            if (segmentBytes >= settings.maxSegmentBytes()) {
+                closeSegment();
+            }
+            return events;
+        } catch (IOException | RuntimeException e) {
+            writeErrors++;
+            lost += events;
+            lastError = e.toString();
+            // Start over in a fresh segment; the failed one may end in a partial record
+            closeSegment();
+            return -1;
+        }
+    }
+
+    private void appendEvent() {
+        batch.put(XpLogFormat.KIND_XP);
+        batch.put((byte) XpEventRing.skillId(event));
+        batch.put((byte) XpEventRing.flags(event));
+        batch.put((byte) 0);
+        batch.putInt(XpEventRing.count(event));
+        batch.putLong(XpEventRing.timeMillis(event));
+        batch.putLong(XpEventRing.playerMost(event));
+        batch.putLong(XpEventRing.playerLeast(event));
+        batch.putLong(XpEventRing.xp(event));
+        batch.putInt(XpEventRing.worldId(event));
+        batch.putInt(XpEventRing.sourceId(event));
+        batch.putInt(XpEventRing.x(event));
+        batch.putInt(XpEventRing.y(event));
+        batch.putInt(XpEventRing.z(event));
+        batch.putFloat(XpEventRing.multiplier(event));
+    }
+
+    /** Writes a NAME record the first time a name is used in the current segment */
+    private void appendName(int id) {
+        if (id < 0 || namesInSegment.get(id)) return;
+        namesInSegment.set(id);
+
+        byte[] bytes = truncate(names[id]);
+        int start = batch.position();
+        batch.put(XpLogFormat.KIND_NAME);
+        batch.put((byte) bytes.length);
+        batch.putShort((short) 0);
+        batch.putInt(id);
+        batch.put(bytes);
+        batch.position(start + XpLogFormat.RECORD_SIZE);
+    }
+
+    private void openSegment() throws IOException {
+        long now = System.currentTimeMillis();
+        FileChannel channel;
+        while (true) {
+            Path file = directory.resolve(XpLogFormat.segmentName(now, sequence++));
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // Left by an earlier run started in the same second
+            }
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(XpLogFormat.HEADER_SIZE);
+        header.putInt(XpLogFormat.MAGIC);
+        header.putShort(XpLogFormat.VERSION);
+        header.putShort((short) XpLogFormat.RECORD_SIZE);
+        header.putLong(now);
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+
+        segment = channel;
+        segmentBytes = XpLogFormat.HEADER_SIZE;
+        namesInSegment.clear();
+        segmentsOpened++;
+        deleteOldSegments();
+    }
+
+    private void closeSegment() {
+        FileChannel channel = segment;
+        segment = null;
+        if (channel == null) return;
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            writeErrors++;
+            lastError = e.toString();
+        }
+    }
+
+    /** Keeps the newest {@code maxSegments} segments, including the one just opened */
+    private void deleteOldSegments() throws IOException {
+        if (settings.maxSegments() <= 0) return;
+
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (XpLogFormat.isSegmentName(file.getFileName().toString())) segments.add(file);
+            }
+        }
+        if (segments.size() <= settings.maxSegments()) return;
+
+        // Names sort by creation time
+        Collections.sort(segments);
+        for (int i = 0; i < segments.size() - settings.maxSegments(); i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    /** UTF-8 bytes of a name, cut at a character boundary to fit a NAME record */
+    private static byte[] truncate(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = name.length();
+        while (bytes.length > XpLogFormat.MAX_NAME_BYTES) {
+            length--;
+            bytes = name.substring(0, length).getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,86 @@
+package com.venomie.hytaleleveladditions.journal;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * On-disk layout of XP log segments, shared by {@link XpJournal} and {@link XpLogReader}.
+ * <p>
+ * A segment is a 16-byte header followed by fixed-size 64-byte records, big-endian.
+ * World and source names are written once per segment as NAME records, before the first
+ * XP record that uses them, so every segment can be read on its own.
+ *
+ * <pre>
+ * Header (16 bytes): magic, version (short), recordSize (short), segment start (epoch millis)
+ *
+ * XP record (64 bytes):
+ *   [0]       kind = 1
+ *   [1]       skill ID
+ *   [2]       flags (bit 0: position is set)
+ *   [3]       reserved
+ *   [4..8)    count (blocks broken, hits landed)
+ *   [8..16)   time, epoch millis
+ *   [16..32)  player UUID (most, least significant bits)
+ *   [32..40)  XP granted to the player, after boosts and the party split
+ *   [40..44)  world name ID
+ *   [44..48)  source name ID (e.g., ore), -1 if none
+ *   [48..60)  x, y, z
+ *   [60..64)  boost multiplier (float)
+ *
+ * NAME record (64 bytes):
+ *   [0]       kind = 2
+ *   [1]       name length in bytes
+ *   [4..8)    name ID
+ *   [8..64)   name, UTF-8, truncated to 56 bytes
+ * </pre>
+ * Version 1 stored the XP earned before boosts, under the breaker only, and no multiplier
+ * ([60..64) was zero); {@link XpLogReader} still reads it.
+ */
+public final class XpLogFormat {
+
+    public static final int MAGIC = 0x4C41584C; // "LAXL"
+    public static final short VERSION = 2;
+
+    /** Oldest version {@link XpLogReader} accepts */
+    public static final short MIN_VERSION = 1;
+
+    public static final int HEADER_SIZE = 16;
+    public static final int RECORD_SIZE = 64;
+
+    public static final byte KIND_XP = 1;
+    public static final byte KIND_NAME = 2;
+
+    public static final int FLAG_POSITION = 1;
+
+    /** Name ID stored when a record has no source */
+    public static final int NO_NAME = -1;
+
+    public static final int OFF_NAME = 8;
+    public static final int MAX_NAME_BYTES = RECORD_SIZE - OFF_NAME;
+
+    public static final String FILE_PREFIX = "xp-";
+    public static final String FILE_SUFFIX = ".xpl";
+
+    private static final DateTimeFormatter FILE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private XpLogFormat() {
+        // Utility class; prevent instantiation
+    }
+
+    /**
+     * File name of a segment; names sort in creation order.
+     *
+     * @param startMillis time the segment was opened
+     * @param sequence segment number within this server run
+     */
+    public static String segmentName(long startMillis, int sequence) {
+        return FILE_PREFIX + FILE_TIME.format(Instant.ofEpochMilli(startMillis))
+                + "-" + String.format("%05d", sequence) + FILE_SUFFIX;
+    }
+
+    public static boolean isSegmentName(String fileName) {
+        return fileName.startsWith(FILE_PREFIX) && fileName.endsWith(FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,213 @@
+package com.venomie.hytaleleveladditions.journal;
+
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Offline reader for XP log segments written by {@link XpJournal}.
+ * <p>
+ * Segments are self-contained (names are repeated in each one), so any subset can be read.
+ * A record cut short by a crash at the end of a segment is ignored.
+ */
+public final class XpLogReader {
+
+    public static final String CSV_HEADER = "time,time_millis,player,skill,world,source,x,y,z,xp,multiplier,count";
+
+    private static final int READ_BUFFER_RECORDS = 4096;
+
+    /**
+     * One decoded XP event; {@code skill} is null for IDs unknown to this version.
+     * Version 1 events carry the XP before boosts and a NaN multiplier.
+     */
+    public record Event(long timeMillis, UUID player, int skillId, SkillType skill, long xp, float multiplier,
+                        int count, String world, String source, boolean hasPosition, int x, int y, int z) {
+    }
+
+    private XpLogReader() {
+        // Utility class; prevent instantiation
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /**
+     * Segment files to read: the file itself, or every segment in a directory, oldest first.
+     */
+    public static List<Path> segments(Path fileOrDirectory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(fileOrDirectory)) {
+            segments.add(fileOrDirectory);
+            return segments;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(fileOrDirectory)) {
+            for (Path file : files) {
+                if (XpLogFormat.isSegmentName(file.getFileName().toString())) segments.add(file);
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * Visits every XP event of a segment in write order.
+     *
+     * @return number of events read
+     * @throws IOException if the file can't be read or is not an XP log segment
+     */
+    public static long read(Path segment, Consumer<Event> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(XpLogFormat.HEADER_SIZE);
+            readFully(channel, header);
+            if (header.remaining() < XpLogFormat.HEADER_SIZE || header.getInt() != XpLogFormat.MAGIC) {
+                throw new IOException("Not an XP log segment: " + segment);
+            }
+            short version = header.getShort();
+            short recordSize = header.getShort();
+            if (version < XpLogFormat.MIN_VERSION || version > XpLogFormat.VERSION
+                    || recordSize != XpLogFormat.RECORD_SIZE) {
+                throw new IOException("Unsupported XP log version " + version + " in " + segment);
+            }
+
+            Map<Integer, String> names = new HashMap<>();
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_RECORDS * XpLogFormat.RECORD_SIZE);
+            long events = 0;
+            while (true) {
+                buffer.clear();
+                readFully(channel, buffer);
+                if (buffer.remaining() < XpLogFormat.RECORD_SIZE) break;
+
+                while (buffer.remaining() >= XpLogFormat.RECORD_SIZE) {
+                    int start = buffer.position();
+                    byte kind = buffer.get(start);
+                    if (kind == XpLogFormat.KIND_NAME) {
+                        readName(buffer, start, names);
+                    } else if (kind == XpLogFormat.KIND_XP) {
+                        consumer.accept(readEvent(buffer, start, version, names));
+                        events++;
+                    }
+                    // Unknown kinds (from a newer writer) are skipped
+                    buffer.position(start + XpLogFormat.RECORD_SIZE);
+                }
+                if (buffer.hasRemaining()) break; // partial trailing record
+            }
+            return events;
+        }
+    }
+
+    /**
+     * Converts segments to CSV, header included.
+     *
+     * @return number of events written
+     */
+    public static long toCsv(List<Path> segments, Writer out) throws IOException {
+        out.write(CSV_HEADER);
+        out.write('\n');
+
+        long[] total = new long[1];
+        StringBuilder line = new StringBuilder(160);
+        IOException[] failure = new IOException[1];
+        for (Path segment : segments) {
+            read(segment, event -> {
+                if (failure[0] != null) return;
+                line.setLength(0);
+                appendCsv(line, event);
+                try {
+                    out.append(line);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+                total[0]++;
+            });
+            if (failure[0] != null) throw failure[0];
+        }
+        return total[0];
+    }
+
+    /** Appends one CSV line (with its newline) for an event */
+    public static void appendCsv(StringBuilder line, Event event) {
+        line.append(Instant.ofEpochMilli(event.timeMillis())).append(',')
+                .append(event.timeMillis()).append(',')
+                .append(event.player()).append(',')
+                .append(event.skill() != null ? event.skill().name() : String.valueOf(event.skillId())).append(',');
+        appendField(line, event.world());
+        line.append(',');
+        appendField(line, event.source());
+        line.append(',');
+        if (event.hasPosition()) {
+            line.append(event.x()).append(',').append(event.y()).append(',').append(event.z());
+        } else {
+            line.append(",,");
+        }
+        line.append(',').append(event.xp()).append(',');
+        if (!Float.isNaN(event.multiplier())) line.append(event.multiplier());
+        line.append(',').append(event.count())
+                .append('\n');
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) break;
+        }
+        buffer.flip();
+    }
+
+    private static void readName(ByteBuffer buffer, int start, Map<Integer, String> names) {
+        int length = Math.min(buffer.get(start + 1) & 0xFF, XpLogFormat.MAX_NAME_BYTES);
+        int id = buffer.getInt(start + 4);
+        byte[] bytes = new byte[length];
+        buffer.get(start + XpLogFormat.OFF_NAME, bytes);
+        names.put(id, new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    private static Event readEvent(ByteBuffer buffer, int start, short version, Map<Integer, String> names) {
+        int skillId = buffer.get(start + 1) & 0xFF;
+        int flags = buffer.get(start + 2) & 0xFF;
+        int sourceId = buffer.getInt(start + 44);
+        return new Event(
+                buffer.getLong(start + 8),
+                new UUID(buffer.getLong(start + 16), buffer.getLong(start + 24)),
+                skillId,
+                SkillType.byId(skillId),
+                buffer.getLong(start + 32),
+                version >= 2 ? buffer.getFloat(start + 60) : Float.NaN,
+                buffer.getInt(start + 4),
+                names.get(buffer.getInt(start + 40)),
+                sourceId == XpLogFormat.NO_NAME ? null : names.get(sourceId),
+                (flags & XpLogFormat.FLAG_POSITION) != 0,
+                buffer.getInt(start + 48),
+                buffer.getInt(start + 52),
+                buffer.getInt(start + 56));
+    }
+
+    /** Writes a CSV field, quoted if needed; null is written as an empty field */
+    private static void appendField(StringBuilder line, String value) {
+        if (value == null) return;
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,79 @@
+package com.venomie.hytaleleveladditions.loot;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Walker/Vose alias table: samples an index from a fixed weighted distribution in O(1)
+ * using a single random double.
+ */
+public final class AliasSampler {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * @param weights non-negative weights, at least one of them positive
+     */
+    public AliasSampler(double[] weights) {
+        int n = weights.length;
+        if (n == 0) throw new IllegalArgumentException("At least one weight is required");
+
+        double sum = 0;
+        for (double w : weights) {
+            if (w < 0 || Double.isNaN(w)) throw new IllegalArgumentException("Weights must be >= 0");
+            sum += w;
+        }
+        if (sum <= 0) throw new IllegalArgumentException("At least one weight must be positive");
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // Scale so the average bucket holds exactly 1.0
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / sum;
+            if (scaled[i] < 1.0) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+
+        // Leftovers are 1.0 up to rounding error
+        while (largeCount > 0) {
+            int i = large[--largeCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+        while (smallCount > 0) {
+            int i = small[--smallCount];
+            probability[i] = 1.0;
+            alias[i] = i;
+        }
+    }
+
+    /** Number of outcomes */
+    public int size() {
+        return probability.length;
+    }
+
+    /** Returns an index in [0, size) distributed according to the weights */
+    public int sample(RandomGenerator random) {
+        double u = random.nextDouble() * probability.length;
+        int column = (int) u;
+        return (u - column) < probability[column] ? column : alias[column];
+    }
+}
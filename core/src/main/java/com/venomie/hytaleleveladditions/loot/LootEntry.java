@@ -0,0 +1,43 @@
+package com.venomie.hytaleleveladditions.loot;
+
+/**
+ * One weighted outcome of a loot table.
+ * An entry with a null item ID and amount 0 represents "no drop".
+ */
+public final class LootEntry {
+
+    /** Shared "nothing drops" outcome */
+    public static final LootEntry NOTHING = new LootEntry(null, 0, 1);
+
+    private final String itemId;
+    private final int amount;
+    private final double weight;
+
+    public LootEntry(String itemId, int amount, double weight) {
+        this.itemId = itemId;
+        this.amount = amount;
+        this.weight = weight;
+    }
+
+    /** Item to drop, or null to use the ore's default bonus drop item */
+    public String getItemId() {
+        return itemId;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public boolean isNothing() {
+        return amount <= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "LootEntry{item=" + itemId + ", amount=" + amount + ", weight=" + weight + "}";
+    }
+}
@@ -0,0 +1,50 @@
+package com.venomie.hytaleleveladditions.loot;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Per-thread random source for loot rolls.
+ * <p>
+ * By default this is ThreadLocalRandom, so world threads never contend on a shared RNG.
+ * When a fixed seed is set (via {@link #useFixedSeed(long)} or the
+ * {@code leveladditions.loot.seed} system property), each thread gets its own
+ * SplittableRandom split from a seeded root, which makes single-threaded runs reproducible.
+ */
+public final class LootRandom {
+
+    private LootRandom() {
+        // Utility class; prevent instantiation
+    }
+
+    private static final String SEED_PROPERTY = "leveladditions.loot.seed";
+
+    private static volatile ThreadLocal<SplittableRandom> seeded;
+
+    static {
+        Long seed = Long.getLong(SEED_PROPERTY);
+        if (seed != null) useFixedSeed(seed);
+    }
+
+    /** Returns the random source for the calling thread */
+    public static RandomGenerator current() {
+        ThreadLocal<SplittableRandom> local = seeded;
+        return local == null ? ThreadLocalRandom.current() : local.get();
+    }
+
+    /** Switches every thread to deterministic SplittableRandom instances derived from seed */
+    public static synchronized void useFixedSeed(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        seeded = ThreadLocal.withInitial(() -> {
+            synchronized (root) {
+                return root.split();
+            }
+        });
+    }
+
+    /** Returns to ThreadLocalRandom */
+    public static synchronized void clearFixedSeed() {
+        seeded = null;
+    }
+}
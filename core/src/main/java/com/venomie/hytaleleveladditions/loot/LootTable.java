@@ -0,0 +1,36 @@
+package com.venomie.hytaleleveladditions.loot;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Compiled set of weighted entries, rolled in O(1) through an alias table.
+ */
+public final class LootTable {
+
+    /** Table that never drops anything */
+    public static final LootTable EMPTY = new LootTable(List.of(LootEntry.NOTHING));
+
+    private final LootEntry[] entries;
+    private final AliasSampler sampler;
+
+    public LootTable(List<LootEntry> entries) {
+        this.entries = entries.toArray(new LootEntry[0]);
+
+        double[] weights = new double[this.entries.length];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = this.entries[i].getWeight();
+        }
+        this.sampler = new AliasSampler(weights);
+    }
+
+    /** Rolls one entry; may return an entry for which {@link LootEntry#isNothing()} is true */
+    public LootEntry roll(RandomGenerator random) {
+        if (entries.length == 1) return entries[0];
+        return entries[sampler.sample(random)];
+    }
+
+    public List<LootEntry> getEntries() {
+        return List.of(entries);
+    }
+}
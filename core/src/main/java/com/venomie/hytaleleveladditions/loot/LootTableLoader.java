@@ -0,0 +1,125 @@
+package com.venomie.hytaleleveladditions.loot;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads skill loot tables from JSON and compiles them into {@link SkillLootTables}.
+ *
+ * Format (keys follow the PascalCase used by Hytale assets):
+ * <pre>
+ * {
+ *   "Brackets": [
+ *     {
+ *       "MinTier": 0, "MaxTier": 9,      // optional, defaults to every tier
+ *       "MinLevel": 10, "MaxLevel": 19,  // MaxLevel optional, defaults to the level cap
+ *       "Entries": [
+ *         { "Item": "Ingredient_Charcoal", "Amount": 1, "Weight": 30 },  // Item optional → ore default
+ *         { "Amount": 0, "Weight": 70 }                                  // no drop
+ *       ]
+ *     }
+ *   ]
+ * }
+ * </pre>
+ */
+public final class LootTableLoader {
+
+    private LootTableLoader() {
+        // Utility class; prevent instantiation
+    }
+
+    private static final Gson GSON = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE)
+            .create();
+
+    /**
+     * Parses and compiles a loot table file.
+     *
+     * @param reader   JSON source
+     * @param maxTier  highest ore tier to index
+     * @param maxLevel highest level to index
+     * @throws IllegalArgumentException if the JSON is malformed or a bracket is invalid
+     */
+    public static SkillLootTables read(Reader reader, int maxTier, int maxLevel) {
+        TableFile file;
+        try {
+            file = GSON.fromJson(reader, TableFile.class);
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException("Malformed loot table JSON", e);
+        }
+        if (file == null || file.brackets == null) return SkillLootTables.EMPTY;
+
+        List<SkillLootTables.Bracket> brackets = new ArrayList<>();
+        for (int i = 0; i < file.brackets.size(); i++) {
+            BracketJson json = file.brackets.get(i);
+            if (json.entries == null || json.entries.isEmpty()) {
+                throw new IllegalArgumentException("Loot bracket " + i + " has no entries");
+            }
+
+            List<LootEntry> entries = new ArrayList<>();
+            for (EntryJson entry : json.entries) {
+                int amount = entry.amount == null ? 1 : entry.amount;
+                double weight = entry.weight == null ? 1 : entry.weight;
+                entries.add(amount <= 0 && entry.item == null
+                        ? new LootEntry(null, 0, weight)
+                        : new LootEntry(entry.item, amount, weight));
+            }
+
+            brackets.add(new SkillLootTables.Bracket(
+                    json.minTier == null ? 0 : json.minTier,
+                    json.maxTier == null ? Integer.MAX_VALUE : json.maxTier,
+                    json.minLevel == null ? 1 : json.minLevel,
+                    json.maxLevel == null ? Integer.MAX_VALUE : json.maxLevel,
+                    entries
+            ));
+        }
+
+        return new SkillLootTables(brackets, maxTier, maxLevel);
+    }
+
+    /**
+     * Loads a loot table bundled on the classpath.
+     *
+     * @param resourcePath absolute classpath path, e.g. "/Server/Skills/Loot/Mining.json"
+     */
+    public static SkillLootTables readResource(String resourcePath, int maxTier, int maxLevel) {
+        try (InputStream in = LootTableLoader.class.getResourceAsStream(resourcePath)) {
+            if (in == null) throw new IllegalArgumentException("Missing loot table resource: " + resourcePath);
+            return read(new InputStreamReader(in, StandardCharsets.UTF_8), maxTier, maxLevel);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read loot table resource: " + resourcePath, e);
+        }
+    }
+
+    // ===============================
+    // JSON model
+    // ===============================
+
+    private static final class TableFile {
+        List<BracketJson> brackets;
+    }
+
+    private static final class BracketJson {
+        Integer minTier;
+        Integer maxTier;
+        Integer minLevel;
+        Integer maxLevel;
+        List<EntryJson> entries;
+    }
+
+    private static final class EntryJson {
+        String item;
+        Integer amount;
+        Double weight;
+    }
+}
@@ -0,0 +1,19 @@
+package com.venomie.hytaleleveladditions.loot;
+
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+
+/**
+ * Static access to the compiled skill loot tables.
+ * Tables are part of the active SkillConfig and are replaced when it is reloaded.
+ */
+public final class LootTables {
+
+    private LootTables() {
+        // Utility class; prevent instantiation
+    }
+
+    /** Returns the Mining bonus drop tables */
+    public static SkillLootTables mining() {
+        return SkillConfigs.current().getMiningLoot();
+    }
+}
@@ -0,0 +1,78 @@
+package com.venomie.hytaleleveladditions.loot;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * All bonus loot tables of one skill, pre-indexed by ore tier and player level.
+ * <p>
+ * Brackets are resolved once at load time into a flat [tier][level] array of compiled
+ * tables, so a roll is two array reads plus one alias sample.
+ */
+public final class SkillLootTables {
+
+    /** One tier/level range and the entries that apply to it */
+    public record Bracket(int minTier, int maxTier, int minLevel, int maxLevel, List<LootEntry> entries) {
+        boolean matches(int tier, int level) {
+            return tier >= minTier && tier <= maxTier && level >= minLevel && level <= maxLevel;
+        }
+    }
+
+    /** Tables that never drop anything */
+    public static final SkillLootTables EMPTY = new SkillLootTables(List.of(), 0, 1);
+
+    private final int maxTier;
+    private final int maxLevel;
+
+    /** tables[tier][level]; unmatched slots hold LootTable.EMPTY */
+    private final LootTable[][] tables;
+
+    /**
+     * @param brackets ordered brackets; the first matching bracket wins
+     * @param maxTier  highest ore tier to index (tiers above are clamped)
+     * @param maxLevel highest player level to index (levels above are clamped)
+     */
+    public SkillLootTables(List<Bracket> brackets, int maxTier, int maxLevel) {
+        this.maxTier = Math.max(0, maxTier);
+        this.maxLevel = Math.max(1, maxLevel);
+
+        // Compile each bracket once and share it across the slots it covers
+        LootTable[] compiled = new LootTable[brackets.size()];
+        for (int i = 0; i < compiled.length; i++) {
+            compiled[i] = new LootTable(brackets.get(i).entries());
+        }
+
+        this.tables = new LootTable[this.maxTier + 1][];
+        for (int tier = 0; tier <= this.maxTier; tier++) {
+            LootTable[] byLevel = new LootTable[this.maxLevel + 1];
+            Arrays.fill(byLevel, LootTable.EMPTY);
+            for (int level = 1; level <= this.maxLevel; level++) {
+                for (int i = 0; i < compiled.length; i++) {
+                    if (brackets.get(i).matches(tier, level)) {
+                        byLevel[level] = compiled[i];
+                        break;
+                    }
+                }
+            }
+            tables[tier] = byLevel;
+        }
+    }
+
+    /** Highest indexed ore tier; higher tiers share its tables */
+    public int getMaxTier() {
+        return maxTier;
+    }
+
+    /** Returns the table for an ore tier and player level */
+    public LootTable get(int tier, int level) {
+        int t = Math.min(Math.max(tier, 0), maxTier);
+        int l = Math.min(Math.max(level, 1), maxLevel);
+        return tables[t][l];
+    }
+
+    /** Rolls the table for an ore tier and player level */
+    public LootEntry roll(int tier, int level, RandomGenerator random) {
+        return get(tier, level).roll(random);
+    }
+}
@@ -0,0 +1,71 @@
+package com.venomie.hytaleleveladditions.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram in nanoseconds.
+ * <p>
+ * Bucket i counts samples in [2^(i-1), 2^i) ns (bucket 0 holds 0 ns), up to ~68 s.
+ * Recording is a leading-zero count plus one striped LongAdder increment:
+ * no locks, and no allocation after the adders have warmed up.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 37;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /** Records one sample */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+        buckets[bucket].increment();
+        totalNanos.add(nanos);
+    }
+
+    /** Number of recorded samples */
+    public long count() {
+        long count = 0;
+        for (LongAdder bucket : buckets) count += bucket.sum();
+        return count;
+    }
+
+    /** Sum of all recorded samples */
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns an upper bound for the given percentile (0-100), i.e. the upper edge
+     * of the bucket the percentile falls into. Returns 0 if empty.
+     */
+    public long percentileNanos(double percentile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) return 0;
+
+        long rank = (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(1, rank)) return i == 0 ? 0 : (1L << i) - 1;
+        }
+        return (1L << (BUCKETS - 1)) - 1;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) bucket.reset();
+        totalNanos.reset();
+    }
+}
@@ -0,0 +1,149 @@
+package com.venomie.hytaleleveladditions.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Low-overhead counters and latency histograms for the plugin's hot paths.
+ * <p>
+ * Counters are grouped by feature (mining, drops, HUD, Sword, players, prospecting), and
+ * {@link #report()} prints one section per group so each feature's numbers read on their own.
+ * <p>
+ * Counters are striped LongAdders so world threads never contend. When metrics are
+ * disabled (see PluginConfig), callers skip both the counters and the System.nanoTime
+ * calls by checking {@link #isEnabled()} first.
+ */
+public final class PluginMetrics {
+
+    private PluginMetrics() {
+        // Utility class; prevent instantiation
+    }
+
+    private static volatile boolean enabled = true;
+
+    // ====== MINING ======
+    /** BreakBlockEvents seen by BreakOreEventSystem */
+    public static final LongAdder BREAK_EVENTS = new LongAdder();
+    /** Break events that resolved to an ore */
+    public static final LongAdder ORE_BREAKS = new LongAdder();
+    /** Ore breaks denied because the ore was placed by a player */
+    public static final LongAdder PLACED_ORE_BREAKS = new LongAdder();
+    /** Mining XP applied to players */
+    public static final LongAdder XP_GRANTED = new LongAdder();
+    /** Level-ups announced */
+    public static final LongAdder LEVEL_UPS = new LongAdder();
+    /** Mining XP given to nearby party members instead of the breaker */
+    public static final LongAdder PARTY_XP_SHARED = new LongAdder();
+
+    // ====== DROPS ======
+    /** Bonus drops queued (before merging) */
+    public static final LongAdder DROPS_QUEUED = new LongAdder();
+    /** Item entities spawned for bonus drops (after merging) */
+    public static final LongAdder DROPS_SPAWNED = new LongAdder();
+
+    // ====== HUD ======
+    /** Players queued for a HUD update because their displayed level or percent changed */
+    public static final LongAdder HUD_CHANGES = new LongAdder();
+    /** HUD updates sent to clients (after throttling) */
+    public static final LongAdder HUD_UPDATES = new LongAdder();
+
+    // ====== SWORD ======
+    /** Sword hits recorded by SwordDamageEventSystem */
+    public static final LongAdder SWORD_HITS = new LongAdder();
+    /** Sword XP applied to players */
+    public static final LongAdder SWORD_XP_GRANTED = new LongAdder();
+
+    // ====== PLAYERS ======
+    /** Players whose join work (migration, leaderboard, HUD or welcome) has run */
+    public static final LongAdder JOINS_PROCESSED = new LongAdder();
+    /** SkillsComponents attached on a player's first skill XP */
+    public static final LongAdder SKILLS_ATTACHED = new LongAdder();
+
+    // ====== PROSPECTING ======
+    /** Prospecting scans completed */
+    public static final LongAdder PROSPECT_SCANS = new LongAdder();
+    /** Chunk sections read block by block for prospecting (ore index misses) */
+    public static final LongAdder PROSPECT_SECTIONS_SCANNED = new LongAdder();
+    /** Chunk sections answered from the ore index */
+    public static final LongAdder PROSPECT_SECTIONS_CACHED = new LongAdder();
+
+    // ====== LATENCY ======
+    /** Time spent in BreakOreEventSystem.handle (Mining) */
+    public static final LatencyHistogram HANDLE_LATENCY = new LatencyHistogram();
+    /** Time spent applying buffered Mining XP per world tick (the deferred mutation) */
+    public static final LatencyHistogram ACCRUAL_LATENCY = new LatencyHistogram();
+    /** Time spent flushing the drop queue per world tick (Drops) */
+    public static final LatencyHistogram DROP_FLUSH_LATENCY = new LatencyHistogram();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /** Clears every counter and histogram */
+    public static void reset() {
+        BREAK_EVENTS.reset();
+        ORE_BREAKS.reset();
+        PLACED_ORE_BREAKS.reset();
+        XP_GRANTED.reset();
+        LEVEL_UPS.reset();
+        DROPS_QUEUED.reset();
+        DROPS_SPAWNED.reset();
+        HUD_CHANGES.reset();
+        HUD_UPDATES.reset();
+        SWORD_HITS.reset();
+        SWORD_XP_GRANTED.reset();
+        JOINS_PROCESSED.reset();
+        SKILLS_ATTACHED.reset();
+        PARTY_XP_SHARED.reset();
+        PROSPECT_SCANS.reset();
+        PROSPECT_SECTIONS_SCANNED.reset();
+        PROSPECT_SECTIONS_CACHED.reset();
+        HANDLE_LATENCY.reset();
+        ACCRUAL_LATENCY.reset();
+        DROP_FLUSH_LATENCY.reset();
+    }
+
+    /** Returns a human-readable report, one line per entry, grouped by feature */
+    public static List<String> report() {
+        List<String> lines = new ArrayList<>();
+        if (!enabled) {
+            lines.add("Metrics are disabled in config.");
+            return lines;
+        }
+        lines.add("-- Mining --");
+        lines.add("Break events: " + BREAK_EVENTS.sum() + " (ores: " + ORE_BREAKS.sum()
+                + ", placed ores denied: " + PLACED_ORE_BREAKS.sum() + ")");
+        lines.add("XP granted: " + XP_GRANTED.sum() + ", level-ups: " + LEVEL_UPS.sum()
+                + ", shared with party: " + PARTY_XP_SHARED.sum());
+        lines.add(describe("Break handle", HANDLE_LATENCY));
+        lines.add(describe("XP accrual tick", ACCRUAL_LATENCY));
+        lines.add("-- Drops --");
+        lines.add("Drops queued: " + DROPS_QUEUED.sum() + ", entities spawned: " + DROPS_SPAWNED.sum());
+        lines.add(describe("Drop flush tick", DROP_FLUSH_LATENCY));
+        lines.add("-- HUD --");
+        lines.add("HUD changes: " + HUD_CHANGES.sum() + ", updates sent: " + HUD_UPDATES.sum());
+        lines.add("-- Sword --");
+        lines.add("Sword hits: " + SWORD_HITS.sum() + ", Sword XP granted: " + SWORD_XP_GRANTED.sum());
+        lines.add("-- Players --");
+        lines.add("Joins processed: " + JOINS_PROCESSED.sum() + ", skills attached: " + SKILLS_ATTACHED.sum());
+        lines.add("-- Prospecting --");
+        lines.add("Prospect scans: " + PROSPECT_SCANS.sum() + " (sections scanned: " + PROSPECT_SECTIONS_SCANNED.sum()
+                + ", from index: " + PROSPECT_SECTIONS_CACHED.sum() + ")");
+        return lines;
+    }
+
+    private static String describe(String name, LatencyHistogram histogram) {
+        long count = histogram.count();
+        long avg = count == 0 ? 0 : histogram.totalNanos() / count;
+        return name + ": n=" + count
+                + ", avg=" + avg + "ns"
+                + ", p50<=" + histogram.percentileNanos(50) + "ns"
+                + ", p99<=" + histogram.percentileNanos(99) + "ns"
+                + ", total=" + (histogram.totalNanos() / 1_000_000) + "ms";
+    }
+}
@@ -0,0 +1,53 @@
+package com.venomie.hytaleleveladditions.ores;
+
+/**
+ * Immutable description of an ore block as far as the Mining skill is concerned.
+ * Resolved once per BlockType by the plugin's OreRegistry.
+ */
+public final class OreProfile {
+
+    /** Block ID prefix this profile was matched by (e.g., "Ore_Copper_"), or null if unlisted */
+    private final String prefix;
+
+    /** XP granted for breaking one block */
+    private final int xp;
+
+    /** 1-based tier in ore progression order; 0 for unlisted ores */
+    private final int tier;
+
+    /** Item ID used for bonus drops from this ore */
+    private final String bonusDropItemId;
+
+    public OreProfile(String prefix, int xp, int tier, String bonusDropItemId) {
+        this.prefix = prefix;
+        this.xp = xp;
+        this.tier = tier;
+        this.bonusDropItemId = bonusDropItemId;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public int getXp() {
+        return xp;
+    }
+
+    public int getTier() {
+        return tier;
+    }
+
+    public String getBonusDropItemId() {
+        return bonusDropItemId;
+    }
+
+    /** True if this ore is one of the known ore types (grants XP) */
+    public boolean isListed() {
+        return prefix != null;
+    }
+
+    @Override
+    public String toString() {
+        return "OreProfile{prefix=" + prefix + ", xp=" + xp + ", tier=" + tier + "}";
+    }
+}
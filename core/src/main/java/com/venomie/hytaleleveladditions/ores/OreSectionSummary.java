@@ -0,0 +1,142 @@
+package com.venomie.hytaleleveladditions.ores;
+
+import java.util.Arrays;
+
+/**
+ * Ores in one 16x16x16 chunk section: a count per ore type plus the section-local
+ * position and type of every ore block.
+ * <p>
+ * Ore types are indexes into the active SkillConfig's ore list ({@code tier - 1}).
+ * Positions are kept as parallel {@code short}/{@code byte} arrays; sections rarely hold
+ * more than a few dozen ores, so updates scan them linearly. Adding an ore that is
+ * already recorded, or removing one that is not, changes nothing, so the same break can
+ * safely be reported twice.
+ */
+public final class OreSectionSummary {
+
+    public static final int SHIFT = 4;
+    public static final int SIZE = 1 << SHIFT;
+
+    /** Most ore types a summary can tell apart (types are stored as bytes) */
+    public static final int MAX_TYPES = 127;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int[] counts;
+
+    private short[] locals = new short[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @param oreTypes number of ore types (at most {@link #MAX_TYPES})
+     */
+    public OreSectionSummary(int oreTypes) {
+        if (oreTypes < 0 || oreTypes > MAX_TYPES) {
+            throw new IllegalArgumentException("oreTypes must be in [0, " + MAX_TYPES + "]: " + oreTypes);
+        }
+        this.counts = new int[oreTypes];
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /** Section-local index of a world block position */
+    public static int localIndex(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    /**
+     * Records an ore block.
+     *
+     * @param local section-local index (see {@link #localIndex})
+     * @param type ore type; types outside the summary's range are ignored
+     * @return true if the block was not recorded yet
+     */
+    public boolean add(int local, int type) {
+        if (type < 0 || type >= counts.length || find(local) >= 0) return false;
+
+        if (size == locals.length) {
+            locals = Arrays.copyOf(locals, size * 2);
+            types = Arrays.copyOf(types, size * 2);
+        }
+        locals[size] = (short) local;
+        types[size] = (byte) type;
+        size++;
+        counts[type]++;
+        return true;
+    }
+
+    /**
+     * Forgets an ore block (call when it is broken).
+     *
+     * @return the removed ore's type, or -1 if no ore was recorded there
+     */
+    public int remove(int local) {
+        int i = find(local);
+        if (i < 0) return -1;
+
+        int type = types[i];
+        size--;
+        locals[i] = locals[size];
+        types[i] = types[size];
+        counts[type]--;
+        return type;
+    }
+
+    /** Number of ores of a type in the section */
+    public int count(int type) {
+        return type >= 0 && type < counts.length ? counts[type] : 0;
+    }
+
+    /** Number of ore blocks in the section */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Adds the ores of this section within {@code radius} of a point to {@code out}
+     * (indexed by ore type). Sections entirely inside the sphere add their counts;
+     * sections straddling its edge check each ore's position.
+     *
+     * @param sectionX section coordinate (block coordinate {@code >> SHIFT})
+     */
+    public void addWithin(int sectionX, int sectionY, int sectionZ,
+                          double x, double y, double z, double radius, long[] out) {
+        if (size == 0) return;
+
+        int minX = sectionX << SHIFT, minY = sectionY << SHIFT, minZ = sectionZ << SHIFT;
+        double radiusSquared = radius * radius;
+
+        // Farthest block centre of the section from the point
+        double fx = Math.max(Math.abs(minX + .5 - x), Math.abs(minX + SIZE - .5 - x));
+        double fy = Math.max(Math.abs(minY + .5 - y), Math.abs(minY + SIZE - .5 - y));
+        double fz = Math.max(Math.abs(minZ + .5 - z), Math.abs(minZ + SIZE - .5 - z));
+        if (fx * fx + fy * fy + fz * fz <= radiusSquared) {
+            int n = Math.min(counts.length, out.length);
+            for (int type = 0; type < n; type++) out[type] += counts[type];
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            int local = locals[i];
+            double dx = minX + (local & 15) + .5 - x;
+            double dy = minY + ((local >>> 8) & 15) + .5 - y;
+            double dz = minZ + ((local >>> 4) & 15) + .5 - z;
+            if (dx * dx + dy * dy + dz * dz <= radiusSquared && types[i] < out.length) out[types[i]]++;
+        }
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private int find(int local) {
+        short key = (short) local;
+        for (int i = 0; i < size; i++) {
+            if (locals[i] == key) return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,193 @@
+package com.venomie.hytaleleveladditions.party;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of parties, shared by all worlds.
+ * <p>
+ * World threads only call {@link #isEmpty()}, {@link #partyOf(UUID)} and {@link #version()},
+ * which are lock-free. Membership changes (from commands) take a lock and bump the version,
+ * which tells each world's party-member grid to resynchronize.
+ * <p>
+ * Parties and invites are kept in memory only; they do not survive a restart.
+ */
+public final class Parties {
+
+    private Parties() {
+        // Utility class; prevent instantiation
+    }
+
+    /** How long an invite stays valid */
+    public static final long INVITE_MILLIS = 5 * 60_000L;
+
+    private static final Object LOCK = new Object();
+
+    private static final ConcurrentHashMap<UUID, Party> BY_MEMBER = new ConcurrentHashMap<>();
+
+    // Guarded by LOCK
+    /** Pending invites by lower-case invitee name */
+    private static final Map<String, Invite> INVITES = new HashMap<>();
+    private static int nextId = 1;
+
+    private static volatile long version;
+    private static volatile int maxSize = 6;
+
+    private record Invite(Party party, long expiresAtMillis) {
+    }
+
+    // ===============================
+    // Read path
+    // ===============================
+
+    /** True while nobody is in a party; lets the break path skip party lookups entirely */
+    public static boolean isEmpty() {
+        return BY_MEMBER.isEmpty();
+    }
+
+    /** The player's party, or null */
+    public static Party partyOf(UUID playerId) {
+        return BY_MEMBER.get(playerId);
+    }
+
+    /** Incremented on every membership change */
+    public static long version() {
+        return version;
+    }
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /** Largest party allowed; set by the plugin from its config */
+    public static void setMaxSize(int size) {
+        maxSize = Math.max(2, size);
+    }
+
+    // ===============================
+    // Management
+    // ===============================
+
+    /**
+     * Creates a party led by the player.
+     *
+     * @throws IllegalStateException if the player is already in a party
+     */
+    public static Party create(UUID playerId, String name) {
+        synchronized (LOCK) {
+            if (BY_MEMBER.containsKey(playerId)) throw new IllegalStateException("You are already in a party.");
+            Party party = new Party(nextId++, new Party.Member(playerId, name));
+            BY_MEMBER.put(playerId, party);
+            changed();
+            return party;
+        }
+    }
+
+    /**
+     * Invites a player, by name, into the leader's party. Replaces any older invite for that name.
+     *
+     * @throws IllegalStateException if the caller leads no party or the party is full
+     */
+    public static Party invite(UUID leaderId, String inviteeName, long nowMillis) {
+        synchronized (LOCK) {
+            Party party = BY_MEMBER.get(leaderId);
+            if (party == null || !party.isLeader(leaderId)) {
+                throw new IllegalStateException("Only a party leader can invite players.");
+            }
+            if (party.findByName(inviteeName) != null) {
+                throw new IllegalStateException(inviteeName + " is already in your party.");
+            }
+            if (party.size() >= maxSize) throw new IllegalStateException("Your party is full.");
+
+            INVITES.put(key(inviteeName), new Invite(party, nowMillis + INVITE_MILLIS));
+            return party;
+        }
+    }
+
+    /**
+     * Joins the party the player was last invited to.
+     *
+     * @throws IllegalStateException if there is no valid invite, the player is already in
+     *                               a party, or the party has since filled up or disbanded
+     */
+    public static Party accept(UUID playerId, String name, long nowMillis) {
+        synchronized (LOCK) {
+            if (BY_MEMBER.containsKey(playerId)) throw new IllegalStateException("You are already in a party.");
+
+            Invite invite = INVITES.remove(key(name));
+            if (invite == null || invite.expiresAtMillis() < nowMillis) {
+                throw new IllegalStateException("You have no pending party invite.");
+            }
+            Party party = invite.party();
+            if (party.size() == 0) throw new IllegalStateException("That party no longer exists.");
+            if (party.size() >= maxSize) throw new IllegalStateException("That party is full.");
+
+            party.add(new Party.Member(playerId, name));
+            BY_MEMBER.put(playerId, party);
+            changed();
+            return party;
+        }
+    }
+
+    /**
+     * Leaves the player's party; the party is disbanded when its last member leaves.
+     *
+     * @return the party left, or null if the player was in none
+     */
+    public static Party leave(UUID playerId) {
+        synchronized (LOCK) {
+            Party party = BY_MEMBER.remove(playerId);
+            if (party == null) return null;
+            party.remove(playerId);
+            changed();
+            return party;
+        }
+    }
+
+    /**
+     * Removes a member, by name, from the leader's party.
+     *
+     * @return the removed member
+     * @throws IllegalStateException if the caller leads no party or nobody by that name is in it
+     */
+    public static Party.Member kick(UUID leaderId, String memberName) {
+        synchronized (LOCK) {
+            Party party = BY_MEMBER.get(leaderId);
+            if (party == null || !party.isLeader(leaderId)) {
+                throw new IllegalStateException("Only a party leader can remove members.");
+            }
+            Party.Member member = party.findByName(memberName);
+            if (member == null) throw new IllegalStateException(memberName + " is not in your party.");
+            if (member.playerId().equals(leaderId)) throw new IllegalStateException("Use Leave to leave your own party.");
+
+            party.remove(member.playerId());
+            BY_MEMBER.remove(member.playerId());
+            changed();
+            return member;
+        }
+    }
+
+    /** Disbands every party and drops every invite */
+    public static void clear() {
+        synchronized (LOCK) {
+            BY_MEMBER.clear();
+            INVITES.clear();
+            changed();
+        }
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static void changed() {
+        version++;
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
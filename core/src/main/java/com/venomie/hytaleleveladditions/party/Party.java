@@ -0,0 +1,75 @@
+package com.venomie.hytaleleveladditions.party;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A group of players sharing ore XP. Created and changed only through {@link Parties};
+ * the member list is replaced on every change, so readers never see it half-updated.
+ */
+public final class Party {
+
+    /** One member; the name is the username at the time they joined */
+    public record Member(UUID playerId, String name) {
+    }
+
+    private final int id;
+
+    // Replaced (never mutated) under Parties' lock; the leader is always members[0]
+    private volatile Member[] members;
+
+    Party(int id, Member leader) {
+        this.id = id;
+        this.members = new Member[]{leader};
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public Member getLeader() {
+        return members[0];
+    }
+
+    public boolean isLeader(UUID playerId) {
+        return members[0].playerId().equals(playerId);
+    }
+
+    public int size() {
+        return members.length;
+    }
+
+    public List<Member> getMembers() {
+        return List.of(members);
+    }
+
+    /** Member with the given name (case-insensitive), or null */
+    public Member findByName(String name) {
+        for (Member member : members) {
+            if (member.name().equalsIgnoreCase(name)) return member;
+        }
+        return null;
+    }
+
+    // ===============================
+    // Internal utility (Parties' lock held)
+    // ===============================
+
+    void add(Member member) {
+        Member[] current = members;
+        Member[] next = new Member[current.length + 1];
+        System.arraycopy(current, 0, next, 0, current.length);
+        next[current.length] = member;
+        members = next;
+    }
+
+    /** Removes a member; the next member in join order becomes leader if the leader left */
+    void remove(UUID playerId) {
+        List<Member> next = new ArrayList<>(members.length);
+        for (Member member : members) {
+            if (!member.playerId().equals(playerId)) next.add(member);
+        }
+        members = next.toArray(new Member[0]);
+    }
+}
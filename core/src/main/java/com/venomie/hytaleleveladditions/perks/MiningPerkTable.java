@@ -0,0 +1,106 @@
+package com.venomie.hytaleleveladditions.perks;
+
+import com.venomie.hytaleleveladditions.config.SkillConfig;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.loot.LootTable;
+import com.venomie.hytaleleveladditions.loot.SkillLootTables;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+/**
+ * Flat per-level lookup of {@link MiningPerks}, built from the active SkillConfig.
+ * <p>
+ * Index {@code level} holds that level's snapshot; consecutive levels with identical perks
+ * share one instance, so the table holds a handful of distinct objects. It is rebuilt
+ * lazily after a config reload or a change to the vein-mining or prospecting level.
+ */
+public final class MiningPerkTable {
+
+    private static volatile MiningPerkTable current;
+
+    /** Mining level unlocking vein mining; 0 disables it. Set by the plugin from its config */
+    private static volatile int veinMineMinLevel;
+
+    /** Mining level unlocking prospecting; 0 disables it. Set by the plugin from its config */
+    private static volatile int prospectMinLevel;
+
+    static {
+        SkillConfigs.addPublishListener(MiningPerkTable::invalidate);
+    }
+
+    /** perks[level] for levels 1..maxLevel; index 0 mirrors level 1 */
+    private final MiningPerks[] perks;
+
+    private MiningPerkTable(SkillConfig config, int veinMinLevel, int prospectingMinLevel) {
+        SkillLootTables loot = config.getMiningLoot();
+        int maxLevel = config.getCurve(SkillType.Mining).getMaxLevel();
+        int tiers = loot.getMaxTier() + 1;
+
+        this.perks = new MiningPerks[maxLevel + 1];
+        MiningPerks previous = null;
+        for (int level = 1; level <= maxLevel; level++) {
+            LootTable[] byTier = new LootTable[tiers];
+            for (int tier = 0; tier < tiers; tier++) {
+                byTier[tier] = loot.get(tier, level);
+            }
+            boolean veinMining = veinMinLevel > 0 && level >= veinMinLevel;
+            boolean prospecting = prospectingMinLevel > 0 && level >= prospectingMinLevel;
+
+            if (previous == null || !previous.sameAs(byTier, veinMining, prospecting)) {
+                previous = new MiningPerks(this, byTier, veinMining, prospecting);
+            }
+            perks[level] = previous;
+        }
+        perks[0] = perks[1];
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /** Perks for a Mining level (clamped to the curve's range) */
+    public static MiningPerks forLevel(int level) {
+        MiningPerks[] byLevel = currentTable().perks;
+        return byLevel[Math.min(Math.max(level, 1), byLevel.length - 1)];
+    }
+
+    /** Sets the level that unlocks vein mining (0 disables it) and rebuilds the table */
+    public static void setVeinMineMinLevel(int level) {
+        veinMineMinLevel = Math.max(0, level);
+        invalidate();
+    }
+
+    /** Mining level unlocking prospecting; 0 if disabled */
+    public static int getProspectMinLevel() {
+        return prospectMinLevel;
+    }
+
+    /** Sets the level that unlocks prospecting (0 disables it) and rebuilds the table */
+    public static void setProspectMinLevel(int level) {
+        prospectMinLevel = Math.max(0, level);
+        invalidate();
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    static MiningPerkTable currentTable() {
+        MiningPerkTable table = current;
+        if (table == null) {
+            synchronized (MiningPerkTable.class) {
+                table = current;
+                if (table == null) {
+                    table = new MiningPerkTable(SkillConfigs.current(), veinMineMinLevel, prospectMinLevel);
+                    current = table;
+                }
+            }
+        }
+        return table;
+    }
+
+    private static void invalidate() {
+        synchronized (MiningPerkTable.class) {
+            current = null;
+        }
+    }
+}
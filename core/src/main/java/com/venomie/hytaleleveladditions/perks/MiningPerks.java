@@ -0,0 +1,68 @@
+package com.venomie.hytaleleveladditions.perks;
+
+import com.venomie.hytaleleveladditions.loot.LootEntry;
+import com.venomie.hytaleleveladditions.loot.LootTable;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Everything a Mining level unlocks, resolved ahead of time: the bonus loot table for each
+ * ore tier (drop chance and multi-drop odds) and whether vein mining and prospecting
+ * are available.
+ * <p>
+ * Instances come from {@link MiningPerkTable} and are shared by every player of the same
+ * level. A player's SkillSet keeps a reference and swaps it only when their level changes,
+ * so a break reads a field and an array slot instead of re-resolving level brackets.
+ */
+public final class MiningPerks {
+
+    private final MiningPerkTable table;
+    private final LootTable[] bonusLootByTier;
+    private final boolean veinMining;
+    private final boolean prospecting;
+
+    MiningPerks(MiningPerkTable table, LootTable[] bonusLootByTier, boolean veinMining, boolean prospecting) {
+        this.table = table;
+        this.bonusLootByTier = bonusLootByTier;
+        this.veinMining = veinMining;
+        this.prospecting = prospecting;
+    }
+
+    /** Bonus loot table for an ore tier (tiers past the configured range are clamped) */
+    public LootTable getBonusLoot(int tier) {
+        return bonusLootByTier[Math.min(Math.max(tier, 0), bonusLootByTier.length - 1)];
+    }
+
+    /** Rolls the bonus drop for an ore of the given tier */
+    public LootEntry rollBonusDrop(int tier, RandomGenerator random) {
+        return getBonusLoot(tier).roll(random);
+    }
+
+    /** Whether the vein-mining perk is unlocked at this level */
+    public boolean hasVeinMining() {
+        return veinMining;
+    }
+
+    /** Whether breaking this ore should start vein mining */
+    public boolean canVeinMine(OreProfile ore) {
+        return veinMining && ore.isListed();
+    }
+
+    /** Whether the prospecting perk (ore counts around the player) is unlocked at this level */
+    public boolean hasProspecting() {
+        return prospecting;
+    }
+
+    /** False once the table this snapshot came from was replaced (config reload) */
+    public boolean isCurrent() {
+        return table == MiningPerkTable.currentTable();
+    }
+
+    /** Same perks as another level's snapshot (used to share instances across levels) */
+    boolean sameAs(LootTable[] otherLoot, boolean otherVeinMining, boolean otherProspecting) {
+        return veinMining == otherVeinMining && prospecting == otherProspecting
+                && Arrays.equals(bonusLootByTier, otherLoot);
+    }
+}
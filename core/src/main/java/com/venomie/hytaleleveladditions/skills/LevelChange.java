@@ -0,0 +1,20 @@
+package com.venomie.hytaleleveladditions.skills;
+
+/**
+ * Result of an XP change: the level before and after.
+ *
+ * @param oldLevel level before the XP was applied
+ * @param newLevel level after the XP was applied
+ */
+public record LevelChange(int oldLevel, int newLevel) {
+
+    /** Number of levels gained (negative if levels were lost) */
+    public int levelsGained() {
+        return newLevel - oldLevel;
+    }
+
+    /** True if the XP change moved the player up at least one level */
+    public boolean leveledUp() {
+        return newLevel > oldLevel;
+    }
+}
@@ -0,0 +1,108 @@
+package com.venomie.hytaleleveladditions.skills;
+
+import com.venomie.hytaleleveladditions.formulas.LevelCurves;
+import com.venomie.hytaleleveladditions.perks.MiningPerkTable;
+import com.venomie.hytaleleveladditions.perks.MiningPerks;
+
+import java.util.Arrays;
+
+/**
+ * Every skill of one player: total XP per skill plus the level derived from it.
+ * <p>
+ * XP is stored in a {@code long[]} indexed by {@link SkillType#ordinal()}, and the level
+ * derived from it is cached per skill and refreshed whenever XP changes. Levels come
+ * from the active LevelCurves. The Mining perk snapshot for the current level is cached
+ * too and only looked up again when the Mining level changes (or the config is reloaded).
+ * <p>
+ * Has no server dependency; the plugin's SkillsComponent extends it with persistence.
+ */
+public class SkillSet {
+
+    protected static final SkillType[] SKILLS = SkillType.values();
+
+    /** Total XP per skill, indexed by SkillType ordinal */
+    protected final long[] xp = new long[SKILLS.length];
+
+    /** Cached level per skill; not persisted */
+    protected final transient int[] levels = new int[SKILLS.length];
+
+    /** Perks of the cached Mining level; null = look up on next use. Not persisted */
+    private transient MiningPerks miningPerks;
+
+    /** Every skill starts at 0 XP (level 1) */
+    public SkillSet() {
+        Arrays.fill(levels, 1);
+    }
+
+    /** Copy constructor */
+    public SkillSet(SkillSet clone) {
+        System.arraycopy(clone.xp, 0, this.xp, 0, xp.length);
+        System.arraycopy(clone.levels, 0, this.levels, 0, levels.length);
+        this.miningPerks = clone.miningPerks;
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /** Returns the current level of a skill (cached, derived from XP) */
+    public int getLevel(SkillType skill) {
+        return levels[skill.ordinal()];
+    }
+
+    /** Returns the total XP of a skill */
+    public long getXp(SkillType skill) {
+        return xp[skill.ordinal()];
+    }
+
+    /** Returns the perks unlocked by the current Mining level */
+    public MiningPerks getMiningPerks() {
+        MiningPerks perks = miningPerks;
+        if (perks == null || !perks.isCurrent()) {
+            perks = MiningPerkTable.forLevel(levels[SkillType.Mining.ordinal()]);
+            miningPerks = perks;
+        }
+        return perks;
+    }
+
+    /**
+     * Adds XP to a skill.
+     * XP cannot go below 0 and saturates instead of overflowing.
+     *
+     * @param amount XP to add (can be negative)
+     * @return the level before and after the change
+     */
+    public LevelChange addXp(SkillType skill, long amount) {
+        int index = skill.ordinal();
+        int oldLevel = levels[index];
+
+        long total = xp[index] + amount;
+        // Overflow only happens when both operands share a sign the result doesn't
+        if (((xp[index] ^ total) & (amount ^ total)) < 0) {
+            total = amount > 0 ? Long.MAX_VALUE : 0;
+        }
+        applyXp(skill, total);
+        return new LevelChange(oldLevel, levels[index]);
+    }
+
+    /**
+     * Sets the total XP of a skill.
+     * XP cannot go below 0.
+     */
+    public void setXp(SkillType skill, long value) {
+        applyXp(skill, value);
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    /** Stores XP (clamped to >= 0) and refreshes the cached level */
+    protected void applyXp(SkillType skill, long value) {
+        int index = skill.ordinal();
+        xp[index] = Math.max(0, value);
+        int level = LevelCurves.forSkill(skill).getLevelForXp(xp[index]);
+        if (level != levels[index] && skill == SkillType.Mining) miningPerks = null;
+        levels[index] = level;
+    }
+}
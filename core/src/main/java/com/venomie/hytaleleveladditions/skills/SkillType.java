@@ -0,0 +1,40 @@
+package com.venomie.hytaleleveladditions.skills;
+
+/**
+ * Every skill tracked by the plugin.
+ * <p>
+ * Each skill has a stable numeric ID used by the compact save format. IDs must never be
+ * reused or changed once shipped; constants may be reordered freely.
+ */
+public enum SkillType {
+    Mining(0),
+    Sword(1);
+
+    private static final SkillType[] BY_ID;
+
+    static {
+        int max = 0;
+        for (SkillType skill : values()) max = Math.max(max, skill.id);
+        BY_ID = new SkillType[max + 1];
+        for (SkillType skill : values()) {
+            if (BY_ID[skill.id] != null) throw new IllegalStateException("Duplicate skill ID " + skill.id);
+            BY_ID[skill.id] = skill;
+        }
+    }
+
+    private final int id;
+
+    SkillType(int id) {
+        this.id = id;
+    }
+
+    /** Stable ID written to saves */
+    public int getId() {
+        return id;
+    }
+
+    /** Returns the skill with the given ID, or null if unknown (e.g., written by a newer version) */
+    public static SkillType byId(int id) {
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+    }
+}
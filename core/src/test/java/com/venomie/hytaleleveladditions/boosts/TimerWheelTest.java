@@ -0,0 +1,100 @@
+package com.venomie.hytaleleveladditions.boosts;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTest {
+
+    private static final long TICK = 100;
+
+    @Test
+    void firesOnlyOnceDue() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule(250, "a");
+        List<String> fired = new ArrayList<>();
+
+        assertEquals(0, wheel.advance(200, fired::add));
+        assertEquals(1, wheel.advance(300, fired::add));
+        assertEquals(List.of("a"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timerSeveralLapsAwayWaitsForItsLap() {
+        // 8 slots of 100 ms: one lap is 800 ms
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule(2_050, "late");
+        List<String> fired = new ArrayList<>();
+
+        for (long now = 100; now < 2_100; now += 100) {
+            wheel.advance(now, fired::add);
+            assertTrue(fired.isEmpty(), "fired early at " + now);
+        }
+        wheel.advance(2_100, fired::add);
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void gapLongerThanALapFiresDueTimersInDeadlineOrder() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule(3_000, "third");
+        wheel.schedule(500, "first");
+        wheel.schedule(1_700, "second");
+        wheel.schedule(9_000, "pending");
+        List<String> fired = new ArrayList<>();
+
+        assertEquals(3, wheel.advance(5_000, fired::add));
+        assertEquals(List.of("first", "second", "third"), fired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        TimerWheel.Timer<String> timer = wheel.schedule(300, "a");
+        wheel.cancel(timer);
+
+        assertFalse(timer.isPending());
+        assertEquals(0, wheel.size());
+        assertEquals(0, wheel.advance(1_000, payload -> { throw new AssertionError(payload); }));
+    }
+
+    @Test
+    void callbackCanCancelATimerDueInTheSameAdvance() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule(100, "first");
+        TimerWheel.Timer<String> second = wheel.schedule(200, "second");
+        List<String> fired = new ArrayList<>();
+
+        int count = wheel.advance(500, payload -> {
+            fired.add(payload);
+            wheel.cancel(second);
+        });
+
+        assertEquals(1, count);
+        assertEquals(List.of("first"), fired);
+        assertFalse(second.isPending());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void callbackCanScheduleAnotherTimer() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule(100, "first");
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(100, payload -> {
+            fired.add(payload);
+            wheel.schedule(400, "next");
+        });
+        wheel.advance(400, fired::add);
+
+        assertEquals(List.of("first", "next"), fired);
+    }
+}
@@ -0,0 +1,70 @@
+package com.venomie.hytaleleveladditions.formulas;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LevelCurveTest {
+
+    private final LevelCurve curve = new LevelCurve(100, 1.5, 100);
+
+    @Test
+    void levelChangesExactlyAtEachThreshold() {
+        for (int level = 2; level <= curve.getMaxLevel(); level++) {
+            long threshold = curve.totalXpForLevel(level);
+            assertEquals(level - 1, curve.getLevelForXp(threshold - 1), "just below level " + level);
+            assertEquals(level, curve.getLevelForXp(threshold), "at level " + level);
+        }
+    }
+
+    @Test
+    void xpAtOrBelowZeroIsLevelOne() {
+        assertEquals(1, curve.getLevelForXp(0));
+        assertEquals(1, curve.getLevelForXp(-5));
+        assertEquals(0, curve.xpIntoLevel(-5));
+        assertEquals(curve.xpForLevel(2), curve.getXpToNextLevel(0));
+    }
+
+    @Test
+    void xpPastTheCapStaysAtTheCap() {
+        long cap = curve.totalXpForLevel(curve.getMaxLevel());
+        assertEquals(100, curve.getLevelForXp(cap));
+        assertEquals(100, curve.getLevelForXp(Long.MAX_VALUE));
+        assertEquals(0, curve.getXpToNextLevel(cap));
+        assertEquals(cap, curve.totalXpForLevel(500));
+        assertEquals(0, curve.xpForLevel(101));
+    }
+
+    @Test
+    void stepsAddUpToTheCumulativeTable() {
+        assertEquals(0, curve.xpForLevel(1));
+        assertEquals(100, curve.xpForLevel(2));
+        long total = 0;
+        for (int level = 2; level <= curve.getMaxLevel(); level++) {
+            total += curve.xpForLevel(level);
+            assertEquals(total, curve.totalXpForLevel(level));
+        }
+    }
+
+    @Test
+    void capIsLoweredWhenTheTableWouldOverflow() {
+        LevelCurve steep = new LevelCurve(1e15, 3, 1_000);
+        assertTrue(steep.getMaxLevel() < 1_000);
+        assertTrue(steep.totalXpForLevel(steep.getMaxLevel()) > 0);
+        assertEquals(steep.getMaxLevel(), steep.getLevelForXp(Long.MAX_VALUE));
+    }
+
+    @Test
+    void flatCurveReportsTheHighestLevelOnTies() {
+        LevelCurve flat = new LevelCurve(0, 1, 10);
+        assertEquals(10, flat.getLevelForXp(1));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LevelCurve(100, 1.5, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LevelCurve(-1, 1.5, 10));
+    }
+}
@@ -0,0 +1,74 @@
+package com.venomie.hytaleleveladditions.journal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class XpEventRingTest {
+
+    @Test
+    void capacityRoundsUpToAPowerOfTwo() {
+        assertEquals(8, new XpEventRing(5).capacity());
+        assertEquals(8, new XpEventRing(8).capacity());
+    }
+
+    @Test
+    void eventRoundTripsThroughItsSlot() {
+        XpEventRing ring = new XpEventRing(4);
+        assertTrue(ring.offer(1234L, -1L, 42L, 500L, 1.5f, 1, XpLogFormat.FLAG_POSITION, 3,
+                7, XpLogFormat.NO_NAME, -30_000_000, -64, 30_000_000));
+
+        long[] event = new long[XpEventRing.SLOT_LONGS];
+        assertTrue(ring.poll(event));
+        assertEquals(1234L, XpEventRing.timeMillis(event));
+        assertEquals(-1L, XpEventRing.playerMost(event));
+        assertEquals(42L, XpEventRing.playerLeast(event));
+        assertEquals(500L, XpEventRing.xp(event));
+        assertEquals(1.5f, XpEventRing.multiplier(event));
+        assertEquals(1, XpEventRing.skillId(event));
+        assertEquals(XpLogFormat.FLAG_POSITION, XpEventRing.flags(event));
+        assertEquals(3, XpEventRing.count(event));
+        assertEquals(7, XpEventRing.worldId(event));
+        assertEquals(XpLogFormat.NO_NAME, XpEventRing.sourceId(event));
+        assertEquals(-30_000_000, XpEventRing.x(event));
+        assertEquals(-64, XpEventRing.y(event));
+        assertEquals(30_000_000, XpEventRing.z(event));
+        assertFalse(ring.poll(event));
+    }
+
+    @Test
+    void fullRingRejectsOffers() {
+        XpEventRing ring = new XpEventRing(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(offer(ring, i));
+        }
+        assertFalse(offer(ring, 4));
+        assertEquals(4, ring.size());
+    }
+
+    @Test
+    void wrapsAroundAfterManyLaps() {
+        XpEventRing ring = new XpEventRing(4);
+        long[] event = new long[XpEventRing.SLOT_LONGS];
+        long written = 0;
+        long next = 0;
+        while (written < 1_000) {
+            // Fill part of the ring, then drain it, so slots are reused at every offset
+            int burst = (int) (written % 4) + 1;
+            for (int i = 0; i < burst; i++) {
+                assertTrue(offer(ring, written++));
+            }
+            while (ring.poll(event)) {
+                assertEquals(next++, XpEventRing.xp(event));
+            }
+        }
+        assertEquals(written, next);
+        assertEquals(0, ring.size());
+    }
+
+    private static boolean offer(XpEventRing ring, long xp) {
+        return ring.offer(0L, 0L, 0L, xp, 1f, 0, 0, 1, 0, XpLogFormat.NO_NAME, 0, 0, 0);
+    }
+}
@@ -13,3 +13,6 @@ plugins {
 }
 
 rootProject.name = "hytaleleveladditions"
+
+// core: skill rules with no server dependency; simulator: headless load driver for core
+include("core", "simulator")
@@ -0,0 +1,37 @@
+// Headless load simulator: replays synthetic ore breaks through the core MiningEngine.
+// Run with `./gradlew :simulator:run --args="--players 1000 --events 5000000 --threads 4"`.
+plugins {
+    application
+}
+
+group = "com.venomie"
+version = rootProject.version
+val javaVersion = 25
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    implementation(project(":core"))
+    // Core only has Gson at compile time; the server normally provides it
+    runtimeOnly(libs.gson)
+}
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(javaVersion)
+    }
+}
+
+application {
+    mainClass = "com.venomie.hytaleleveladditions.simulator.HeadlessSimulator"
+}
+
+// Offline XP log conversion: `./gradlew :simulator:xpLogToCsv --args="<xp_log dir> --out xp.csv"`
+tasks.register<JavaExec>("xpLogToCsv") {
+    group = "application"
+    description = "Converts XP log segments to CSV"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "com.venomie.hytaleleveladditions.simulator.XpLogToCsv"
+}
@@ -0,0 +1,272 @@
+package com.venomie.hytaleleveladditions.simulator;
+
+import com.venomie.hytaleleveladditions.config.SkillConfig;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.engine.DropSink;
+import com.venomie.hytaleleveladditions.engine.MiningEngine;
+import com.venomie.hytaleleveladditions.engine.RandomSource;
+import com.venomie.hytaleleveladditions.journal.OverflowPolicy;
+import com.venomie.hytaleleveladditions.journal.XpJournal;
+import com.venomie.hytaleleveladditions.loot.LootRandom;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.perks.MiningPerkTable;
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Replays synthetic ore breaks through {@link MiningEngine} without a server.
+ * <p>
+ * Each worker thread owns a partition of virtual players, like a world thread owns its
+ * players, and breaks ores for them round robin: XP grant, bonus drop roll and the
+ * vein-mining gate, exactly as BreakOreEventSystem does. Drops go to a counting sink and
+ * level-ups to a counting notifier.
+ * <p>
+ * Reports throughput and bytes allocated per event (from the JVM's per-thread allocation
+ * counters), so changes to core can be compared at populations no test server reaches.
+ * <pre>
+ *   --players N   virtual players (default 1000)
+ *   --events N    ore breaks in total (default 5000000)
+ *   --threads N   worker threads (default: available processors)
+ *   --seed N      fixed loot seed for repeatable drops (default: random)
+ *   --config DIR  skill config directory (default: bundled defaults)
+ *   --metrics     also record PluginMetrics and print them at the end
+ *   --xp-log DIR  also record every break in an XP log journal written to DIR
+ * </pre>
+ */
+public final class HeadlessSimulator {
+
+    private HeadlessSimulator() {
+        // Utility class; prevent instantiation
+    }
+
+    /** Mining level unlocking vein mining, matching the PluginConfig default */
+    private static final int VEIN_MINE_MIN_LEVEL = 60;
+
+    /** XP log limits, matching the PluginConfig defaults */
+    private static final XpJournal.Settings XP_LOG_SETTINGS =
+            new XpJournal.Settings(65_536, 64L * 1024 * 1024, 16, OverflowPolicy.Drop);
+
+    public static void main(String[] args) throws Exception {
+        int players = 1000;
+        long events = 5_000_000L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Long seed = null;
+        Path configDir = null;
+        boolean metrics = false;
+        Path xpLogDir = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--players" -> players = Integer.parseInt(args[++i]);
+                case "--events" -> events = Long.parseLong(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--config" -> configDir = Path.of(args[++i]);
+                case "--metrics" -> metrics = true;
+                case "--xp-log" -> xpLogDir = Path.of(args[++i]);
+                default -> {
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+                    return;
+                }
+            }
+        }
+        if (players <= 0 || events <= 0 || threads <= 0) {
+            System.err.println("--players, --events and --threads must be positive");
+            System.exit(2);
+        }
+        threads = Math.min(threads, players);
+
+        SkillConfig config = loadConfig(configDir);
+        OreProfile[] ores = config.getOres().toArray(new OreProfile[0]);
+        if (ores.length == 0) {
+            System.err.println("The skill config lists no ores");
+            System.exit(1);
+        }
+        if (seed != null) LootRandom.useFixedSeed(seed);
+        PluginMetrics.setEnabled(metrics);
+        MiningPerkTable.setVeinMineMinLevel(VEIN_MINE_MIN_LEVEL);
+
+        XpJournal journal = xpLogDir == null ? null : XpJournal.open(xpLogDir, XP_LOG_SETTINGS);
+
+        System.out.printf("Simulating %,d ore breaks for %,d players on %d threads (%d ores)%n",
+                events, players, threads, ores.length);
+
+        // Workers are set up here and wait at the gate, so thread start-up is not timed
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Worker> workers = new ArrayList<>(threads);
+        List<Thread> running = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            // Spread players and events evenly; the first partitions take the remainders
+            int partition = players / threads + (t < players % threads ? 1 : 0);
+            long share = events / threads + (t < events % threads ? 1 : 0);
+            String name = "Simulator-" + t;
+            Worker worker = new Worker(partition, share, ores, t, name, journal, startGate);
+            workers.add(worker);
+            Thread thread = new Thread(worker, name);
+            running.add(thread);
+            thread.start();
+        }
+
+        long start = System.nanoTime();
+        startGate.countDown();
+        for (Thread thread : running) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        if (journal != null) journal.close();
+
+        long broken = 0, allocated = 0, levelUps = 0, drops = 0, veinReady = 0, xp = 0;
+        for (Worker worker : workers) {
+            if (worker.failure != null) throw new IllegalStateException("Worker failed", worker.failure);
+            broken += worker.events;
+            // -1 from any worker means the JVM does not track allocation
+            allocated = allocated < 0 || worker.allocatedBytes < 0 ? -1 : allocated + worker.allocatedBytes;
+            levelUps += worker.levelUps;
+            drops += worker.drops;
+            veinReady += worker.veinReady;
+            xp += worker.xp;
+        }
+
+        double seconds = elapsed / 1e9;
+        System.out.printf("Elapsed:        %.3f s%n", seconds);
+        System.out.printf("Throughput:     %,.0f events/s (%,.0f per thread)%n",
+                broken / seconds, broken / seconds / threads);
+        System.out.printf("Allocation:     %.2f bytes/event%n", allocated < 0 ? Double.NaN : (double) allocated / broken);
+        System.out.printf("XP granted:     %,d%n", xp);
+        System.out.printf("Level-ups:      %,d%n", levelUps);
+        System.out.printf("Bonus drops:    %,d items%n", drops);
+        System.out.printf("Vein-mine gate: %,d events passed%n", veinReady);
+        if (metrics) {
+            PluginMetrics.report().forEach(System.out::println);
+        }
+        if (journal != null) {
+            journal.report().forEach(System.out::println);
+        }
+    }
+
+    private static SkillConfig loadConfig(Path configDir) throws IOException {
+        return configDir == null ? SkillConfigs.current() : SkillConfigs.load(configDir);
+    }
+
+    // ===============================
+    // Worker
+    // ===============================
+
+    /** Virtual player: the handle passed to the notifier */
+    private static final class VirtualPlayer {
+        final SkillSet skills = new SkillSet();
+        final UUID id;
+
+        VirtualPlayer(UUID id) {
+            this.id = id;
+        }
+    }
+
+    /** One thread's partition of players and share of the events */
+    private static final class Worker implements Runnable, DropSink {
+
+        private final VirtualPlayer[] players;
+        private final long events;
+        private final OreProfile[] ores;
+        private final SplittableRandom random;
+        private final XpJournal journal;
+        private final CountDownLatch startGate;
+        private final MiningEngine<VirtualPlayer> engine;
+        private final int worldId;
+        private final int[] oreIds;
+
+        // Results, read after join()
+        long allocatedBytes;
+        long levelUps;
+        long drops;
+        long veinReady;
+        long xp;
+        Throwable failure;
+
+        Worker(int playerCount, long events, OreProfile[] ores, int index, String name, XpJournal journal,
+               CountDownLatch startGate) {
+            this.players = new VirtualPlayer[playerCount];
+            for (int i = 0; i < playerCount; i++) {
+                players[i] = new VirtualPlayer(new UUID(index, i));
+            }
+            this.events = events;
+            this.ores = ores;
+            this.random = new SplittableRandom(0x5EEDL + index);
+            this.journal = journal;
+            this.startGate = startGate;
+            this.engine = new MiningEngine<>(
+                    (player, skills, skill, change) -> {
+                        if (change.leveledUp()) levelUps++;
+                    },
+                    RandomSource.DEFAULT);
+
+            // Name IDs are resolved up front, as the plugin's per-tick caches would
+            this.worldId = journal == null ? 0 : journal.nameId(name);
+            this.oreIds = new int[ores.length];
+            for (int i = 0; journal != null && i < ores.length; i++) {
+                oreIds[i] = journal.nameId(ores[i].getPrefix());
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                startGate.await();
+
+                long allocatedBefore = allocatedBytes();
+                int cursor = 0;
+                for (long i = 0; i < events; i++) {
+                    VirtualPlayer player = players[cursor];
+                    if (++cursor == players.length) cursor = 0;
+                    int oreIndex = random.nextInt(ores.length);
+                    OreProfile ore = ores[oreIndex];
+
+                    // Same order as BreakOreEventSystem: XP, bonus drop, vein-mining gate
+                    long gained = MiningEngine.xpFor(ore, 1);
+                    engine.grantXp(player, player.skills, gained);
+                    xp += gained;
+                    if (journal != null) {
+                        journal.record(System.currentTimeMillis(), player.id, SkillType.Mining, gained, 1f, 1,
+                                worldId, oreIds[oreIndex], cursor, 64, (int) i);
+                    }
+                    engine.dropBonus(player.skills, ore, 1, 0, 64, 0, this);
+                    if (MiningEngine.canVeinMine(player.skills, ore)) veinReady++;
+                }
+                long allocatedAfter = allocatedBytes();
+                allocatedBytes = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+
+                // Keep the players reachable so the work cannot be optimised away
+                if (players.length > 0 && players[0].skills.getXp(SkillType.Mining) < 0) {
+                    throw new IllegalStateException();
+                }
+            } catch (Throwable t) {
+                failure = t;
+            }
+        }
+
+        @Override
+        public void drop(String itemId, int amount, int blockX, int blockY, int blockZ) {
+            drops += amount;
+        }
+
+        /** Bytes allocated by the calling thread so far; -1 if the JVM does not track it */
+        private static long allocatedBytes() {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean.getCurrentThreadAllocatedBytes();
+            }
+            return -1;
+        }
+    }
+}
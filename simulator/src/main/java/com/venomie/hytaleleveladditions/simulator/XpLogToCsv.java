@@ -0,0 +1,57 @@
+package com.venomie.hytaleleveladditions.simulator;
+
+import com.venomie.hytaleleveladditions.journal.XpLogReader;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts XP log segments (the plugin's {@code xp_log} directory) to CSV.
+ * <pre>
+ *   XpLogToCsv [--out FILE] PATH...
+ *
+ *   PATH        a segment file, or a directory whose segments are read oldest first
+ *   --out FILE  write the CSV to FILE instead of standard output
+ * </pre>
+ */
+public final class XpLogToCsv {
+
+    private XpLogToCsv() {
+        // Utility class; prevent instantiation
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path out = null;
+        List<Path> segments = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--out")) {
+                out = Path.of(args[++i]);
+            } else if (args[i].startsWith("--")) {
+                System.err.println("Unknown option: " + args[i]);
+                System.exit(2);
+                return;
+            } else {
+                segments.addAll(XpLogReader.segments(Path.of(args[i])));
+            }
+        }
+        if (segments.isEmpty()) {
+            System.err.println("Usage: XpLogToCsv [--out FILE] PATH...");
+            System.exit(2);
+        }
+
+        long events;
+        try (Writer writer = out == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            events = XpLogReader.toCsv(segments, writer);
+        }
+        System.err.printf("Converted %,d events from %d segments%n", events, segments.size());
+    }
+}
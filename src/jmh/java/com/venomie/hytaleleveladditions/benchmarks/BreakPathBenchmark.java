@@ -0,0 +1,75 @@
+package com.venomie.hytaleleveladditions.benchmarks;
+
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.formulas.SkillFormula;
+import com.venomie.hytaleleveladditions.ores.IdentityTable;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.skills.LevelChange;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import com.venomie.hytaleleveladditions.systems.constants.OreConstants;
+import com.venomie.hytaleleveladditions.systems.helpers.MiningDropHelper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulated block break, replaying the plugin-side work of BreakOreEventSystem.handle
+ * over a mixed stream of ore and non-ore blocks.
+ * <p>
+ * Player, Store and World are stubbed out: the level-up message goes to a Blackhole and
+ * the drop amount is consumed instead of spawned. Everything the plugin owns (ore lookup,
+ * XP/level update, drop roll) runs as in production.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BreakPathBenchmark {
+
+    /** Starting player level; veterans stress the level curve the most */
+    @Param({"1", "50", "300"})
+    public int startLevel;
+
+    private static final String[] BLOCK_STREAM = {
+            "Rock_Stone", "Soil_Dirt", "Ore_Copper_Stone", "Rock_Stone",
+            "Ore_Iron_Stone", "Rock_Basalt", "Soil_Gravel", "Ore_Gold_Stone",
+            "Rock_Stone", "Ore_Mithril_Volcanic"
+    };
+
+    private static final OreProfile NOT_ORE = new OreProfile(null, 0, 0, null);
+
+    /** OreRegistry's table, keyed by ID string since BlockType needs a running server */
+    private final IdentityTable<String, OreProfile> registry = new IdentityTable<>();
+    private SkillsComponent skills;
+    private int cursor;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        registry.clear();
+        for (String id : BLOCK_STREAM) {
+            OreProfile profile = OreConstants.classify(id);
+            registry.putAbsent(id, profile == null ? NOT_ORE : profile);
+        }
+        skills = new SkillsComponent();
+        skills.setXp(SkillType.Mining, SkillFormula.totalXpForLevel(startLevel));
+        cursor = 0;
+    }
+
+    @Benchmark
+    public void breakBlock(Blackhole bh) {
+        String blockId = BLOCK_STREAM[cursor];
+        cursor = (cursor + 1) % BLOCK_STREAM.length;
+
+        OreProfile ore = registry.get(blockId);
+        if (ore == NOT_ORE) return;
+
+        // MiningXpAccrualSystem applying this break's XP, with a stubbed player
+        if (ore.isListed()) {
+            LevelChange change = skills.addXp(SkillType.Mining, ore.getXp());
+            if (change.leveledUp()) bh.consume(change.newLevel());
+        }
+
+        // MiningDropHelper.handleExtraCoalDrop without spawning
+        bh.consume(MiningDropHelper.rollBonusDrop(ore, skills.getLevel(SkillType.Mining)));
+    }
+}
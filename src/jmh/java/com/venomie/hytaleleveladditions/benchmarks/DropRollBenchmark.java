@@ -0,0 +1,34 @@
+package com.venomie.hytaleleveladditions.benchmarks;
+
+import com.venomie.hytaleleveladditions.loot.LootEntry;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.systems.constants.OreConstants;
+import com.venomie.hytaleleveladditions.systems.helpers.MiningDropHelper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bonus drop rolling per player level. Threads > 1 shows RNG contention.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DropRollBenchmark {
+
+    @Param({"5", "15", "35", "60"})
+    public int level;
+
+    private final OreProfile ore = OreConstants.getProfiles().get(0);
+
+    @Benchmark
+    public LootEntry rollBonusDrop() {
+        return MiningDropHelper.rollBonusDrop(ore, level);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public LootEntry rollBonusDropContended() {
+        return MiningDropHelper.rollBonusDrop(ore, level);
+    }
+}
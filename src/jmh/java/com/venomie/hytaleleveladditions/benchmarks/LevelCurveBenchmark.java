@@ -0,0 +1,59 @@
+package com.venomie.hytaleleveladditions.benchmarks;
+
+import com.venomie.hytaleleveladditions.formulas.SkillFormula;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * XP → level conversion across the level range.
+ * legacyGetLevelForXp is the original per-level Math.pow loop, kept as a baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LevelCurveBenchmark {
+
+    /** Player level the XP value is taken from */
+    @Param({"1", "10", "50", "100", "500"})
+    public int level;
+
+    private int xp;
+
+    @Setup
+    public void setup() {
+        // Halfway into the level so we never sit exactly on a threshold
+        xp = SkillFormula.totalXpForLevel(level) + SkillFormula.xpForLevel(level + 1) / 2;
+    }
+
+    @Benchmark
+    public int getLevelForXp() {
+        return SkillFormula.getLevelForXp(xp);
+    }
+
+    @Benchmark
+    public int totalXpForLevel() {
+        return SkillFormula.totalXpForLevel(level);
+    }
+
+    @Benchmark
+    public int getXpToNextLevel() {
+        return SkillFormula.getXpToNextLevel(xp);
+    }
+
+    @Benchmark
+    public int legacyGetLevelForXp() {
+        long target = xp;
+        if (target <= 0) return 1;
+
+        int lvl = 1;
+        long accumulatedXp = 0;
+        while (true) {
+            long xpNeeded = Math.round(100 * Math.pow(lvl, 1.5));
+            if (accumulatedXp + xpNeeded > target) break;
+            accumulatedXp += xpNeeded;
+            lvl++;
+        }
+        return lvl;
+    }
+}
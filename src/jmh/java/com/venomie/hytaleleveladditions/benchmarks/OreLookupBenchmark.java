@@ -0,0 +1,53 @@
+package com.venomie.hytaleleveladditions.benchmarks;
+
+import com.venomie.hytaleleveladditions.ores.IdentityTable;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.systems.constants.OreConstants;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ore classification for ore and non-ore block IDs.
+ * <p>
+ * classify is the uncached string path; cachedLookup reads the IdentityTable OreRegistry
+ * caches BlockTypes in, keyed by the ID string instead (BlockType itself can't be built
+ * outside a running server).
+ * legacyChecks replays the four string passes the break path used to do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OreLookupBenchmark {
+
+    @Param({"Ore_Copper_Stone", "Ore_Onyxium_Volcanic", "Rock_Stone", "Soil_Dirt"})
+    public String blockId;
+
+    private final IdentityTable<String, OreProfile> identityCache = new IdentityTable<>();
+    private static final OreProfile NOT_ORE = new OreProfile(null, 0, 0, null);
+
+    @Setup
+    public void setup() {
+        OreProfile profile = OreConstants.classify(blockId);
+        identityCache.putAbsent(blockId, profile == null ? NOT_ORE : profile);
+    }
+
+    @Benchmark
+    public OreProfile classify() {
+        return OreConstants.classify(blockId);
+    }
+
+    @Benchmark
+    public OreProfile cachedLookup() {
+        OreProfile profile = identityCache.get(blockId);
+        return profile == NOT_ORE ? null : profile;
+    }
+
+    @Benchmark
+    public int legacyChecks() {
+        if (!blockId.contains("Ore")) return 0;
+        if (!OreConstants.isOre(blockId)) return 0;
+        int xp = OreConstants.getXpForOre(blockId);
+        return blockId.contains("Ore") ? xp : 0;
+    }
+}
@@ -1,48 +1,404 @@
 package com.venomie.hytaleleveladditions;
 
 import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.util.Config;
+import com.venomie.hytaleleveladditions.boosts.XpBoosts;
 import com.venomie.hytaleleveladditions.commands.MiningCommand;
+import com.venomie.hytaleleveladditions.commands.PartyCommand;
 import com.venomie.hytaleleveladditions.components.MiningLevelComponent;
+import com.venomie.hytaleleveladditions.components.SkillHudComponent;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.config.PluginConfig;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.journal.OverflowPolicy;
+import com.venomie.hytaleleveladditions.journal.XpJournal;
+import com.venomie.hytaleleveladditions.leaderboard.Leaderboards;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.party.Parties;
+import com.venomie.hytaleleveladditions.perks.MiningPerkTable;
+import com.venomie.hytaleleveladditions.resources.BulkJobQueue;
+import com.venomie.hytaleleveladditions.resources.DropSpawnQueue;
+import com.venomie.hytaleleveladditions.resources.JoinQueue;
+import com.venomie.hytaleleveladditions.resources.MiningXpAccumulator;
+import com.venomie.hytaleleveladditions.resources.OreSectionIndex;
+import com.venomie.hytaleleveladditions.resources.PartyMemberGrid;
+import com.venomie.hytaleleveladditions.resources.PlacedOreIndex;
+import com.venomie.hytaleleveladditions.resources.ProspectQueue;
+import com.venomie.hytaleleveladditions.resources.SkillHudQueue;
+import com.venomie.hytaleleveladditions.resources.SwordDamageAccumulator;
+import com.venomie.hytaleleveladditions.resources.SwordTargetLedger;
+import com.venomie.hytaleleveladditions.resources.VeinMineQueue;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import com.venomie.hytaleleveladditions.storage.SkillSnapshotStore;
 import com.venomie.hytaleleveladditions.systems.BreakOreEventSystem;
+import com.venomie.hytaleleveladditions.systems.BulkOperationSystem;
+import com.venomie.hytaleleveladditions.systems.DropSpawnSystem;
+import com.venomie.hytaleleveladditions.systems.JoinSystem;
+import com.venomie.hytaleleveladditions.systems.MiningXpAccrualSystem;
+import com.venomie.hytaleleveladditions.systems.PartyGridSystem;
+import com.venomie.hytaleleveladditions.systems.PlaceOreEventSystem;
 import com.venomie.hytaleleveladditions.systems.PlayerLevelMiningSystem;
+import com.venomie.hytaleleveladditions.systems.ProspectSystem;
+import com.venomie.hytaleleveladditions.systems.SkillHudSystem;
+import com.venomie.hytaleleveladditions.systems.SwordDamageEventSystem;
+import com.venomie.hytaleleveladditions.systems.SwordXpAccrualSystem;
+import com.venomie.hytaleleveladditions.systems.VeinMiningSystem;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillHudHelper;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class ExamplePlugin extends JavaPlugin {
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
     private static ExamplePlugin instance;
+    private final Config<PluginConfig> config;
+    private ScheduledExecutorService metricsLogger;
+    private ScheduledExecutorService snapshotFlusher;
+    private SkillSnapshotStore snapshotStore;
+    private XpJournal xpJournal;
     private ComponentType<EntityStore, MiningLevelComponent> miningComponent;
+    private ComponentType<EntityStore, SkillsComponent> skillsComponent;
+    private ComponentType<EntityStore, SkillHudComponent> skillHudComponent;
+    private ResourceType<EntityStore, MiningXpAccumulator> miningXpAccumulator;
+    private ResourceType<EntityStore, DropSpawnQueue> dropSpawnQueue;
+    private ResourceType<EntityStore, BulkJobQueue> bulkJobQueue;
+    private ResourceType<EntityStore, VeinMineQueue> veinMineQueue;
+    private ResourceType<EntityStore, PlacedOreIndex> placedOreIndex;
+    private ResourceType<EntityStore, SkillHudQueue> skillHudQueue;
+    private ResourceType<EntityStore, SwordDamageAccumulator> swordDamageAccumulator;
+    private ResourceType<EntityStore, SwordTargetLedger> swordTargetLedger;
+    private ResourceType<EntityStore, JoinQueue> joinQueue;
+    private ResourceType<EntityStore, PartyMemberGrid> partyMemberGrid;
+    private ResourceType<EntityStore, OreSectionIndex> oreSectionIndex;
+    private ResourceType<EntityStore, ProspectQueue> prospectQueue;
 
 
     public ExamplePlugin(JavaPluginInit init) {
         super(init);
         instance = this;
+        this.config = this.withConfig("LevelAdditions", PluginConfig.CODEC);
     }
 
     public static ExamplePlugin instance() {
         return instance;
     }
 
+    /** Legacy Mining component; only kept registered so old saves can be migrated */
     public static ComponentType<EntityStore, MiningLevelComponent> getMiningComponentType() {
         return instance.miningComponent;
     }
 
+    public static ComponentType<EntityStore, SkillsComponent> getSkillsComponentType() {
+        return instance.skillsComponent;
+    }
+
+    public static ComponentType<EntityStore, SkillHudComponent> getSkillHudComponentType() {
+        return instance.skillHudComponent;
+    }
+
+    public static ResourceType<EntityStore, MiningXpAccumulator> getMiningXpAccumulatorType() {
+        return instance.miningXpAccumulator;
+    }
+
+    public static ResourceType<EntityStore, DropSpawnQueue> getDropSpawnQueueType() {
+        return instance.dropSpawnQueue;
+    }
+
+    public static ResourceType<EntityStore, BulkJobQueue> getBulkJobQueueType() {
+        return instance.bulkJobQueue;
+    }
+
+    public static ResourceType<EntityStore, VeinMineQueue> getVeinMineQueueType() {
+        return instance.veinMineQueue;
+    }
+
+    public static ResourceType<EntityStore, PlacedOreIndex> getPlacedOreIndexType() {
+        return instance.placedOreIndex;
+    }
+
+    public static ResourceType<EntityStore, SkillHudQueue> getSkillHudQueueType() {
+        return instance.skillHudQueue;
+    }
+
+    public static ResourceType<EntityStore, SwordDamageAccumulator> getSwordDamageAccumulatorType() {
+        return instance.swordDamageAccumulator;
+    }
+
+    public static ResourceType<EntityStore, SwordTargetLedger> getSwordTargetLedgerType() {
+        return instance.swordTargetLedger;
+    }
+
+    public static ResourceType<EntityStore, JoinQueue> getJoinQueueType() {
+        return instance.joinQueue;
+    }
+
+    public static ResourceType<EntityStore, PartyMemberGrid> getPartyMemberGridType() {
+        return instance.partyMemberGrid;
+    }
+
+    public static ResourceType<EntityStore, OreSectionIndex> getOreSectionIndexType() {
+        return instance.oreSectionIndex;
+    }
+
+    public static ResourceType<EntityStore, ProspectQueue> getProspectQueueType() {
+        return instance.prospectQueue;
+    }
+
+    /** Offline skill snapshots; null if the snapshot file could not be opened */
+    public static SkillSnapshotStore getSnapshotStore() {
+        return instance.snapshotStore;
+    }
+
+    /** XP event log; null if disabled in config or the log directory could not be created */
+    public static XpJournal getXpJournal() {
+        return instance.xpJournal;
+    }
+
+    public static PluginConfig getConfig() {
+        return instance.config.get();
+    }
+
     @Override
     protected void setup() {
-        // Register component
+        PluginConfig pluginConfig = this.config.get();
+        PluginMetrics.setEnabled(pluginConfig.isMetricsEnabled());
+
+        // Register components
+        this.skillsComponent = this.getEntityStoreRegistry().registerComponent(
+                SkillsComponent.class,
+                "SkillsComponent",
+                SkillsComponent.CODEC
+        );
+        // Legacy component, still registered so existing saves decode and can be migrated
         this.miningComponent = this.getEntityStoreRegistry().registerComponent(
                 MiningLevelComponent.class,
                 "MiningLevelComponent",
                 MiningLevelComponent.CODEC
         );
+        // HUD state belongs to the connection; not persisted
+        this.skillHudComponent = this.getEntityStoreRegistry().registerComponent(
+                SkillHudComponent.class,
+                SkillHudComponent::new
+        );
+
+        // Register per-world resources
+        this.miningXpAccumulator = this.getEntityStoreRegistry().registerResource(
+                MiningXpAccumulator.class,
+                MiningXpAccumulator::new
+        );
+        int dropMergeCellSize = pluginConfig.getDropMergeCellSize();
+        this.dropSpawnQueue = this.getEntityStoreRegistry().registerResource(
+                DropSpawnQueue.class,
+                () -> new DropSpawnQueue(dropMergeCellSize)
+        );
+        this.bulkJobQueue = this.getEntityStoreRegistry().registerResource(
+                BulkJobQueue.class,
+                BulkJobQueue::new
+        );
+        this.veinMineQueue = this.getEntityStoreRegistry().registerResource(
+                VeinMineQueue.class,
+                VeinMineQueue::new
+        );
+        // Persisted with the world, so placed ores stay marked across restarts
+        this.placedOreIndex = this.getEntityStoreRegistry().registerResource(
+                PlacedOreIndex.class,
+                "PlacedOreIndex",
+                PlacedOreIndex.CODEC
+        );
+        this.skillHudQueue = this.getEntityStoreRegistry().registerResource(
+                SkillHudQueue.class,
+                SkillHudQueue::new
+        );
+        this.swordDamageAccumulator = this.getEntityStoreRegistry().registerResource(
+                SwordDamageAccumulator.class,
+                SwordDamageAccumulator::new
+        );
+        this.swordTargetLedger = this.getEntityStoreRegistry().registerResource(
+                SwordTargetLedger.class,
+                SwordTargetLedger::new
+        );
+        this.joinQueue = this.getEntityStoreRegistry().registerResource(
+                JoinQueue.class,
+                JoinQueue::new
+        );
+        int partyShareRadius = Math.max(1, pluginConfig.getPartyShareRadius());
+        this.partyMemberGrid = this.getEntityStoreRegistry().registerResource(
+                PartyMemberGrid.class,
+                () -> new PartyMemberGrid(partyShareRadius)
+        );
+        // Rebuilt from the world on demand, so not persisted
+        int prospectCacheSections = pluginConfig.getProspectCacheSections();
+        long prospectCacheMillis = Math.max(0, pluginConfig.getProspectCacheSeconds()) * 1000L;
+        this.oreSectionIndex = this.getEntityStoreRegistry().registerResource(
+                OreSectionIndex.class,
+                () -> new OreSectionIndex(prospectCacheSections, prospectCacheMillis)
+        );
+        this.prospectQueue = this.getEntityStoreRegistry().registerResource(
+                ProspectQueue.class,
+                ProspectQueue::new
+        );
+
+        // Load balance settings (ore XP, curves, loot) up front so the first ore break doesn't pay for it
+        loadSkillConfig();
+        MiningPerkTable.setVeinMineMinLevel(pluginConfig.getVeinMineMinLevel());
+        MiningPerkTable.setProspectMinLevel(pluginConfig.getProspectMinLevel());
+        Parties.setMaxSize(pluginConfig.getPartyMaxSize());
+
+        // Offline snapshots; also seed leaderboards so offline players are ranked
+        openSnapshotStore(pluginConfig.getSnapshotFlushIntervalSeconds());
+        if (pluginConfig.isXpLogEnabled()) openXpJournal(pluginConfig);
 
         // Register systems safely
-        this.getEntityStoreRegistry().registerSystem(new PlayerLevelMiningSystem(this.miningComponent));
+        this.getEntityStoreRegistry().registerSystem(new PlayerLevelMiningSystem(this.skillsComponent, this.joinQueue));
+        this.getEntityStoreRegistry().registerSystem(new JoinSystem(this.joinQueue, this.partyMemberGrid,
+                pluginConfig.getJoinsPerTick()));
+        this.getEntityStoreRegistry().registerSystem(new PartyGridSystem(this.partyMemberGrid));
         this.getEntityStoreRegistry().registerSystem(new BreakOreEventSystem());
+        this.getEntityStoreRegistry().registerSystem(new PlaceOreEventSystem());
+        this.getEntityStoreRegistry().registerSystem(new MiningXpAccrualSystem(this.miningXpAccumulator));
+        this.getEntityStoreRegistry().registerSystem(new VeinMiningSystem(this.skillsComponent, this.veinMineQueue,
+                this.miningXpAccumulator, this.dropSpawnQueue, this.placedOreIndex, this.oreSectionIndex,
+                pluginConfig.getVeinMineBlocksPerTick()));
+        this.getEntityStoreRegistry().registerSystem(new DropSpawnSystem(this.dropSpawnQueue,
+                pluginConfig.getDropSpawnsPerTick()));
+        this.getEntityStoreRegistry().registerSystem(new ProspectSystem(this.prospectQueue, this.oreSectionIndex,
+                this.placedOreIndex, pluginConfig.getProspectSectionsPerTick()));
+        this.getEntityStoreRegistry().registerSystem(new SwordDamageEventSystem(this.swordDamageAccumulator,
+                this.swordTargetLedger));
+        this.getEntityStoreRegistry().registerSystem(new SwordXpAccrualSystem(this.swordDamageAccumulator,
+                this.swordTargetLedger));
+        if (pluginConfig.getHudUpdatesPerSecond() > 0) {
+            SkillHudHelper.setEnabled(true);
+            this.getEntityStoreRegistry().registerSystem(new SkillHudSystem(this.skillHudComponent, this.skillHudQueue,
+                    pluginConfig.getHudUpdatesPerSecond()));
+        }
+        this.getEntityStoreRegistry().registerSystem(new BulkOperationSystem(this.skillsComponent, this.bulkJobQueue,
+                pluginConfig.getBulkOperationBudgetMicros() * 1000L));
 
         // Register commands
         this.getCommandRegistry().registerCommand(new MiningCommand());
+        this.getCommandRegistry().registerCommand(new PartyCommand());
+
+        // Optional periodic metrics dump
+        int interval = pluginConfig.getMetricsLogIntervalSeconds();
+        if (pluginConfig.isMetricsEnabled() && interval > 0) {
+            this.metricsLogger = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "LevelAdditions-Metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.metricsLogger.scheduleAtFixedRate(() -> {
+                for (String line : PluginMetrics.report()) {
+                    LOGGER.atInfo().log("[Mining metrics] " + line);
+                }
+            }, interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    protected void shutdown() {
+        if (this.metricsLogger != null) {
+            this.metricsLogger.shutdownNow();
+            this.metricsLogger = null;
+        }
+        if (this.snapshotFlusher != null) {
+            this.snapshotFlusher.shutdown();
+            try {
+                this.snapshotFlusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            this.snapshotFlusher = null;
+        }
+        if (this.snapshotStore != null) {
+            try {
+                this.snapshotStore.close();
+            } catch (IOException e) {
+                LOGGER.atWarning().withCause(e).log("Failed to write skill snapshots on shutdown");
+            }
+            this.snapshotStore = null;
+        }
+        if (this.xpJournal != null) {
+            // Writes whatever is still buffered
+            this.xpJournal.close();
+            this.xpJournal = null;
+        }
+        // Boosts and parties are in-memory only; don't carry them into a plugin reload
+        XpBoosts.clear();
+        Parties.clear();
+        SkillHudHelper.setEnabled(false);
     }
-}
 
+    private void loadSkillConfig() {
+        try {
+            SkillConfigs.load(this.getDataDirectory().resolve("Skills"));
+        } catch (IOException | IllegalArgumentException e) {
+            // Fall back to the bundled defaults rather than running without ores
+            LOGGER.atWarning().withCause(e).log("Failed to load skill config, using bundled defaults");
+            SkillConfigs.current();
+        }
+    }
+
+    private void openSnapshotStore(int flushIntervalSeconds) {
+        try {
+            this.snapshotStore = SkillSnapshotStore.open(this.getDataDirectory().resolve("skill_snapshots.dat"));
+        } catch (IOException e) {
+            // Plugin still works without it; offline lookups and leaderboard seeding are skipped
+            LOGGER.atWarning().withCause(e).log("Failed to open skill snapshot file");
+            return;
+        }
+
+        this.snapshotStore.forEach(snapshot -> {
+            for (SkillType skill : SkillType.values()) {
+                long xp = snapshot.getXp(skill);
+                if (xp > 0) Leaderboards.forSkill(skill).update(snapshot.playerId(), snapshot.name(), xp);
+            }
+        });
+
+        int interval = Math.max(1, flushIntervalSeconds);
+        this.snapshotFlusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "LevelAdditions-Snapshots");
+            thread.setDaemon(true);
+            return thread;
+        });
+        SkillSnapshotStore store = this.snapshotStore;
+        this.snapshotFlusher.scheduleWithFixedDelay(() -> {
+            try {
+                store.flush();
+            } catch (IOException e) {
+                LOGGER.atWarning().withCause(e).log("Failed to flush skill snapshots");
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+
+    private void openXpJournal(PluginConfig pluginConfig) {
+        OverflowPolicy overflow;
+        try {
+            overflow = OverflowPolicy.valueOf(pluginConfig.getXpLogOverflowPolicy());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            LOGGER.atWarning().log("Unknown XpLogOverflowPolicy '" + pluginConfig.getXpLogOverflowPolicy()
+                    + "', using Drop");
+            overflow = OverflowPolicy.Drop;
+        }
 
+        XpJournal.Settings settings = new XpJournal.Settings(
+                Math.max(1024, pluginConfig.getXpLogBufferRecords()),
+                Math.max(1, pluginConfig.getXpLogSegmentMegabytes()) * 1024L * 1024L,
+                pluginConfig.getXpLogMaxSegments(),
+                overflow);
+        try {
+            this.xpJournal = XpJournal.open(this.getDataDirectory().resolve("xp_log"), settings);
+        } catch (IOException e) {
+            // XP is still granted; only the audit trail is missing
+            LOGGER.atWarning().withCause(e).log("Failed to open the XP log");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.venomie.hytaleleveladditions.bulk;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One server-wide bulk operation, queued on every world.
+ * <p>
+ * Each world's BulkOperationSystem works through that world's online players a batch at
+ * a time and adds its progress here; the job completes when the last world is done. Any
+ * thread may read its progress or request cancellation, which takes effect at each
+ * world's next batch. Offline players are not touched: their skills are saved with their
+ * player entity and only loaded when they join.
+ */
+public final class BulkJob {
+
+    public enum State {
+        Queued,
+        Running,
+        Completed,
+        Cancelled
+    }
+
+    private final int id;
+    private final BulkOperation operation;
+    private final SkillType skill;
+    private final int levels;
+
+    /** Player to send progress to; null for console-issued jobs */
+    @Nullable
+    private final PlayerRef requester;
+
+    // Written by world threads, read by anyone
+    private volatile State state = State.Queued;
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger processed = new AtomicInteger();
+    private final AtomicInteger ticks = new AtomicInteger();
+    private final AtomicInteger worldsLeft = new AtomicInteger();
+    private final AtomicInteger reportedQuarter = new AtomicInteger();
+    private volatile boolean cancelRequested;
+
+    BulkJob(int id, BulkOperation operation, SkillType skill, int levels, @Nullable PlayerRef requester) {
+        this.id = id;
+        this.operation = operation;
+        this.skill = skill;
+        this.levels = levels;
+        this.requester = requester;
+    }
+
+    // ===============================
+    // Accessors
+    // ===============================
+
+    public int getId() {
+        return id;
+    }
+
+    public BulkOperation getOperation() {
+        return operation;
+    }
+
+    public SkillType getSkill() {
+        return skill;
+    }
+
+    /** Levels to grant; only used by GrantLevels */
+    public int getLevels() {
+        return levels;
+    }
+
+    @Nullable
+    public PlayerRef getRequester() {
+        return requester;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /** Players targeted so far, over the worlds that have started the job */
+    public int getTotal() {
+        return total.get();
+    }
+
+    public int getProcessed() {
+        return processed.get();
+    }
+
+    /** Number of world ticks the job has been worked on, summed over worlds */
+    public int getTicks() {
+        return ticks.get();
+    }
+
+    public boolean isFinished() {
+        State s = state;
+        return s == State.Completed || s == State.Cancelled;
+    }
+
+    /** Asks the job to stop after the current batch; players already processed keep the change */
+    public void cancel() {
+        cancelRequested = true;
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    /** One-line progress summary, e.g. "#3 ResetAll Mining: 120/400 (30%) Running" */
+    public String describe() {
+        int t = total.get();
+        int p = processed.get();
+        int percent = t == 0 ? (isFinished() ? 100 : 0) : (int) (p * 100L / t);
+        String target = operation == BulkOperation.GrantLevels ? " +" + levels : "";
+        return "#" + id + " " + operation + target + " " + skill + ": "
+                + p + "/" + t + " (" + percent + "%) " + state;
+    }
+
+    /**
+     * Returns true once per newly reached progress quarter (25%, 50%, 75%) of the whole job,
+     * so the requester gets one report per quarter however many worlds take part.
+     */
+    public boolean crossedQuarter() {
+        int t = total.get();
+        if (t == 0) return false;
+        int quarter = (int) (processed.get() * 4L / t);
+        int reported = reportedQuarter.get();
+        return quarter > reported && quarter < 4 && reportedQuarter.compareAndSet(reported, quarter);
+    }
+
+    // ===============================
+    // Submission and world-thread updates (BulkOperationSystem only)
+    // ===============================
+
+    /** Sets the number of worlds the job was queued on; call before queueing it */
+    public void expectWorlds(int worlds) {
+        worldsLeft.set(worlds);
+        if (worlds == 0) state = cancelRequested ? State.Cancelled : State.Completed;
+    }
+
+    /** A world collected its targets and starts working on the job */
+    public void startWorld(int worldTotal) {
+        total.addAndGet(worldTotal);
+        if (state == State.Queued) state = State.Running;
+    }
+
+    /** A world processed {@code count} more targets during one tick */
+    public void advance(int count) {
+        processed.addAndGet(count);
+        ticks.incrementAndGet();
+    }
+
+    /**
+     * A world is done with the job (finished or cancelled).
+     *
+     * @return true if it was the last world; the job is then Completed, or Cancelled if
+     * cancellation was requested
+     */
+    public boolean finishWorld() {
+        if (worldsLeft.decrementAndGet() > 0) return false;
+        state = cancelRequested ? State.Cancelled : State.Completed;
+        return true;
+    }
+}
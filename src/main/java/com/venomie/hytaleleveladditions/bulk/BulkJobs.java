@@ -0,0 +1,68 @@
+package com.venomie.hytaleleveladditions.bulk;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-wide registry of bulk jobs, used to look jobs up by ID for status and cancellation.
+ * <p>
+ * Finished jobs are kept (up to {@link #MAX_FINISHED}) so their final status can still be read.
+ */
+public final class BulkJobs {
+
+    private BulkJobs() {
+        // Utility class; prevent instantiation
+    }
+
+    private static final int MAX_FINISHED = 16;
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+    private static final Map<Integer, BulkJob> JOBS = new ConcurrentHashMap<>();
+
+    /**
+     * Creates and registers a job. The caller still has to queue it on each of the
+     * {@code worlds} worlds.
+     */
+    public static BulkJob create(BulkOperation operation, SkillType skill, int levels, @Nullable PlayerRef requester,
+                                 int worlds) {
+        prune();
+        BulkJob job = new BulkJob(NEXT_ID.getAndIncrement(), operation, skill, levels, requester);
+        job.expectWorlds(worlds);
+        JOBS.put(job.getId(), job);
+        return job;
+    }
+
+    @Nullable
+    public static BulkJob get(int id) {
+        return JOBS.get(id);
+    }
+
+    /** All known jobs, oldest first */
+    public static List<BulkJob> all() {
+        List<BulkJob> jobs = new ArrayList<>(JOBS.values());
+        jobs.sort(Comparator.comparingInt(BulkJob::getId));
+        return jobs;
+    }
+
+    /** Drops the oldest finished jobs beyond the retention limit */
+    private static void prune() {
+        List<BulkJob> finished = new ArrayList<>();
+        for (BulkJob job : JOBS.values()) {
+            if (job.isFinished()) finished.add(job);
+        }
+        if (finished.size() < MAX_FINISHED) return;
+
+        finished.sort(Comparator.comparingInt(BulkJob::getId));
+        for (int i = 0; i <= finished.size() - MAX_FINISHED; i++) {
+            JOBS.remove(finished.get(i).getId());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.venomie.hytaleleveladditions.bulk;
+
+/**
+ * Server-side operations that can be applied to every loaded player of a world.
+ */
+public enum BulkOperation {
+    /** Sets the skill's XP to 0 */
+    ResetAll,
+    /** Adds a fixed number of levels to the skill */
+    GrantLevels,
+    /** Re-derives the cached level from stored XP (e.g., after a curve change) */
+    Recompute
+}
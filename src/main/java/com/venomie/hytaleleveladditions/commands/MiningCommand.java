@@ -3,54 +3,164 @@ package com.venomie.hytaleleveladditions.commands;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
 import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.venomie.hytaleleveladditions.ExamplePlugin;
-import com.venomie.hytaleleveladditions.components.MiningLevelComponent;
-import com.venomie.hytaleleveladditions.formulas.SkillFormula;
+import com.venomie.hytaleleveladditions.boosts.BoostScope;
+import com.venomie.hytaleleveladditions.boosts.XpBoost;
+import com.venomie.hytaleleveladditions.boosts.XpBoosts;
+import com.venomie.hytaleleveladditions.bulk.BulkJob;
+import com.venomie.hytaleleveladditions.bulk.BulkJobs;
+import com.venomie.hytaleleveladditions.bulk.BulkOperation;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.config.SkillConfig;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.formulas.LevelCurve;
+import com.venomie.hytaleleveladditions.formulas.LevelCurves;
+import com.venomie.hytaleleveladditions.journal.XpJournal;
+import com.venomie.hytaleleveladditions.leaderboard.Leaderboard;
+import com.venomie.hytaleleveladditions.leaderboard.Leaderboards;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.perks.MiningPerkTable;
+import com.venomie.hytaleleveladditions.prospect.ProspectScan;
+import com.venomie.hytaleleveladditions.resources.BulkJobQueue;
+import com.venomie.hytaleleveladditions.resources.ProspectQueue;
+import com.venomie.hytaleleveladditions.skills.LevelChange;
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import com.venomie.hytaleleveladditions.systems.constants.OreConstants;
+import com.venomie.hytaleleveladditions.systems.helpers.MiningExperienceHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillComponentHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillHudHelper;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
 
 /**
  * Admin/player command for inspecting and modifying Mining levels.
  *
  * Usage:
  * /Mining                          → View current Mining level and XP
- * /Mining --Operation=AddLevel --Levels=5 → Add 5 Mining levels
+ * /Mining --Operation=AddLevel --Levels=5 → Add 5 Mining levels (admin)
  * /Mining --Operation=Reset         → Reset Mining level to 1 (XP = 0)
+ * /Mining --Operation=Stats         → Show plugin hot-path metrics
+ * /Mining --Operation=Top --Page=2  → Show the Mining leaderboard (10 per page) and your rank
+ * /Mining --Operation=ResetAll       → Reset Mining for every online player, in every world (admin)
+ * /Mining --Operation=GrantAll --Levels=5 → Grant 5 Mining levels to every online player, in every world (admin)
+ * /Mining --Operation=RecomputeAll   → Re-derive every online player's level from XP (after a curve change) (admin)
+ * /Mining --Operation=Jobs           → List bulk jobs and their progress
+ * /Mining --Operation=Cancel --Job=3 → Cancel bulk job #3 (admin)
+ * /Mining --Operation=Reload         → Reload Skills.json and Loot/Mining.json from the plugin data directory (admin)
+ * /Mining --Operation=Boost --Scope=Global --Multiplier=2 --Minutes=2880 → Double XP for everyone for 48 hours (admin)
+ * /Mining --Operation=Boost --Scope=World --Multiplier=1.5 --Minutes=60 --Delay=30 → 1.5x in this world, starting in 30 minutes (admin)
+ * /Mining --Operation=Boost --Scope=Player --Multiplier=2 --Minutes=30 → Personal 2x boost for yourself (admin)
+ * /Mining --Operation=Boosts         → List active and upcoming XP boosts
+ * /Mining --Operation=EndBoost --Boost=2 → End XP boost #2 early (admin)
+ * /Mining --Operation=Prospect      → Count the ores of each type around you (perk)
  *
  * Notes:
- * - Levels are computed dynamically from total XP using SkillFormula.
- * - Only integer XP values are supported; fractional XP is not used.
+ * - Levels are derived from total XP using the Mining LevelCurve.
+ * - Only whole XP values are supported; fractional XP is not used.
  * - Operation and Levels are named optional arguments.
+ * - Operations marked (admin) require the {@link #ADMIN_PERMISSION} permission.
+ * - Bulk operations run in time-budgeted batches over several ticks (see BulkOperationSystem).
+ *   Offline players are skipped: their skills are saved with their player and untouched
+ *   until they join again.
+ * - XP boosts stack multiplicatively and are kept in memory only (see XpBoosts).
+ * - Prospecting results arrive in chat once ProspectSystem has visited every nearby section.
  */
 public class MiningCommand extends AbstractPlayerCommand {
 
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
 
-    /** Optional operation argument: "AddLevel" or "Reset" */
+    /** Permission required for operations that change other players' skills or server state */
+    public static final String ADMIN_PERMISSION = "leveladditions.admin";
+
+    /** Optional operation argument: "AddLevel", "Reset", "Stats", "Top" or a bulk operation */
     private final OptionalArg<String> operationArg;
 
     /** Optional levels argument for AddLevel operation */
     private final OptionalArg<Integer> levelsToAddArg;
 
+    /** Optional page argument for Top operation */
+    private final OptionalArg<Integer> pageArg;
+
+    /** Optional job ID argument for Cancel operation */
+    private final OptionalArg<Integer> jobArg;
+
+    // Boost arguments
+    private final OptionalArg<String> scopeArg;
+    private final OptionalArg<String> multiplierArg;
+    private final OptionalArg<Integer> minutesArg;
+    private final OptionalArg<Integer> delayArg;
+    private final OptionalArg<Integer> boostArg;
+
+    private static final int TOP_PAGE_SIZE = 10;
+
     public MiningCommand() {
         super("Mining", "Get your Mining Level Details or modify it", false);
 
         this.operationArg = withOptionalArg(
                 "Operation",
-                "AddLevel or Reset",
+                "AddLevel, Reset, Stats, Top, ResetAll, GrantAll, RecomputeAll, Jobs, Cancel, Reload, Boost, Boosts, EndBoost or Prospect",
                 ArgTypes.STRING
         );
 
         this.levelsToAddArg = withOptionalArg(
                 "Levels",
-                "Amount of levels to add (required for AddLevel)",
+                "Amount of levels to add (required for AddLevel and GrantAll)",
+                ArgTypes.INTEGER
+        );
+
+        this.pageArg = withOptionalArg(
+                "Page",
+                "Leaderboard page for Top (default 1)",
+                ArgTypes.INTEGER
+        );
+
+        this.jobArg = withOptionalArg(
+                "Job",
+                "Bulk job ID (required for Cancel)",
+                ArgTypes.INTEGER
+        );
+
+        this.scopeArg = withOptionalArg(
+                "Scope",
+                "Boost scope: Global, World (this world) or Player (yourself)",
+                ArgTypes.STRING
+        );
+
+        this.multiplierArg = withOptionalArg(
+                "Multiplier",
+                "XP multiplier for Boost, e.g. 2 or 1.5",
+                ArgTypes.STRING
+        );
+
+        this.minutesArg = withOptionalArg(
+                "Minutes",
+                "Boost duration in minutes (required for Boost)",
+                ArgTypes.INTEGER
+        );
+
+        this.delayArg = withOptionalArg(
+                "Delay",
+                "Minutes until the boost starts (default 0)",
+                ArgTypes.INTEGER
+        );
+
+        this.boostArg = withOptionalArg(
+                "Boost",
+                "Boost ID (required for EndBoost)",
                 ArgTypes.INTEGER
         );
     }
@@ -65,15 +175,8 @@ public class MiningCommand extends AbstractPlayerCommand {
     ) {
         // ECS-safe execution
         world.execute(() -> {
-            MiningLevelComponent mining = store.getComponent(
-                    ref,
-                    ExamplePlugin.getMiningComponentType()
-            );
-
-            if (mining == null) {
-                ctx.sendMessage(Message.raw("Error: Player has no Mining component!"));
-                return;
-            }
+            // Null until the player earns skill XP; AddLevel attaches the component
+            SkillsComponent skills = SkillComponentHelper.get(store, ref);
 
             // Named optional arguments
             String operation = operationArg.get(ctx); // e.g., AddLevel or Reset
@@ -81,20 +184,61 @@ public class MiningCommand extends AbstractPlayerCommand {
 
             // === VIEW MODE ===
             if (operation == null) {
-                sendMiningUi(ctx, mining);
+                sendMiningUi(ctx, SkillComponentHelper.orUnskilled(skills));
                 return;
             }
 
             // === OPERATION DISPATCH ===
             switch (operation.toLowerCase()) {
                 case "addlevel" -> {
+                    if (!requireAdmin(ctx)) return;
                     if (levelsToAdd == null) {
                         ctx.sendMessage(Message.raw("You must specify the number of levels to add using --Levels=<amount>."));
                         return;
                     }
-                    addLevel(ctx, mining, levelsToAdd);
+                    addLevel(ctx, store, ref, playerRef, SkillComponentHelper.ensure(store, ref), levelsToAdd);
+                }
+                case "reset" -> resetLevel(ctx, store, ref, playerRef, skills);
+                case "stats" -> sendStats(ctx);
+                case "top" -> {
+                    Integer page = pageArg.get(ctx);
+                    sendTop(ctx, playerRef, page == null ? 1 : page);
+                }
+                case "resetall" -> {
+                    if (!requireAdmin(ctx)) return;
+                    submitBulk(ctx, playerRef, BulkOperation.ResetAll, 0);
+                }
+                case "grantall" -> {
+                    if (!requireAdmin(ctx)) return;
+                    if (levelsToAdd == null || levelsToAdd <= 0) {
+                        ctx.sendMessage(Message.raw("You must specify a positive number of levels using --Levels=<amount>."));
+                        return;
+                    }
+                    submitBulk(ctx, playerRef, BulkOperation.GrantLevels, levelsToAdd);
+                }
+                case "recomputeall" -> {
+                    if (!requireAdmin(ctx)) return;
+                    submitBulk(ctx, playerRef, BulkOperation.Recompute, 0);
+                }
+                case "jobs" -> sendJobs(ctx);
+                case "cancel" -> {
+                    if (!requireAdmin(ctx)) return;
+                    cancelJob(ctx, jobArg.get(ctx));
+                }
+                case "reload" -> {
+                    if (!requireAdmin(ctx)) return;
+                    reloadConfig(ctx, world);
+                }
+                case "boost" -> {
+                    if (!requireAdmin(ctx)) return;
+                    addBoost(ctx, playerRef, world);
+                }
+                case "boosts" -> sendBoosts(ctx);
+                case "endboost" -> {
+                    if (!requireAdmin(ctx)) return;
+                    endBoost(ctx, boostArg.get(ctx));
                 }
-                case "reset" -> resetLevel(ctx, mining);
+                case "prospect" -> prospect(ctx, store, ref, skills);
                 default -> ctx.sendMessage(Message.raw("Unknown operation: " + operation));
             }
         });
@@ -103,39 +247,274 @@ public class MiningCommand extends AbstractPlayerCommand {
     /* =======================
        UI / Display
     ======================= */
-    private void sendMiningUi(CommandContext ctx, MiningLevelComponent mining) {
-        int totalXp = mining.getXp();
-        int level = mining.getLevel();
+    private void sendMiningUi(CommandContext ctx, SkillSet skills) {
+        LevelCurve curve = LevelCurves.mining();
+        long totalXp = skills.getXp(SkillType.Mining);
+        int level = skills.getLevel(SkillType.Mining);
 
-        int levelStartXp = SkillFormula.totalXpForLevel(level);
-        int xpForThisLevel = SkillFormula.xpForLevel(level);
-        int xpIntoLevel = Math.max(0, totalXp - levelStartXp);
+        long levelStartXp = curve.totalXpForLevel(level);
+        long xpForThisLevel = curve.xpForLevel(level);
+        long xpIntoLevel = Math.max(0, totalXp - levelStartXp);
 
-        ctx.sendMessage(Message.raw("=== Mining UI ==="));
-        ctx.sendMessage(Message.raw("Level: " + level));
-        ctx.sendMessage(Message.raw("XP: " + xpIntoLevel + " / " + xpForThisLevel));
-        ctx.sendMessage(Message.raw("Total XP: " + totalXp));
+        // One message rather than one per line
+        ctx.sendMessage(Message.raw("=== Mining UI ===\n"
+                + "Level: " + level + "\n"
+                + "XP: " + xpIntoLevel + " / " + xpForThisLevel + "\n"
+                + "Total XP: " + totalXp));
+    }
+
+
+
+    private void sendStats(CommandContext ctx) {
+        ctx.sendMessage(Message.raw("=== Plugin Stats ==="));
+        for (String line : PluginMetrics.report()) {
+            ctx.sendMessage(Message.raw(line));
+        }
+        XpJournal journal = ExamplePlugin.getXpJournal();
+        if (journal != null) {
+            for (String line : journal.report()) {
+                ctx.sendMessage(Message.raw(line));
+            }
+        }
     }
 
+    private void sendTop(CommandContext ctx, PlayerRef playerRef, int page) {
+        Leaderboard board = Leaderboards.mining();
+        LevelCurve curve = LevelCurves.mining();
 
+        int pages = Math.max(1, (board.size() + TOP_PAGE_SIZE - 1) / TOP_PAGE_SIZE);
+        ctx.sendMessage(Message.raw("=== Top Miners (page " + page + "/" + pages + ") ==="));
+        for (Leaderboard.Entry entry : board.page(page, TOP_PAGE_SIZE)) {
+            ctx.sendMessage(Message.raw("#" + entry.rank() + " " + entry.name()
+                    + " - Level " + curve.getLevelForXp(entry.xp()) + " (" + entry.xp() + " XP)"));
+        }
+
+        Leaderboard.Entry own = board.get(playerRef.getUuid());
+        if (own != null) {
+            ctx.sendMessage(Message.raw("Your rank: #" + own.rank() + " of " + board.size()));
+        }
+    }
+
+    private void sendJobs(CommandContext ctx) {
+        List<BulkJob> jobs = BulkJobs.all();
+        ctx.sendMessage(Message.raw("=== Bulk Jobs ==="));
+        if (jobs.isEmpty()) {
+            ctx.sendMessage(Message.raw("No bulk jobs."));
+            return;
+        }
+        for (BulkJob job : jobs) {
+            ctx.sendMessage(Message.raw(job.describe()));
+        }
+    }
+
+    /* =======================
+       BULK / Every online player, server-wide
+    ======================= */
+    private void submitBulk(CommandContext ctx, PlayerRef playerRef, BulkOperation operation, int levels) {
+        List<World> worlds = List.copyOf(Universe.get().getWorlds().values());
+        BulkJob job = BulkJobs.create(operation, SkillType.Mining, levels, playerRef, worlds.size());
+
+        // Each world's queue is only touched from that world's thread
+        for (World target : worlds) {
+            target.execute(() -> {
+                BulkJobQueue queue = target.getEntityStore().getStore().getResource(ExamplePlugin.getBulkJobQueueType());
+                queue.submit(job);
+            });
+        }
+
+        ctx.sendMessage(Message.raw("Queued bulk job #" + job.getId() + " (" + operation + ") in "
+                + worlds.size() + " world(s). Offline players are not changed."));
+        LOGGER.atInfo().log(playerRef.getUsername() + " queued bulk job " + job.describe());
+    }
+
+    /** Sends a refusal and returns false unless the sender has {@link #ADMIN_PERMISSION} */
+    private static boolean requireAdmin(CommandContext ctx) {
+        if (ctx.sender().hasPermission(ADMIN_PERMISSION)) return true;
+        ctx.sendMessage(Message.raw("You don't have permission to do that."));
+        return false;
+    }
+
+    private void cancelJob(CommandContext ctx, Integer jobId) {
+        if (jobId == null) {
+            ctx.sendMessage(Message.raw("You must specify the job to cancel using --Job=<id>."));
+            return;
+        }
+        BulkJob job = BulkJobs.get(jobId);
+        if (job == null) {
+            ctx.sendMessage(Message.raw("Unknown bulk job #" + jobId));
+            return;
+        }
+        if (job.isFinished()) {
+            ctx.sendMessage(Message.raw("Bulk job #" + jobId + " already finished: " + job.getState()));
+            return;
+        }
+        job.cancel();
+        ctx.sendMessage(Message.raw("Cancelling bulk job #" + jobId + " after the current batch."));
+    }
+
+    /* =======================
+       CONFIG / Live balancing
+    ======================= */
+    private void reloadConfig(CommandContext ctx, World world) {
+        SkillConfig previous = SkillConfigs.current();
+        ctx.sendMessage(Message.raw("Reloading skill config..."));
+
+        // Built off the world thread; the swap itself is a single reference write.
+        // The outcome is reported from the world thread, like every other reply.
+        SkillConfigs.reloadAsync().whenComplete((config, error) -> world.execute(() -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                ctx.sendMessage(Message.raw("Reload failed, keeping the current config: " + cause.getMessage()));
+                LOGGER.atWarning().withCause(cause).log("Skill config reload failed");
+                return;
+            }
+
+            ctx.sendMessage(Message.raw("Skill config reloaded (" + config.getOres().size() + " ores)."));
+            if (curvesChanged(previous, config)) {
+                // Cached levels were derived from the old curves
+                ctx.sendMessage(Message.raw("Level curves changed; run --Operation=RecomputeAll to refresh loaded players."));
+            }
+        }));
+    }
+
+    private static boolean curvesChanged(SkillConfig before, SkillConfig after) {
+        for (SkillType skill : SkillType.values()) {
+            LevelCurve a = before.getCurve(skill);
+            LevelCurve b = after.getCurve(skill);
+            if (a.getBase() != b.getBase() || a.getExponent() != b.getExponent() || a.getMaxLevel() != b.getMaxLevel()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* =======================
+       BOOSTS / Time-windowed XP multipliers
+    ======================= */
+    private void addBoost(CommandContext ctx, PlayerRef playerRef, World world) {
+        String scopeName = scopeArg.get(ctx);
+        String multiplierText = multiplierArg.get(ctx);
+        Integer minutes = minutesArg.get(ctx);
+        Integer delay = delayArg.get(ctx);
+        if (scopeName == null || multiplierText == null || minutes == null || minutes <= 0) {
+            ctx.sendMessage(Message.raw("Usage: --Scope=<Global|World|Player> --Multiplier=<x> --Minutes=<duration> [--Delay=<minutes>]"));
+            return;
+        }
+
+        BoostScope scope = null;
+        for (BoostScope candidate : BoostScope.values()) {
+            if (candidate.name().equalsIgnoreCase(scopeName)) scope = candidate;
+        }
+        if (scope == null) {
+            ctx.sendMessage(Message.raw("Unknown scope: " + scopeName + " (Global, World or Player)"));
+            return;
+        }
+
+        double multiplier;
+        try {
+            multiplier = Double.parseDouble(multiplierText);
+        } catch (NumberFormatException e) {
+            ctx.sendMessage(Message.raw("Invalid multiplier: " + multiplierText));
+            return;
+        }
+
+        Object target = switch (scope) {
+            case Global -> null;
+            case World -> world.getName();
+            case Player -> playerRef.getUuid();
+        };
+        long now = System.currentTimeMillis();
+        long start = now + Math.max(0, delay == null ? 0 : delay) * 60_000L;
+
+        try {
+            XpBoost boost = XpBoosts.add(scope, target, multiplier, start, start + minutes * 60_000L, now);
+            ctx.sendMessage(Message.raw("Added XP boost " + boost.describe(now)));
+            LOGGER.atInfo().log(playerRef.getUsername() + " added XP boost " + boost.describe(now));
+        } catch (IllegalArgumentException e) {
+            ctx.sendMessage(Message.raw("Invalid boost: " + e.getMessage()));
+        }
+    }
+
+    private void sendBoosts(CommandContext ctx) {
+        long now = System.currentTimeMillis();
+        List<XpBoost> boosts = XpBoosts.list(now);
+        ctx.sendMessage(Message.raw("=== XP Boosts ==="));
+        if (boosts.isEmpty()) {
+            ctx.sendMessage(Message.raw("No active or upcoming boosts."));
+            return;
+        }
+        for (XpBoost boost : boosts) {
+            ctx.sendMessage(Message.raw(boost.describe(now)));
+        }
+    }
+
+    private void endBoost(CommandContext ctx, Integer boostId) {
+        if (boostId == null) {
+            ctx.sendMessage(Message.raw("You must specify the boost to end using --Boost=<id>."));
+            return;
+        }
+        XpBoost boost = XpBoosts.remove(boostId);
+        if (boost == null) {
+            ctx.sendMessage(Message.raw("Unknown or expired boost #" + boostId));
+            return;
+        }
+        ctx.sendMessage(Message.raw("Ended XP boost #" + boostId + "."));
+    }
+
+    /* =======================
+       PROSPECTING
+    ======================= */
+    private void prospect(CommandContext ctx, Store<EntityStore> store, Ref<EntityStore> ref,
+                          @Nullable SkillsComponent skills) {
+        if (!SkillComponentHelper.miningPerks(skills).hasProspecting()) {
+            int minLevel = MiningPerkTable.getProspectMinLevel();
+            ctx.sendMessage(Message.raw(minLevel == 0
+                    ? "Prospecting is disabled on this server."
+                    : "Prospecting unlocks at Mining level " + minLevel + "."));
+            return;
+        }
+
+        ProspectQueue queue = store.getResource(ExamplePlugin.getProspectQueueType());
+        if (queue.hasScanFor(ref)) {
+            ctx.sendMessage(Message.raw("You are already prospecting."));
+            return;
+        }
+        TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+        if (transform == null) return;
+
+        int radius = ExamplePlugin.getConfig().getProspectRadius();
+        Vector3d position = transform.getPosition();
+        queue.add(new ProspectScan(ref, position.x, position.y, position.z, radius, OreConstants.getProfiles()));
+        ctx.sendMessage(Message.raw("Prospecting within " + radius + " blocks..."));
+    }
 
     /* =======================
        MUTATION / Modifying Levels
     ======================= */
-    private void addLevel(CommandContext ctx, MiningLevelComponent mining, int levelsToAdd) {
-        int currentLevel = mining.getLevel();
+    private void addLevel(CommandContext ctx, Store<EntityStore> store, Ref<EntityStore> ref, PlayerRef playerRef,
+                          SkillsComponent skills, int levelsToAdd) {
+        LevelCurve curve = LevelCurves.mining();
+        int currentLevel = skills.getLevel(SkillType.Mining);
         int targetLevel = currentLevel + levelsToAdd;
 
-        int xpToAdd = SkillFormula.totalXpForLevel(targetLevel)
-                - SkillFormula.totalXpForLevel(currentLevel);
+        long xpToAdd = curve.totalXpForLevel(targetLevel)
+                - curve.totalXpForLevel(currentLevel);
 
-        mining.addXp(xpToAdd);
+        LevelChange change = skills.addXp(SkillType.Mining, xpToAdd);
+        MiningExperienceHelper.publishProgress(playerRef, skills);
+        SkillHudHelper.refresh(store, ref, skills);
 
-        ctx.sendMessage(Message.raw("Mining level increased to " + targetLevel));
+        ctx.sendMessage(Message.raw("Mining level increased to " + change.newLevel()));
     }
 
-    private void resetLevel(CommandContext ctx, MiningLevelComponent mining) {
-        mining.setXp(0);
+    private void resetLevel(CommandContext ctx, Store<EntityStore> store, Ref<EntityStore> ref, PlayerRef playerRef,
+                            @Nullable SkillsComponent skills) {
+        // Players without skills are already at level 1
+        if (skills != null) {
+            skills.setXp(SkillType.Mining, 0);
+            MiningExperienceHelper.publishProgress(playerRef, skills);
+            SkillHudHelper.refresh(store, ref, skills);
+        }
         ctx.sendMessage(Message.raw("Mining level has been reset to 1."));
     }
 }
@@ -0,0 +1,128 @@
+package com.venomie.hytaleleveladditions.commands;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
+import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
+import com.hypixel.hytale.server.core.command.system.basecommands.AbstractPlayerCommand;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.ExamplePlugin;
+import com.venomie.hytaleleveladditions.party.Parties;
+import com.venomie.hytaleleveladditions.party.Party;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Player command for managing parties. Party members near an ore break share its Mining XP.
+ *
+ * Usage:
+ * /Party                                   → Show your party
+ * /Party --Operation=Create                → Create a party led by you
+ * /Party --Operation=Invite --Player=Name  → Invite a player (leader only)
+ * /Party --Operation=Accept                → Join the party you were last invited to
+ * /Party --Operation=Leave                 → Leave your party
+ * /Party --Operation=Kick --Player=Name    → Remove a member (leader only)
+ *
+ * Notes:
+ * - Players are invited by username; invites expire after 5 minutes.
+ * - Parties are kept in memory only (see Parties).
+ */
+public class PartyCommand extends AbstractPlayerCommand {
+
+    /** Optional operation argument: "Create", "Invite", "Accept", "Leave", "Kick" or "Info" */
+    private final OptionalArg<String> operationArg;
+
+    /** Optional player name argument for Invite and Kick */
+    private final OptionalArg<String> playerArg;
+
+    public PartyCommand() {
+        super("Party", "Share Mining XP with nearby friends", false);
+
+        this.operationArg = withOptionalArg(
+                "Operation",
+                "Create, Invite, Accept, Leave, Kick or Info",
+                ArgTypes.STRING
+        );
+
+        this.playerArg = withOptionalArg(
+                "Player",
+                "Player name (required for Invite and Kick)",
+                ArgTypes.STRING
+        );
+    }
+
+    @Override
+    protected void execute(
+            @NotNull CommandContext ctx,
+            @NotNull Store<EntityStore> store,
+            @NotNull Ref<EntityStore> ref,
+            @NotNull PlayerRef playerRef,
+            @NotNull World world
+    ) {
+        world.execute(() -> {
+            String operation = operationArg.get(ctx);
+            String player = playerArg.get(ctx);
+
+            try {
+                switch (operation == null ? "info" : operation.toLowerCase()) {
+                    case "info" -> sendInfo(ctx, playerRef);
+                    case "create" -> {
+                        Parties.create(playerRef.getUuid(), playerRef.getUsername());
+                        ctx.sendMessage(Message.raw("Party created. Invite players with --Operation=Invite --Player=<name>."));
+                    }
+                    case "invite" -> {
+                        if (player == null || player.isBlank()) {
+                            ctx.sendMessage(Message.raw("You must specify who to invite using --Player=<name>."));
+                            return;
+                        }
+                        Parties.invite(playerRef.getUuid(), player, System.currentTimeMillis());
+                        ctx.sendMessage(Message.raw("Invited " + player + ". They can join with /Party --Operation=Accept within "
+                                + (Parties.INVITE_MILLIS / 60_000) + " minutes."));
+                    }
+                    case "accept" -> {
+                        Party party = Parties.accept(playerRef.getUuid(), playerRef.getUsername(), System.currentTimeMillis());
+                        ctx.sendMessage(Message.raw("You joined " + party.getLeader().name() + "'s party."));
+                    }
+                    case "leave" -> {
+                        if (Parties.leave(playerRef.getUuid()) == null) {
+                            ctx.sendMessage(Message.raw("You are not in a party."));
+                        } else {
+                            ctx.sendMessage(Message.raw("You left your party."));
+                        }
+                    }
+                    case "kick" -> {
+                        if (player == null || player.isBlank()) {
+                            ctx.sendMessage(Message.raw("You must specify who to remove using --Player=<name>."));
+                            return;
+                        }
+                        Party.Member member = Parties.kick(playerRef.getUuid(), player);
+                        ctx.sendMessage(Message.raw("Removed " + member.name() + " from your party."));
+                    }
+                    default -> ctx.sendMessage(Message.raw("Unknown operation: " + operation));
+                }
+            } catch (IllegalStateException e) {
+                ctx.sendMessage(Message.raw(e.getMessage()));
+            }
+        });
+    }
+
+    private void sendInfo(CommandContext ctx, PlayerRef playerRef) {
+        Party party = Parties.partyOf(playerRef.getUuid());
+        if (party == null) {
+            ctx.sendMessage(Message.raw("You are not in a party. Create one with /Party --Operation=Create."));
+            return;
+        }
+
+        StringBuilder text = new StringBuilder("=== Party (" + party.size() + "/" + Parties.getMaxSize() + ") ===");
+        for (Party.Member member : party.getMembers()) {
+            text.append('\n').append(member.name());
+            if (party.isLeader(member.playerId())) text.append(" (leader)");
+        }
+        text.append("\nOre XP is shared with members within ")
+                .append(ExamplePlugin.getConfig().getPartyShareRadius()).append(" blocks.");
+        ctx.sendMessage(Message.raw(text.toString()));
+    }
+}
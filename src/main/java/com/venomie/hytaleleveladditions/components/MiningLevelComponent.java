@@ -7,27 +7,34 @@ import com.hypixel.hytale.component.Component;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import org.jetbrains.annotations.Nullable;
 import com.venomie.hytaleleveladditions.formulas.SkillFormula;
+import com.venomie.hytaleleveladditions.skills.LevelChange;
 
 /**
- * Component representing a player's Mining skill.
- * Stores total XP and computes level dynamically via SkillFormula.
+ * Legacy component representing a player's Mining skill.
+ * Superseded by {@link SkillsComponent}; it stays registered only so saves that
+ * still contain it can be read and migrated by PlayerLevelMiningSystem.
+ * <p>
+ * Stores total XP and caches the level derived from it via SkillFormula.
  *
- * XP is stored as an integer. Level is computed from XP using
- * SkillFormula.getLevelForXp(xp).
+ * XP is stored as an integer and is the only persisted field. The level is
+ * recomputed whenever XP changes (decode, setXp, addXp) and read from the cache otherwise.
  */
 public class MiningLevelComponent implements Component<EntityStore> {
 
     /** Total XP earned by the player in Mining */
     private int xp;
 
+    /** Cached level for the current XP; not persisted */
+    private transient int level = 1;
+
     // ===============================
     // Hytale Codec for ECS serialization
     // ===============================
     public static final BuilderCodec<MiningLevelComponent> CODEC =
             BuilderCodec.builder(MiningLevelComponent.class, MiningLevelComponent::new)
                     .addField(new KeyedCodec<>("Xp", Codec.INTEGER),
-                            (data, value) -> data.xp = value,   // setter
-                            data -> data.xp)                    // getter
+                            (data, value) -> data.applyXp(value), // setter (refreshes cached level)
+                            data -> data.xp)                      // getter
                     .build();
 
     // ===============================
@@ -42,6 +49,7 @@ public class MiningLevelComponent implements Component<EntityStore> {
     /** Copy constructor for cloning ECS components */
     public MiningLevelComponent(MiningLevelComponent clone) {
         this.xp = clone.xp;
+        this.level = clone.level;
     }
 
     @Nullable
@@ -54,9 +62,9 @@ public class MiningLevelComponent implements Component<EntityStore> {
     // Public API
     // ===============================
 
-    /** Returns the player's current Mining level (computed from XP) */
+    /** Returns the player's current Mining level (cached, derived from XP) */
     public int getLevel() {
-        return SkillFormula.getLevelForXp(xp);
+        return level;
     }
 
     /** Returns the total XP in Mining */
@@ -69,9 +77,14 @@ public class MiningLevelComponent implements Component<EntityStore> {
      * XP cannot go below 0.
      *
      * @param amount XP to add (can be negative)
+     * @return the level before and after the change
      */
-    public void addXp(int amount) {
-        this.xp = Math.max(0, this.xp + amount);
+    public LevelChange addXp(int amount) {
+        int oldLevel = this.level;
+        // Sum in long so large grants saturate instead of wrapping
+        long total = (long) this.xp + amount;
+        applyXp((int) Math.min(Integer.MAX_VALUE, total));
+        return new LevelChange(oldLevel, this.level);
     }
 
     /**
@@ -81,13 +94,19 @@ public class MiningLevelComponent implements Component<EntityStore> {
      * @param xp total XP to set
      */
     public void setXp(int xp) {
-        this.xp = Math.max(0, xp);
+        applyXp(xp);
     }
 
     // ===============================
     // Internal utility
     // ===============================
 
+    /** Stores XP (clamped to >= 0) and refreshes the cached level */
+    private void applyXp(int xp) {
+        this.xp = Math.max(0, xp);
+        this.level = SkillFormula.getLevelForXp(this.xp);
+    }
+
     /**
      * Sets the component's XP to match a specific level.
      * This is used internally for admin commands (e.g., "set level").
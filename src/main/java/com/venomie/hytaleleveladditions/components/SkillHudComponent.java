@@ -0,0 +1,95 @@
+package com.venomie.hytaleleveladditions.components;
+
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.hud.SkillHud;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-player HUD state: what the client currently shows and what it should show next.
+ * <p>
+ * Only changes to the displayed level or whole percentage are sent, and SkillHudSystem
+ * sends at most one update per player per throttle interval; anything in between is
+ * coalesced into the latest target. Not persisted; rebuilt when the player joins.
+ */
+public class SkillHudComponent implements Component<EntityStore> {
+
+    private SkillHud hud;
+
+    // Values on the client; -1 = nothing sent yet
+    private int shownLevel = -1;
+    private int shownPercent = -1;
+
+    // Values to send at the next allowed update
+    private int targetLevel;
+    private int targetPercent;
+
+    private long lastSentNanos;
+
+    /** True while the player is in the world's SkillHudQueue */
+    private boolean queued;
+
+    public SkillHudComponent() {
+    }
+
+    @Nullable
+    @Override
+    public Component<EntityStore> clone() {
+        // The HUD belongs to the live connection; a copy starts without one
+        return new SkillHudComponent();
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    public SkillHud getHud() {
+        return hud;
+    }
+
+    public void setHud(SkillHud hud) {
+        this.hud = hud;
+        this.shownLevel = -1;
+        this.shownPercent = -1;
+    }
+
+    /**
+     * Records the values the HUD should display.
+     *
+     * @return true if the player must be queued (values differ and not already queued)
+     */
+    public boolean setTarget(int level, int percent) {
+        targetLevel = level;
+        targetPercent = percent;
+        if (queued || !isDirty()) return false;
+        queued = true;
+        return true;
+    }
+
+    /** True if the target differs from what the client shows */
+    public boolean isDirty() {
+        return targetLevel != shownLevel || targetPercent != shownPercent;
+    }
+
+    /** Whether an update may be sent now, given the minimum interval between updates */
+    public boolean canSend(long nowNanos, long minIntervalNanos) {
+        return shownLevel < 0 || nowNanos - lastSentNanos >= minIntervalNanos;
+    }
+
+    /** Sends the target values if they changed and marks the player as no longer queued */
+    public boolean flush(String skillName, long nowNanos) {
+        queued = false;
+        if (hud == null || !isDirty()) return false;
+
+        hud.show(skillName, targetLevel, targetPercent);
+        shownLevel = targetLevel;
+        shownPercent = targetPercent;
+        lastSentNanos = nowNanos;
+        return true;
+    }
+
+    /** Forgets the queued state, e.g. when the queue dropped the player */
+    public void dequeue() {
+        queued = false;
+    }
+}
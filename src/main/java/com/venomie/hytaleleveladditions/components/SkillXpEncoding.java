@@ -0,0 +1,88 @@
+package com.venomie.hytaleleveladditions.components;
+
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Compact binary form of a player's skill XP, used by {@link SkillsComponent}'s codec.
+ * <p>
+ * Only skills with XP are written, each as two unsigned LEB128 varints:
+ * {@code skillId, xp}. A fresh skill costs nothing, small XP values take 1-3 bytes and
+ * the full long range stays representable. The bytes are stored as an unpadded Base64
+ * string so they fit in a regular keyed codec field.
+ * <p>
+ * Unknown skill IDs (written by a newer plugin version) are skipped on read.
+ */
+public final class SkillXpEncoding {
+
+    private SkillXpEncoding() {
+        // Utility class; prevent instantiation
+    }
+
+    /** Worst case per skill: 5 bytes of ID + 10 bytes of XP */
+    private static final int MAX_BYTES_PER_SKILL = 15;
+
+    private static final Base64.Encoder ENCODER = Base64.getEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
+    /**
+     * Encodes XP indexed by SkillType ordinal.
+     */
+    public static String encode(long[] xpByOrdinal) {
+        SkillType[] skills = SkillType.values();
+        byte[] buffer = new byte[skills.length * MAX_BYTES_PER_SKILL];
+        int pos = 0;
+        for (SkillType skill : skills) {
+            long xp = xpByOrdinal[skill.ordinal()];
+            if (xp <= 0) continue;
+            pos = writeVarLong(buffer, pos, skill.getId());
+            pos = writeVarLong(buffer, pos, xp);
+        }
+        return pos == 0 ? "" : ENCODER.encodeToString(Arrays.copyOf(buffer, pos));
+    }
+
+    /**
+     * Decodes into XP indexed by SkillType ordinal. Skills missing from the data are set to 0.
+     *
+     * @throws IllegalArgumentException if the data is not valid Base64 or is truncated
+     */
+    public static void decode(String encoded, long[] xpByOrdinal) {
+        Arrays.fill(xpByOrdinal, 0);
+        if (encoded == null || encoded.isEmpty()) return;
+
+        byte[] data = DECODER.decode(encoded);
+        int[] pos = {0};
+        while (pos[0] < data.length) {
+            long id = readVarLong(data, pos);
+            long xp = readVarLong(data, pos);
+            SkillType skill = id <= Integer.MAX_VALUE ? SkillType.byId((int) id) : null;
+            if (skill != null) xpByOrdinal[skill.ordinal()] = Math.max(0, xp);
+        }
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static int writeVarLong(byte[] buffer, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static long readVarLong(byte[] data, int[] pos) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (pos[0] >= data.length) throw new IllegalArgumentException("Truncated skill data");
+            byte b = data[pos[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IllegalArgumentException("Malformed varint in skill data");
+    }
+}
@@ -0,0 +1,121 @@
+package com.venomie.hytaleleveladditions.components;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.hypixel.hytale.component.Component;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Component holding every skill of a player in one place.
+ * <p>
+ * The XP and level logic lives in {@link SkillSet}; this class adds ECS cloning and
+ * persistence.
+ * <p>
+ * Saves are versioned through the "Version" field:
+ * <ul>
+ *   <li>v1 (no Version field): one Codec.LONG field per skill, keyed by skill name</li>
+ *   <li>v2: every skill with XP packed into the "Skills" field by {@link SkillXpEncoding}</li>
+ * </ul>
+ * Both layouts are read; only v2 is written. Skills missing from a save decode as 0 XP.
+ */
+public class SkillsComponent extends SkillSet implements Component<EntityStore> {
+
+    /** Schema version of the save this component was decoded from; not persisted */
+    private int loadedVersion = CURRENT_VERSION;
+
+    // ===============================
+    // Hytale Codec for ECS serialization
+    // ===============================
+
+    /** Schema version written to saves; bump when the layout changes */
+    public static final int CURRENT_VERSION = 2;
+
+    public static final BuilderCodec<SkillsComponent> CODEC = buildCodec();
+
+    private static BuilderCodec<SkillsComponent> buildCodec() {
+        BuilderCodec.Builder<SkillsComponent> builder =
+                BuilderCodec.builder(SkillsComponent.class, SkillsComponent::new);
+
+        builder.addField(new KeyedCodec<>("Version", Codec.INTEGER),
+                (data, value) -> data.loadedVersion = value, // setter
+                data -> CURRENT_VERSION);                     // getter (always writes the current schema)
+
+        // v2: all skills packed into one compact field
+        builder.addField(new KeyedCodec<>("Skills", Codec.STRING),
+                (data, value) -> data.applyPacked(value), // setter (refreshes cached levels)
+                data -> SkillXpEncoding.encode(data.xp)); // getter
+
+        // v1: one field per skill, keyed by name
+        for (SkillType skill : SKILLS) {
+            addLegacyField(builder, skill.name(), Codec.LONG, (data, value) -> {
+                data.loadedVersion = Math.min(data.loadedVersion, 1);
+                data.applyXp(skill, value);
+            });
+        }
+        return builder.build();
+    }
+
+    /**
+     * Registers a decode-only field from an older layout.
+     * <p>
+     * KeyedCodec keys are optional: a save without the key decodes it as null (as v1 saves
+     * from before a skill existed do), and a null value leaves the key out when encoding.
+     * The getter here always returns null, so the key is read from old saves and never
+     * written again; the setter only runs for values that are present.
+     */
+    private static <T> void addLegacyField(BuilderCodec.Builder<SkillsComponent> builder, String key, Codec<T> codec,
+                                           BiConsumer<SkillsComponent, T> setter) {
+        builder.addField(new KeyedCodec<>(key, codec),
+                (data, value) -> {
+                    if (value != null) setter.accept(data, value);
+                },
+                data -> null); // getter (never written)
+    }
+
+    // ===============================
+    // Constructors
+    // ===============================
+
+    /** Default constructor, every skill starts at 0 XP (level 1) */
+    public SkillsComponent() {
+    }
+
+    /** Copy constructor for cloning ECS components */
+    public SkillsComponent(SkillsComponent clone) {
+        super(clone);
+        this.loadedVersion = clone.loadedVersion;
+    }
+
+    @Nullable
+    @Override
+    public Component<EntityStore> clone() {
+        return new SkillsComponent(this);
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /** Schema version of the save this component was loaded from (CURRENT_VERSION if new) */
+    public int getLoadedVersion() {
+        return loadedVersion;
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    /** Replaces all XP with the packed v2 value and refreshes the cached levels */
+    private void applyPacked(String packed) {
+        SkillXpEncoding.decode(packed, xp);
+        for (SkillType skill : SKILLS) {
+            applyXp(skill, xp[skill.ordinal()]);
+        }
+    }
+}
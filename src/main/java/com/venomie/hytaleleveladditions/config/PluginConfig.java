@@ -0,0 +1,249 @@
+package com.venomie.hytaleleveladditions.config;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.venomie.hytaleleveladditions.journal.OverflowPolicy;
+
+/**
+ * Plugin-wide settings, persisted as the plugin's config file.
+ */
+public class PluginConfig {
+
+    /** Whether hot-path metrics are collected at all */
+    private boolean metricsEnabled = true;
+
+    /** Interval for dumping metrics to the log; 0 disables the periodic dump */
+    private int metricsLogIntervalSeconds = 0;
+
+    /** How often staged skill snapshots are written to the offline snapshot file */
+    private int snapshotFlushIntervalSeconds = 30;
+
+    /** Time each world may spend per tick on bulk admin jobs */
+    private int bulkOperationBudgetMicros = 2000;
+
+    /** Bonus-drop item entities each world may spawn per tick; the rest wait for the next tick */
+    private int dropSpawnsPerTick = 32;
+
+    /** Side length in blocks of the cells whose bonus drops of the same item merge into one stack; 1 = same block only */
+    private int dropMergeCellSize = 1;
+
+    /** Mining level that unlocks vein mining; 0 disables the perk */
+    private int veinMineMinLevel = 60;
+
+    /** Most extra blocks one vein-mining trigger may break */
+    private int veinMineMaxBlocks = 32;
+
+    /** Vein blocks each world may break per tick, across all players */
+    private int veinMineBlocksPerTick = 16;
+
+    /** Most skill HUD updates sent to one player per second; 0 disables the HUD (chat messages instead) */
+    private int hudUpdatesPerSecond = 4;
+
+    /** Joining players each world handles per tick (migration, leaderboard, HUD or welcome) */
+    private int joinsPerTick = 8;
+
+    /** Whether XP events are written to the binary XP log (xp_log directory) */
+    private boolean xpLogEnabled = true;
+
+    /** XP events buffered in memory for the log writer; full buffers apply the overflow policy */
+    private int xpLogBufferRecords = 65536;
+
+    /** Size at which an XP log segment is closed and a new one started */
+    private int xpLogSegmentMegabytes = 64;
+
+    /** XP log segments kept on disk; older ones are deleted. 0 keeps all */
+    private int xpLogMaxSegments = 16;
+
+    /** "Drop" (never block world threads) or "Wait" (spin briefly for space, then drop) */
+    private String xpLogOverflowPolicy = OverflowPolicy.Drop.name();
+
+    /** Blocks from an ore break within which party members share its Mining XP */
+    private int partyShareRadius = 32;
+
+    /** Most players in one party */
+    private int partyMaxSize = 6;
+
+    /** Mining level unlocking prospecting (/Mining --Operation=Prospect); 0 disables it */
+    private int prospectMinLevel = 30;
+
+    /** Blocks around the player that prospecting counts ores in */
+    private int prospectRadius = 24;
+
+    /** Chunk sections (16x16x16) each world may scan per tick for prospecting; cached sections are free */
+    private int prospectSectionsPerTick = 4;
+
+    /** Chunk section ore summaries each world keeps cached; the least recently used are dropped first */
+    private int prospectCacheSections = 4096;
+
+    /** Seconds a cached section summary is trusted before it is rescanned (explosions, world edits); 0 = until evicted */
+    private int prospectCacheSeconds = 300;
+
+    // ===============================
+    // Hytale Codec for config serialization
+    // ===============================
+    public static final BuilderCodec<PluginConfig> CODEC =
+            BuilderCodec.builder(PluginConfig.class, PluginConfig::new)
+                    .addField(new KeyedCodec<>("MetricsEnabled", Codec.BOOLEAN),
+                            (data, value) -> data.metricsEnabled = value,
+                            data -> data.metricsEnabled)
+                    .addField(new KeyedCodec<>("MetricsLogIntervalSeconds", Codec.INTEGER),
+                            (data, value) -> data.metricsLogIntervalSeconds = value,
+                            data -> data.metricsLogIntervalSeconds)
+                    .addField(new KeyedCodec<>("SnapshotFlushIntervalSeconds", Codec.INTEGER),
+                            (data, value) -> data.snapshotFlushIntervalSeconds = value,
+                            data -> data.snapshotFlushIntervalSeconds)
+                    .addField(new KeyedCodec<>("BulkOperationBudgetMicros", Codec.INTEGER),
+                            (data, value) -> data.bulkOperationBudgetMicros = value,
+                            data -> data.bulkOperationBudgetMicros)
+                    .addField(new KeyedCodec<>("DropSpawnsPerTick", Codec.INTEGER),
+                            (data, value) -> data.dropSpawnsPerTick = value,
+                            data -> data.dropSpawnsPerTick)
+                    .addField(new KeyedCodec<>("DropMergeCellSize", Codec.INTEGER),
+                            (data, value) -> data.dropMergeCellSize = value,
+                            data -> data.dropMergeCellSize)
+                    .addField(new KeyedCodec<>("VeinMineMinLevel", Codec.INTEGER),
+                            (data, value) -> data.veinMineMinLevel = value,
+                            data -> data.veinMineMinLevel)
+                    .addField(new KeyedCodec<>("VeinMineMaxBlocks", Codec.INTEGER),
+                            (data, value) -> data.veinMineMaxBlocks = value,
+                            data -> data.veinMineMaxBlocks)
+                    .addField(new KeyedCodec<>("VeinMineBlocksPerTick", Codec.INTEGER),
+                            (data, value) -> data.veinMineBlocksPerTick = value,
+                            data -> data.veinMineBlocksPerTick)
+                    .addField(new KeyedCodec<>("HudUpdatesPerSecond", Codec.INTEGER),
+                            (data, value) -> data.hudUpdatesPerSecond = value,
+                            data -> data.hudUpdatesPerSecond)
+                    .addField(new KeyedCodec<>("JoinsPerTick", Codec.INTEGER),
+                            (data, value) -> data.joinsPerTick = value,
+                            data -> data.joinsPerTick)
+                    .addField(new KeyedCodec<>("XpLogEnabled", Codec.BOOLEAN),
+                            (data, value) -> data.xpLogEnabled = value,
+                            data -> data.xpLogEnabled)
+                    .addField(new KeyedCodec<>("XpLogBufferRecords", Codec.INTEGER),
+                            (data, value) -> data.xpLogBufferRecords = value,
+                            data -> data.xpLogBufferRecords)
+                    .addField(new KeyedCodec<>("XpLogSegmentMegabytes", Codec.INTEGER),
+                            (data, value) -> data.xpLogSegmentMegabytes = value,
+                            data -> data.xpLogSegmentMegabytes)
+                    .addField(new KeyedCodec<>("XpLogMaxSegments", Codec.INTEGER),
+                            (data, value) -> data.xpLogMaxSegments = value,
+                            data -> data.xpLogMaxSegments)
+                    .addField(new KeyedCodec<>("XpLogOverflowPolicy", Codec.STRING),
+                            (data, value) -> data.xpLogOverflowPolicy = value,
+                            data -> data.xpLogOverflowPolicy)
+                    .addField(new KeyedCodec<>("PartyShareRadius", Codec.INTEGER),
+                            (data, value) -> data.partyShareRadius = value,
+                            data -> data.partyShareRadius)
+                    .addField(new KeyedCodec<>("PartyMaxSize", Codec.INTEGER),
+                            (data, value) -> data.partyMaxSize = value,
+                            data -> data.partyMaxSize)
+                    .addField(new KeyedCodec<>("ProspectMinLevel", Codec.INTEGER),
+                            (data, value) -> data.prospectMinLevel = value,
+                            data -> data.prospectMinLevel)
+                    .addField(new KeyedCodec<>("ProspectRadius", Codec.INTEGER),
+                            (data, value) -> data.prospectRadius = value,
+                            data -> data.prospectRadius)
+                    .addField(new KeyedCodec<>("ProspectSectionsPerTick", Codec.INTEGER),
+                            (data, value) -> data.prospectSectionsPerTick = value,
+                            data -> data.prospectSectionsPerTick)
+                    .addField(new KeyedCodec<>("ProspectCacheSections", Codec.INTEGER),
+                            (data, value) -> data.prospectCacheSections = value,
+                            data -> data.prospectCacheSections)
+                    .addField(new KeyedCodec<>("ProspectCacheSeconds", Codec.INTEGER),
+                            (data, value) -> data.prospectCacheSeconds = value,
+                            data -> data.prospectCacheSeconds)
+                    .build();
+
+    public boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public int getMetricsLogIntervalSeconds() {
+        return metricsLogIntervalSeconds;
+    }
+
+    public int getSnapshotFlushIntervalSeconds() {
+        return snapshotFlushIntervalSeconds;
+    }
+
+    public int getBulkOperationBudgetMicros() {
+        return bulkOperationBudgetMicros;
+    }
+
+    public int getDropSpawnsPerTick() {
+        return dropSpawnsPerTick;
+    }
+
+    public int getDropMergeCellSize() {
+        return dropMergeCellSize;
+    }
+
+    public int getVeinMineMinLevel() {
+        return veinMineMinLevel;
+    }
+
+    public int getVeinMineMaxBlocks() {
+        return veinMineMaxBlocks;
+    }
+
+    public int getVeinMineBlocksPerTick() {
+        return veinMineBlocksPerTick;
+    }
+
+    public int getHudUpdatesPerSecond() {
+        return hudUpdatesPerSecond;
+    }
+
+    public int getJoinsPerTick() {
+        return joinsPerTick;
+    }
+
+    public boolean isXpLogEnabled() {
+        return xpLogEnabled;
+    }
+
+    public int getXpLogBufferRecords() {
+        return xpLogBufferRecords;
+    }
+
+    public int getXpLogSegmentMegabytes() {
+        return xpLogSegmentMegabytes;
+    }
+
+    public int getXpLogMaxSegments() {
+        return xpLogMaxSegments;
+    }
+
+    public String getXpLogOverflowPolicy() {
+        return xpLogOverflowPolicy;
+    }
+
+    public int getPartyShareRadius() {
+        return partyShareRadius;
+    }
+
+    public int getPartyMaxSize() {
+        return partyMaxSize;
+    }
+
+    public int getProspectMinLevel() {
+        return prospectMinLevel;
+    }
+
+    public int getProspectRadius() {
+        return prospectRadius;
+    }
+
+    public int getProspectSectionsPerTick() {
+        return prospectSectionsPerTick;
+    }
+
+    public int getProspectCacheSections() {
+        return prospectCacheSections;
+    }
+
+    public int getProspectCacheSeconds() {
+        return prospectCacheSeconds;
+    }
+}
@@ -0,0 +1,40 @@
+package com.venomie.hytaleleveladditions.hud;
+
+import com.hypixel.hytale.server.core.entity.entities.player.hud.CustomUIHud;
+import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Custom HUD element showing a skill's level and progress towards the next level.
+ * <p>
+ * The layout lives in Common/UI/Custom/Hud/LevelAdditions_SkillHud.ui; this class only
+ * sends the values that change. Updates are throttled by SkillHudSystem.
+ */
+public class SkillHud extends CustomUIHud {
+
+    /** Layout path, relative to Common/UI/Custom */
+    public static final String LAYOUT = "Hud/LevelAdditions_SkillHud.ui";
+
+    public SkillHud(@NotNull PlayerRef playerRef) {
+        super(playerRef);
+    }
+
+    @Override
+    protected void build(@NotNull UICommandBuilder builder) {
+        builder.append(LAYOUT);
+    }
+
+    /**
+     * Sends the displayed values to the client.
+     *
+     * @param percent progress into the current level, 0-100
+     */
+    public void show(String skillName, int level, int percent) {
+        UICommandBuilder builder = new UICommandBuilder();
+        builder.set("#SkillLabel.Text", skillName + " " + level);
+        builder.set("#SkillPercent.Text", percent + "%");
+        builder.set("#SkillProgress.Value", percent / 100f);
+        update(false, builder);
+    }
+}
@@ -0,0 +1,72 @@
+package com.venomie.hytaleleveladditions.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Incrementally maintained XP ranking for one skill.
+ * <p>
+ * Entries are kept when a player logs out, so the board always reflects each
+ * player's last known XP. Updates, rank lookups and page reads are O(log n);
+ * nothing ever scans loaded entities.
+ */
+public final class Leaderboard {
+
+    /** One row of the leaderboard */
+    public record Entry(int rank, UUID playerId, String name, long xp) {}
+
+    private final RankedSkipList ranking = new RankedSkipList();
+    private final Map<UUID, RankedSkipList.Node> byPlayer = new HashMap<>();
+
+    /**
+     * Records a player's current total XP (and display name).
+     */
+    public synchronized void update(UUID playerId, String name, long xp) {
+        RankedSkipList.Node current = byPlayer.get(playerId);
+        if (current != null) {
+            if (current.xp == xp) {
+                if (name != null) current.name = name;
+                return;
+            }
+            ranking.delete(playerId, current.xp);
+            if (name == null) name = current.name;
+        }
+        byPlayer.put(playerId, ranking.insert(playerId, xp, name));
+    }
+
+    /** Removes a player from the board entirely */
+    public synchronized void remove(UUID playerId) {
+        RankedSkipList.Node current = byPlayer.remove(playerId);
+        if (current != null) ranking.delete(playerId, current.xp);
+    }
+
+    /** Returns the player's entry, or null if they are not ranked */
+    public synchronized Entry get(UUID playerId) {
+        RankedSkipList.Node current = byPlayer.get(playerId);
+        if (current == null) return null;
+        return new Entry(ranking.rankOf(playerId, current.xp), playerId, current.name, current.xp);
+    }
+
+    /**
+     * Returns one page of the ranking.
+     *
+     * @param page     1-based page number
+     * @param pageSize entries per page
+     */
+    public synchronized List<Entry> page(int page, int pageSize) {
+        int fromRank = (Math.max(1, page) - 1) * pageSize + 1;
+        List<Entry> entries = new ArrayList<>(pageSize);
+        int rank = fromRank;
+        for (RankedSkipList.Node node : ranking.range(fromRank, pageSize)) {
+            entries.add(new Entry(rank++, node.id, node.name, node.xp));
+        }
+        return entries;
+    }
+
+    public synchronized int size() {
+        return ranking.size();
+    }
+}
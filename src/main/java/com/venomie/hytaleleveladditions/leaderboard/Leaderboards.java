@@ -0,0 +1,32 @@
+package com.venomie.hytaleleveladditions.leaderboard;
+
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds one Leaderboard per SkillType for the lifetime of the server.
+ */
+public final class Leaderboards {
+
+    private Leaderboards() {
+        // Utility class; prevent instantiation
+    }
+
+    private static final Map<SkillType, Leaderboard> BOARDS = new EnumMap<>(SkillType.class);
+
+    static {
+        for (SkillType skill : SkillType.values()) {
+            BOARDS.put(skill, new Leaderboard());
+        }
+    }
+
+    public static Leaderboard forSkill(SkillType skill) {
+        return BOARDS.get(skill);
+    }
+
+    public static Leaderboard mining() {
+        return BOARDS.get(SkillType.Mining);
+    }
+}
@@ -0,0 +1,166 @@
+package com.venomie.hytaleleveladditions.leaderboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Indexed skip list of (xp, player) entries ordered by XP descending, ties by UUID.
+ * <p>
+ * Every forward link stores its span (how many entries it skips), so insert, delete,
+ * rank lookup and rank-range reads are all O(log n). Not thread-safe; {@link Leaderboard}
+ * guards it.
+ */
+final class RankedSkipList {
+
+    private static final int MAX_LEVEL = 32;
+    private static final double LEVEL_PROBABILITY = 0.25;
+
+    static final class Node {
+        final UUID id;
+        final long xp;
+        String name;
+        final Node[] next;
+        final int[] span;
+
+        Node(UUID id, long xp, String name, int level) {
+            this.id = id;
+            this.xp = xp;
+            this.name = name;
+            this.next = new Node[level];
+            this.span = new int[level];
+        }
+    }
+
+    private final Node head = new Node(null, Long.MAX_VALUE, null, MAX_LEVEL);
+    private int level = 1;
+    private int size;
+
+    // Scratch arrays reused across calls (callers are serialized by Leaderboard)
+    private final Node[] update = new Node[MAX_LEVEL];
+    private final int[] rank = new int[MAX_LEVEL];
+
+    int size() {
+        return size;
+    }
+
+    /** Inserts an entry; the (xp, id) pair must not already be present */
+    Node insert(UUID id, long xp, String name) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && before(x.next[i], xp, id)) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(id, xp, name, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        // Untouched higher levels now skip one more entry
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        size++;
+        return node;
+    }
+
+    /** Removes the entry with the given (xp, id); returns false if absent */
+    boolean delete(UUID id, long xp) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && before(x.next[i], xp, id)) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        Node target = x.next[0];
+        if (target == null || target.xp != xp || !target.id.equals(id)) return false;
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == target) {
+                update[i].span[i] += target.span[i] - 1;
+                update[i].next[i] = target.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+        size--;
+        return true;
+    }
+
+    /** 1-based rank of the entry with the given (xp, id), or 0 if absent */
+    int rankOf(UUID id, long xp) {
+        Node x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && (before(x.next[i], xp, id) || x.next[i].id.equals(id) && x.next[i].xp == xp)) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (x != head && x.id.equals(id) && x.xp == xp) return traversed;
+        }
+        return 0;
+    }
+
+    /** Returns up to {@code count} entries starting at 1-based rank {@code fromRank} */
+    List<Node> range(int fromRank, int count) {
+        List<Node> result = new ArrayList<>(Math.max(0, Math.min(count, size - fromRank + 1)));
+        if (fromRank < 1 || fromRank > size || count <= 0) return result;
+
+        // Walk down to the node just before fromRank
+        Node x = head;
+        int traversed = 0;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] < fromRank) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+        }
+
+        x = x.next[0];
+        while (x != null && result.size() < count) {
+            result.add(x);
+            x = x.next[0];
+        }
+        return result;
+    }
+
+    /** True if node sorts strictly before (xp, id): higher XP first, then UUID ascending */
+    private static boolean before(Node node, long xp, UUID id) {
+        if (node.xp != xp) return node.xp > xp;
+        return node.id.compareTo(id) < 0;
+    }
+
+    private static int randomLevel() {
+        int lvl = 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (lvl < MAX_LEVEL && random.nextDouble() < LEVEL_PROBABILITY) {
+            lvl++;
+        }
+        return lvl;
+    }
+}
@@ -0,0 +1,88 @@
+package com.venomie.hytaleleveladditions.ores;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Concurrent map keyed by reference identity, for small key sets that are read constantly
+ * and written rarely (OreRegistry's BlockType cache).
+ * <p>
+ * Open addressing on {@link System#identityHashCode}, so keys' equals and hashCode are
+ * never called. Reads are lock-free and allocate nothing. Writes publish one entry under a
+ * lock, and the table is only copied when it doubles; readers keep using the old table
+ * until the grown one is published.
+ */
+public final class IdentityTable<K, V> {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** One mapping; published whole, so readers never see half an entry */
+    private record Entry<K, V>(K key, V value) {
+    }
+
+    private volatile AtomicReferenceArray<Entry<K, V>> entries = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+    // Guarded by this
+    private int size;
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /** Returns the value mapped to this exact instance, or null */
+    public V get(K key) {
+        AtomicReferenceArray<Entry<K, V>> table = entries;
+        int mask = table.length() - 1;
+        int slot = mix(System.identityHashCode(key)) & mask;
+        Entry<K, V> entry;
+        while ((entry = table.get(slot)) != null) {
+            if (entry.key() == key) return entry.value();
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /** Maps a key that is not in the table yet */
+    public synchronized void putAbsent(K key, V value) {
+        if (get(key) != null) return;
+
+        AtomicReferenceArray<Entry<K, V>> table = entries;
+        if ((size + 1) * 2 > table.length()) {
+            table = grow(table);
+            entries = table;
+        }
+        insert(table, new Entry<>(key, value));
+        size++;
+    }
+
+    public synchronized void clear() {
+        entries = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static <K, V> void insert(AtomicReferenceArray<Entry<K, V>> table, Entry<K, V> entry) {
+        int mask = table.length() - 1;
+        int slot = mix(System.identityHashCode(entry.key())) & mask;
+        while (table.get(slot) != null) {
+            slot = (slot + 1) & mask;
+        }
+        table.set(slot, entry);
+    }
+
+    private static <K, V> AtomicReferenceArray<Entry<K, V>> grow(AtomicReferenceArray<Entry<K, V>> table) {
+        AtomicReferenceArray<Entry<K, V>> grown = new AtomicReferenceArray<>(table.length() * 2);
+        for (int i = 0; i < table.length(); i++) {
+            Entry<K, V> entry = table.get(i);
+            if (entry != null) insert(grown, entry);
+        }
+        return grown;
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,71 @@
+package com.venomie.hytaleleveladditions.ores;
+
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the ore classification of each BlockType by identity.
+ * <p>
+ * The first time a BlockType is seen its ID is classified against the active SkillConfig;
+ * every later lookup is a single {@link IdentityTable} read, which never calls BlockType's
+ * equals or hashCode. Non-ore blocks are cached too, so dirt and stone exit without
+ * touching any strings.
+ * <p>
+ * Reads are lock-free; misses (once per BlockType) add one entry under a lock. An asset
+ * reload creates new BlockType instances: the first new instance seen for an already
+ * cached ID clears the cache, so the old instances are not kept alive.
+ */
+public final class OreRegistry {
+
+    private OreRegistry() {
+        // Utility class; prevent instantiation
+    }
+
+    /** Sentinel stored for block types that are not ores */
+    private static final OreProfile NOT_ORE = new OreProfile(null, 0, 0, null);
+
+    private static final IdentityTable<BlockType, OreProfile> PROFILES = new IdentityTable<>();
+
+    /** Instance classified for each block ID; a different instance means the assets were reloaded */
+    private static final Map<String, BlockType> INSTANCES = new HashMap<>();
+
+    static {
+        // Cached classifications point at the old profiles once a new config is published
+        SkillConfigs.addPublishListener(OreRegistry::clear);
+    }
+
+    /**
+     * Returns the ore profile for a block type, or null if the block is not an ore.
+     */
+    public static OreProfile get(BlockType blockType) {
+        OreProfile profile = PROFILES.get(blockType);
+        if (profile == null) {
+            profile = resolve(blockType);
+        }
+        return profile == NOT_ORE ? null : profile;
+    }
+
+    /** Drops all cached classifications; runs whenever a new SkillConfig is published */
+    public static synchronized void clear() {
+        PROFILES.clear();
+        INSTANCES.clear();
+    }
+
+    private static synchronized OreProfile resolve(BlockType blockType) {
+        OreProfile profile = PROFILES.get(blockType);
+        if (profile != null) return profile;
+
+        String id = blockType.getId();
+        BlockType previous = INSTANCES.get(id);
+        if (previous != null && previous != blockType) clear();
+        INSTANCES.put(id, blockType);
+
+        profile = SkillConfigs.current().classify(id);
+        if (profile == null) profile = NOT_ORE;
+        PROFILES.putAbsent(blockType, profile);
+        return profile;
+    }
+}
@@ -0,0 +1,138 @@
+package com.venomie.hytaleleveladditions.prospect;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.ores.OreSectionSummary;
+import com.venomie.hytaleleveladditions.vein.PackedPos;
+
+import java.util.List;
+
+/**
+ * One player's prospecting request: counts the ores of each type within a radius of
+ * where they stood.
+ * <p>
+ * The chunk sections overlapping the sphere are listed up front, nearest first, and
+ * visited one at a time by ProspectSystem through {@link #nextSection()} and
+ * {@link #accept}; the visit can pause between sections (when the world's scan budget
+ * for the tick is spent) and resume on a later tick.
+ */
+public final class ProspectScan {
+
+    private final Ref<EntityStore> owner;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final int radius;
+
+    /** Ore types in index order, as of when the scan started */
+    private final List<OreProfile> ores;
+    private final long[] counts;
+
+    /** Packed section coordinates still to visit, from {@link #cursor} on */
+    private final long[] sections;
+    private int cursor;
+
+    public ProspectScan(Ref<EntityStore> owner, double x, double y, double z, int radius, List<OreProfile> ores) {
+        this.owner = owner;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.radius = Math.max(1, radius);
+        this.ores = List.copyOf(ores.subList(0, Math.min(ores.size(), OreSectionSummary.MAX_TYPES)));
+        this.counts = new long[this.ores.size()];
+        this.sections = listSections(x, y, z, this.radius);
+    }
+
+    // ===============================
+    // Accessors
+    // ===============================
+
+    public Ref<EntityStore> getOwner() {
+        return owner;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public List<OreProfile> getOres() {
+        return ores;
+    }
+
+    /** Ores found so far, indexed like {@link #getOres()} */
+    public long[] getCounts() {
+        return counts;
+    }
+
+    public boolean isDone() {
+        return cursor == sections.length;
+    }
+
+    public int getSectionCount() {
+        return sections.length;
+    }
+
+    // ===============================
+    // Stepping
+    // ===============================
+
+    /** Packed section coordinates (see PackedPos) of the next section to visit */
+    public long nextSection() {
+        return sections[cursor];
+    }
+
+    /** Adds the next section's ores within the radius and moves past it */
+    public void accept(OreSectionSummary summary) {
+        long section = sections[cursor++];
+        summary.addWithin(PackedPos.x(section), PackedPos.y(section), PackedPos.z(section),
+                x, y, z, radius, counts);
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    /** Sections whose box comes within the radius of the point, nearest first */
+    private static long[] listSections(double x, double y, double z, int radius) {
+        int shift = OreSectionSummary.SHIFT;
+        int minX = (int) Math.floor(x - radius) >> shift, maxX = (int) Math.floor(x + radius) >> shift;
+        int minY = (int) Math.floor(y - radius) >> shift, maxY = (int) Math.floor(y + radius) >> shift;
+        int minZ = (int) Math.floor(z - radius) >> shift, maxZ = (int) Math.floor(z + radius) >> shift;
+
+        int capacity = (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        long[] found = new long[capacity];
+        double[] distances = new double[capacity];
+        int size = 0;
+        double radiusSquared = (double) radius * radius;
+
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sy = minY; sy <= maxY; sy++) {
+                for (int sz = minZ; sz <= maxZ; sz++) {
+                    double dx = gap(x, sx << shift), dy = gap(y, sy << shift), dz = gap(z, sz << shift);
+                    double distance = dx * dx + dy * dy + dz * dz;
+                    if (distance > radiusSquared) continue;
+                    // Insertion sort by distance; a scan covers at most a few hundred sections
+                    int i = size++;
+                    while (i > 0 && distances[i - 1] > distance) {
+                        found[i] = found[i - 1];
+                        distances[i] = distances[i - 1];
+                        i--;
+                    }
+                    found[i] = PackedPos.pack(sx, sy, sz);
+                    distances[i] = distance;
+                }
+            }
+        }
+        long[] sections = new long[size];
+        System.arraycopy(found, 0, sections, 0, size);
+        return sections;
+    }
+
+    /** Distance along one axis from a coordinate to a section spanning [min, min + SIZE) */
+    private static double gap(double coordinate, int min) {
+        if (coordinate < min) return min - coordinate;
+        int max = min + OreSectionSummary.SIZE;
+        return coordinate > max ? coordinate - max : 0;
+    }
+}
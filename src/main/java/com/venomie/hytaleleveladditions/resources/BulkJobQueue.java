@@ -0,0 +1,102 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.bulk.BulkJob;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-world queue of bulk jobs plus the cursor of the job being worked on.
+ * <p>
+ * Server-wide jobs are queued on every world. Each world runs its jobs one at a time:
+ * when a job starts, the refs of every player in the world (with or without a
+ * SkillsComponent) are collected once; BulkOperationSystem then walks that list a
+ * time-budgeted batch per tick, so the job resumes where the last tick stopped.
+ * <p>
+ * Only touched from the owning world's thread.
+ */
+public class BulkJobQueue implements Resource<EntityStore> {
+
+    private final ArrayDeque<BulkJob> pending = new ArrayDeque<>();
+
+    @Nullable
+    private BulkJob current;
+
+    /** Entities targeted by the current job, collected when it starts */
+    private final List<Ref<EntityStore>> targets = new ArrayList<>();
+
+    /** Index of the next target to process */
+    private int cursor;
+
+    /** Whether this world has collected the current job's targets */
+    private boolean started;
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Jobs belong to the live world; a copy starts idle
+        return new BulkJobQueue();
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    public void submit(BulkJob job) {
+        pending.add(job);
+    }
+
+    /** Number of jobs waiting behind the current one */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /** Returns the job being worked on, promoting the next queued job if idle */
+    @Nullable
+    public BulkJob current() {
+        if (current == null) {
+            current = pending.poll();
+            targets.clear();
+            cursor = 0;
+            started = false;
+        }
+        return current;
+    }
+
+    public boolean isStarted() {
+        return started;
+    }
+
+    public void markStarted() {
+        started = true;
+    }
+
+    /** Drops the current job (after it finished or was cancelled) */
+    public void finishCurrent() {
+        current = null;
+        targets.clear();
+        cursor = 0;
+    }
+
+    public List<Ref<EntityStore>> targets() {
+        return targets;
+    }
+
+    public int cursor() {
+        return cursor;
+    }
+
+    /** Returns the next target and advances the cursor */
+    public Ref<EntityStore> next() {
+        return targets.get(cursor++);
+    }
+
+    public boolean hasNext() {
+        return cursor < targets.size();
+    }
+}
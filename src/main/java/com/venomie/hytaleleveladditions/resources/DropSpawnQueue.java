@@ -0,0 +1,204 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.engine.DropSink;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Per-world buffer of bonus drops waiting to be spawned.
+ * <p>
+ * Drops of the same item landing in the same merge cell during a tick are folded into
+ * one stack, so a burst of breaks spawns a handful of item entities instead of one each.
+ * DropSpawnSystem flushes the buffer once per tick. Storage is primitive arrays plus an
+ * open-addressing index; nothing is allocated per drop once the arrays have grown.
+ * <p>
+ * Also serves as the MiningEngine's {@link DropSink} for the world.
+ * <p>
+ * Only touched from the owning world's thread.
+ */
+public class DropSpawnQueue implements Resource<EntityStore>, DropSink {
+
+    /** Largest amount folded into one stack before a new stack is started */
+    public static final int MAX_STACK_AMOUNT = 64;
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    /** Side length (in blocks) of the cells drops are merged within; 1 = same block only */
+    private final int mergeCellSize;
+
+    // Pending stacks, in insertion order
+    private int[] x;
+    private int[] y;
+    private int[] z;
+    private int[] itemIndex;
+    private int[] amount;
+    private int size;
+
+    /** Index from (cell, item) to the open stack in that cell; -1 = empty */
+    private int[] table;
+
+    /** Distinct item IDs seen by this queue (bonus drops use very few) */
+    private String[] itemIds = new String[4];
+    private int itemCount;
+
+    public DropSpawnQueue() {
+        this(1);
+    }
+
+    public DropSpawnQueue(int mergeCellSize) {
+        this.mergeCellSize = Math.max(1, mergeCellSize);
+        allocate(INITIAL_CAPACITY);
+    }
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Pending drops are tick-local; a copy starts empty
+        return new DropSpawnQueue(mergeCellSize);
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /**
+     * Queues a drop at a block position, merging it into a pending stack of the
+     * same item in the same cell when possible.
+     */
+    public void add(String itemId, int count, int blockX, int blockY, int blockZ) {
+        if (count <= 0) return;
+        int item = internItem(itemId);
+        long cell = packCell(blockX, blockY, blockZ);
+
+        int slot = findSlot(cell, item);
+        int existing = table[slot];
+        if (existing >= 0 && amount[existing] + count <= MAX_STACK_AMOUNT) {
+            amount[existing] += count;
+            return;
+        }
+
+        if ((size + 1) * 2 > table.length) {
+            grow();
+            slot = findSlot(cell, item);
+        }
+
+        int index = size++;
+        x[index] = blockX;
+        y[index] = blockY;
+        z[index] = blockZ;
+        itemIndex[index] = item;
+        amount[index] = count;
+        // A full stack stays queued; the index now points at the fresh one
+        table[slot] = index;
+    }
+
+    @Override
+    public void drop(String itemId, int amount, int blockX, int blockY, int blockZ) {
+        add(itemId, amount, blockX, blockY, blockZ);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Number of pending stacks */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Hands up to {@code limit} stacks to the consumer in insertion order and removes them.
+     * Remaining stacks stay queued (and mergeable) for the next flush.
+     *
+     * @return number of stacks drained
+     */
+    public int drain(int limit, Consumer consumer) {
+        int count = Math.min(limit, size);
+        for (int i = 0; i < count; i++) {
+            consumer.accept(itemIds[itemIndex[i]], amount[i], x[i], y[i], z[i]);
+        }
+
+        // Shift leftovers down and rebuild the index (only when the cap was hit)
+        int remaining = size - count;
+        if (remaining > 0) {
+            System.arraycopy(x, count, x, 0, remaining);
+            System.arraycopy(y, count, y, 0, remaining);
+            System.arraycopy(z, count, z, 0, remaining);
+            System.arraycopy(itemIndex, count, itemIndex, 0, remaining);
+            System.arraycopy(amount, count, amount, 0, remaining);
+        }
+        size = remaining;
+        reindex();
+        return count;
+    }
+
+    /** Receives drained stacks */
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(String itemId, int amount, int blockX, int blockY, int blockZ);
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private int internItem(String itemId) {
+        for (int i = 0; i < itemCount; i++) {
+            if (itemIds[i].equals(itemId)) return i;
+        }
+        if (itemCount == itemIds.length) itemIds = Arrays.copyOf(itemIds, itemCount * 2);
+        itemIds[itemCount] = itemId;
+        return itemCount++;
+    }
+
+    private long packCell(int blockX, int blockY, int blockZ) {
+        long cx = Math.floorDiv(blockX, mergeCellSize);
+        long cy = Math.floorDiv(blockY, mergeCellSize);
+        long cz = Math.floorDiv(blockZ, mergeCellSize);
+        return ((cx & 0x3FFFFFFL) << 38) | ((cz & 0x3FFFFFFL) << 12) | (cy & 0xFFFL);
+    }
+
+    private int findSlot(long cell, int item) {
+        int mask = table.length - 1;
+        long h = (cell ^ ((long) item << 52)) * 0x9E3779B97F4A7C15L;
+        int slot = (int) (h >>> 32) & mask;
+        while (true) {
+            int index = table[slot];
+            if (index < 0) return slot;
+            if (itemIndex[index] == item && packCell(x[index], y[index], z[index]) == cell) return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void allocate(int capacity) {
+        x = new int[capacity];
+        y = new int[capacity];
+        z = new int[capacity];
+        itemIndex = new int[capacity];
+        amount = new int[capacity];
+        table = new int[capacity * 2];
+        Arrays.fill(table, -1);
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        itemIndex = Arrays.copyOf(itemIndex, capacity);
+        amount = Arrays.copyOf(amount, capacity);
+        table = new int[capacity * 2];
+        reindex();
+    }
+
+    private void reindex() {
+        Arrays.fill(table, -1);
+        for (int i = 0; i < size; i++) {
+            // Later stacks for the same key overwrite earlier (full) ones
+            table[findSlot(packCell(x[i], y[i], z[i]), itemIndex[i])] = i;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+
+/**
+ * Per-world FIFO of players that entered the world and still need their join work done.
+ * <p>
+ * PlayerLevelMiningSystem only appends here; JoinSystem takes a fixed number of players
+ * per tick, so a login storm after a restart is spread over several ticks instead of
+ * landing in one.
+ * <p>
+ * Only touched from the owning world's thread.
+ */
+public class JoinQueue implements Resource<EntityStore> {
+
+    private final ArrayDeque<Ref<EntityStore>> pending = new ArrayDeque<>();
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Pending refs belong to the live world; a copy starts empty
+        return new JoinQueue();
+    }
+
+    public void add(Ref<EntityStore> ref) {
+        pending.addLast(ref);
+    }
+
+    /** Next player in join order, or null if none is waiting */
+    @Nullable
+    public Ref<EntityStore> poll() {
+        return pending.pollFirst();
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    public int size() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,39 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.journal.XpLogFormat;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-world buffer of Mining XP earned during the current tick.
+ * <p>
+ * BreakOreEventSystem, VeinMiningSystem and party sharing add XP here; MiningXpAccrualSystem
+ * drains it once per tick. Amounts are whole XP, which a double holds exactly.
+ */
+public class MiningXpAccumulator extends SkillAccumulator {
+
+    public MiningXpAccumulator() {
+        super(SkillType.Mining);
+    }
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Pending XP is tick-local; a copy starts empty
+        return new MiningXpAccumulator();
+    }
+
+    /**
+     * Adds XP for an entity. Repeated adds for the same ref in one tick are summed.
+     *
+     * @param blocks blocks the XP was earned for
+     * @param sourceId XP log ID of the ore, or {@link XpLogFormat#NO_NAME}
+     * @param position packed position of the break (the vein origin for vein mining)
+     */
+    public void add(Ref<EntityStore> ref, long xp, int blocks, int sourceId, long position) {
+        if (xp != 0) addAmount(ref, xp, blocks, sourceId, position);
+    }
+}
@@ -0,0 +1,235 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.config.SkillConfig;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.ores.OreSectionSummary;
+import com.venomie.hytaleleveladditions.vein.PackedPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Per-world cache of ore summaries for 16x16x16 chunk sections, used by prospecting.
+ * <p>
+ * A section is summarized (scanned once) by ProspectSystem the first time a scan needs it;
+ * after that ore breaks and placements (by players and by vein mining) update it in place,
+ * so later scans over the same area only read the cached counts. Sections that are not
+ * cached ignore updates, since they are scanned fresh when next needed.
+ * <p>
+ * Changes that fire no event the plugin sees (explosions, world edits, other plugins)
+ * cannot update the counts, so a summary is only trusted for {@code ttlMillis} after its
+ * scan; an older one is dropped and the section is scanned again.
+ * <p>
+ * At most {@code capacity} sections are kept. When a new one is added to a full cache, a
+ * clock hand sweeps the entries and evicts the first one no scan has read since the hand
+ * last passed it (second-chance, an approximation of LRU). The sections around active
+ * miners stay cached while areas nobody visits any more (typically unloaded chunks) drop
+ * out. The cache is also emptied when a new SkillConfig is published, since ore type
+ * indexes may have changed; that is checked when scans read or store a summary.
+ * <p>
+ * Entries live in dense primitive arrays found through an open-addressing table keyed by
+ * the packed section coordinate (as in PlacedOreIndex), so the updates on every ore break
+ * ({@link #oreAdded}, {@link #oreRemoved}) are one hash probe: no boxing, no reordering,
+ * no config or clock check. An update may touch a summary that is stale or expired; the
+ * next scan drops it anyway.
+ * <p>
+ * Not persisted. Only touched from the owning world's thread.
+ */
+public class OreSectionIndex implements Resource<EntityStore> {
+
+    private final int capacity;
+    private final long ttlMillis;
+
+    // Dense entry storage; index i belongs to sectionKeys[i]
+    private final long[] sectionKeys;
+    private final OreSectionSummary[] summaries;
+    private final long[] scannedAtMillis;
+    /** Set when a scan reads the entry; cleared as the clock hand passes */
+    private final boolean[] referenced;
+    private int size;
+    private int clockHand;
+
+    /** Open-addressing table: entry index + 1, 0 = empty */
+    private final int[] table;
+
+    /** Config the cached summaries were built against */
+    private SkillConfig config;
+
+    /**
+     * @param capacity  most sections kept
+     * @param ttlMillis how long a scanned summary is trusted; 0 or less keeps it until evicted
+     */
+    public OreSectionIndex(int capacity, long ttlMillis) {
+        this.capacity = Math.max(1, capacity);
+        this.ttlMillis = ttlMillis;
+        this.sectionKeys = new long[this.capacity];
+        this.summaries = new OreSectionSummary[this.capacity];
+        this.scannedAtMillis = new long[this.capacity];
+        this.referenced = new boolean[this.capacity];
+        // At most half full
+        this.table = new int[Integer.highestOneBit(this.capacity) << 2];
+    }
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Summaries can be rebuilt from the world at any time; a copy starts empty
+        return new OreSectionIndex(capacity, ttlMillis);
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /** Key of the section holding a block */
+    public static long sectionKeyOf(int x, int y, int z) {
+        return sectionKey(x >> OreSectionSummary.SHIFT, y >> OreSectionSummary.SHIFT, z >> OreSectionSummary.SHIFT);
+    }
+
+    /** Key of a section by section coordinates */
+    public static long sectionKey(int sectionX, int sectionY, int sectionZ) {
+        return PackedPos.pack(sectionX, sectionY, sectionZ);
+    }
+
+    /** Ore type index of a profile (its position in the config's ore list), or -1 if it has none */
+    public static int typeOf(OreProfile ore) {
+        return ore.isListed() ? ore.getTier() - 1 : -1;
+    }
+
+    /**
+     * Cached summary of a section for a scan, or null if it has not been scanned (or was
+     * evicted or expired). Protects the entry from the next eviction sweep.
+     */
+    @Nullable
+    public OreSectionSummary get(long sectionKey) {
+        checkConfig();
+        int slot = findSlot(sectionKey);
+        int index = table[slot] - 1;
+        if (index < 0) return null;
+        if (ttlMillis > 0 && System.currentTimeMillis() - scannedAtMillis[index] >= ttlMillis) {
+            removeEntry(slot, index);
+            return null;
+        }
+        referenced[index] = true;
+        return summaries[index];
+    }
+
+    /** Caches a freshly scanned section, evicting one if full */
+    public void put(long sectionKey, OreSectionSummary summary) {
+        checkConfig();
+        int slot = findSlot(sectionKey);
+        int index = table[slot] - 1;
+        if (index < 0) {
+            if (size == capacity) {
+                evictOne();
+                slot = findSlot(sectionKey);
+            }
+            index = size++;
+            sectionKeys[index] = sectionKey;
+            table[slot] = index + 1;
+        }
+        summaries[index] = summary;
+        scannedAtMillis[index] = System.currentTimeMillis();
+        referenced[index] = true;
+    }
+
+    /** Records an ore block placed at a position, if its section is cached */
+    public void oreAdded(int x, int y, int z, OreProfile ore) {
+        int index = table[findSlot(sectionKeyOf(x, y, z))] - 1;
+        if (index >= 0) summaries[index].add(OreSectionSummary.localIndex(x, y, z), typeOf(ore));
+    }
+
+    /** Forgets the ore block at a position, if its section is cached */
+    public void oreRemoved(int x, int y, int z) {
+        int index = table[findSlot(sectionKeyOf(x, y, z))] - 1;
+        if (index >= 0) summaries[index].remove(OreSectionSummary.localIndex(x, y, z));
+    }
+
+    /** Number of ore types summaries are built with, for the active config */
+    public int oreTypes() {
+        return Math.min(SkillConfigs.current().getOres().size(), OreSectionSummary.MAX_TYPES);
+    }
+
+    /** Number of cached sections */
+    public int size() {
+        return size;
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private void checkConfig() {
+        SkillConfig current = SkillConfigs.current();
+        if (current != config) {
+            Arrays.fill(table, 0);
+            Arrays.fill(summaries, 0, size, null);
+            size = 0;
+            clockHand = 0;
+            config = current;
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /** Returns the slot holding key, or the empty slot where it would go */
+    private int findSlot(long key) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (true) {
+            int entry = table[slot];
+            if (entry == 0 || sectionKeys[entry - 1] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /** Second chance: skips (and clears) referenced entries until it finds one that is not */
+    private void evictOne() {
+        while (true) {
+            if (clockHand >= size) clockHand = 0;
+            int index = clockHand;
+            if (referenced[index]) {
+                referenced[index] = false;
+                clockHand++;
+            } else {
+                // The last entry moves into this index, so the hand stays to look at it next
+                removeEntry(findSlot(sectionKeys[index]), index);
+                return;
+            }
+        }
+    }
+
+    /** Backward-shift delete in the table, swap-remove in storage */
+    private void removeEntry(int slot, int index) {
+        int mask = table.length - 1;
+        table[slot] = 0;
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (table[next] != 0) {
+            int home = hash(sectionKeys[table[next] - 1]) & mask;
+            // Move the entry into the hole if its home slot does not lie in (hole, next]
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                table[next] = 0;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        int last = --size;
+        if (index != last) {
+            sectionKeys[index] = sectionKeys[last];
+            summaries[index] = summaries[last];
+            scannedAtMillis[index] = scannedAtMillis[last];
+            referenced[index] = referenced[last];
+            table[findSlot(sectionKeys[index])] = index + 1;
+        }
+        summaries[last] = null;
+    }
+}
@@ -0,0 +1,292 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-world uniform spatial hash of the positions of party members, used to find the
+ * members near an ore break without looking at every member or every player.
+ * <p>
+ * The world is split into square columns of {@code cellSize} blocks (the XP share
+ * radius), keyed by their x/z cell coordinates; each occupied column holds an intrusive
+ * linked list of the members standing in it. Moving within a column only updates the
+ * stored position; crossing into another column unlinks and relinks one member. A query
+ * visits the 3x3 columns around the point and filters by true 3D distance.
+ * <p>
+ * Kept up to date by PartyGridSystem. Only touched from the owning world's thread.
+ */
+public class PartyMemberGrid implements Resource<EntityStore> {
+
+    private static final int INITIAL_CELLS = 64;
+
+    /** One tracked party member */
+    public static final class Member {
+        private final Ref<EntityStore> ref;
+        private UUID playerId;
+        private int partyId;
+        private double x, y, z;
+
+        // Grid bookkeeping
+        private long cell;
+        private Member prevInCell, nextInCell;
+        private int index;
+
+        private Member(Ref<EntityStore> ref) {
+            this.ref = ref;
+        }
+
+        public Ref<EntityStore> getRef() {
+            return ref;
+        }
+
+        public UUID getPlayerId() {
+            return playerId;
+        }
+
+        public int getPartyId() {
+            return partyId;
+        }
+    }
+
+    private final double cellSize;
+    private final double radiusSquared;
+
+    private final HashMap<Ref<EntityStore>, Member> byRef = new HashMap<>();
+    /** Every member, for the per-tick position walk */
+    private final List<Member> members = new ArrayList<>();
+
+    // Open-addressing table: occupied column key -> first member in it (null = free slot)
+    private long[] cellKeys;
+    private Member[] cellHeads;
+    private int cellCount;
+
+    /** Reused result list of {@link #collectNear} */
+    private final List<Member> near = new ArrayList<>();
+
+    /** Parties version the grid was last rebuilt for */
+    private long syncedVersion = -1;
+
+    /**
+     * @param radius XP share radius in blocks; also the column size
+     */
+    public PartyMemberGrid(double radius) {
+        this.cellSize = Math.max(1.0, radius);
+        this.radiusSquared = radius * radius;
+        allocate(INITIAL_CELLS);
+    }
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Positions belong to the live world; a copy starts empty and resynchronizes
+        return new PartyMemberGrid(Math.sqrt(radiusSquared));
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    public boolean isEmpty() {
+        return members.isEmpty();
+    }
+
+    /** Tracked members, in no particular order; use {@link #untrack} to remove while walking backwards */
+    public List<Member> members() {
+        return members;
+    }
+
+    @Nullable
+    public Member get(Ref<EntityStore> ref) {
+        return byRef.get(ref);
+    }
+
+    /** Starts tracking a party member, or updates their party and position if already tracked */
+    public void track(Ref<EntityStore> ref, UUID playerId, int partyId, double x, double y, double z) {
+        Member member = byRef.get(ref);
+        if (member == null) {
+            member = new Member(ref);
+            member.index = members.size();
+            members.add(member);
+            byRef.put(ref, member);
+            member.x = x;
+            member.y = y;
+            member.z = z;
+            member.cell = cellKey(x, z);
+            link(member);
+        } else {
+            move(member, x, y, z);
+        }
+        member.playerId = playerId;
+        member.partyId = partyId;
+    }
+
+    public void untrack(Ref<EntityStore> ref) {
+        Member member = byRef.remove(ref);
+        if (member == null) return;
+
+        unlink(member);
+        // Swap-remove from the walk list
+        Member last = members.remove(members.size() - 1);
+        if (last != member) {
+            members.set(member.index, last);
+            last.index = member.index;
+        }
+    }
+
+    /** Updates a member's position; relinks them only if they crossed into another column */
+    public void move(Member member, double x, double y, double z) {
+        member.x = x;
+        member.y = y;
+        member.z = z;
+        long cell = cellKey(x, z);
+        if (cell == member.cell) return;
+
+        unlink(member);
+        member.cell = cell;
+        link(member);
+    }
+
+    /**
+     * Members of the same party as {@code self} within the share radius of a point,
+     * excluding {@code self}. The returned list is reused by the next call.
+     */
+    public List<Member> collectNear(Member self, double x, double y, double z) {
+        near.clear();
+        int cx = cellCoord(x);
+        int cz = cellCoord(z);
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                int slot = findSlot(pack(cx + dx, cz + dz));
+                for (Member m = cellHeads[slot]; m != null; m = m.nextInCell) {
+                    if (m == self || m.partyId != self.partyId) continue;
+                    double ddx = m.x - x, ddy = m.y - y, ddz = m.z - z;
+                    if (ddx * ddx + ddy * ddy + ddz * ddz <= radiusSquared) near.add(m);
+                }
+            }
+        }
+        return near;
+    }
+
+    /** Forgets every member */
+    public void clear() {
+        byRef.clear();
+        members.clear();
+        allocate(INITIAL_CELLS);
+    }
+
+    public long getSyncedVersion() {
+        return syncedVersion;
+    }
+
+    public void setSyncedVersion(long version) {
+        this.syncedVersion = version;
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private int cellCoord(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private long cellKey(double x, double z) {
+        return pack(cellCoord(x), cellCoord(z));
+    }
+
+    private static long pack(int cx, int cz) {
+        return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /** Slot holding the key, or the free slot where it would go */
+    private int findSlot(long key) {
+        int mask = cellKeys.length - 1;
+        int slot = mix(key) & mask;
+        while (cellHeads[slot] != null && cellKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void link(Member member) {
+        if ((cellCount + 1) * 2 > cellKeys.length) grow();
+
+        int slot = findSlot(member.cell);
+        Member head = cellHeads[slot];
+        if (head == null) {
+            cellKeys[slot] = member.cell;
+            cellCount++;
+        } else {
+            head.prevInCell = member;
+        }
+        member.prevInCell = null;
+        member.nextInCell = head;
+        cellHeads[slot] = member;
+    }
+
+    private void unlink(Member member) {
+        if (member.prevInCell != null) {
+            member.prevInCell.nextInCell = member.nextInCell;
+        } else {
+            int slot = findSlot(member.cell);
+            cellHeads[slot] = member.nextInCell;
+            if (member.nextInCell == null) removeSlot(slot);
+        }
+        if (member.nextInCell != null) member.nextInCell.prevInCell = member.prevInCell;
+        member.prevInCell = null;
+        member.nextInCell = null;
+    }
+
+    /** Frees a slot, shifting later entries of the probe run back so lookups still find them */
+    private void removeSlot(int slot) {
+        int mask = cellKeys.length - 1;
+        cellHeads[slot] = null;
+        cellCount--;
+
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (cellHeads[next] != null) {
+            int home = mix(cellKeys[next]) & mask;
+            // Move the entry into the hole unless its home lies cyclically in (hole, next]
+            boolean stays = hole <= next ? (home > hole && home <= next) : (home > hole || home <= next);
+            if (!stays) {
+                cellKeys[hole] = cellKeys[next];
+                cellHeads[hole] = cellHeads[next];
+                cellHeads[next] = null;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void allocate(int capacity) {
+        cellKeys = new long[capacity];
+        cellHeads = new Member[capacity];
+        cellCount = 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = cellKeys;
+        Member[] oldHeads = cellHeads;
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldHeads[i] == null) continue;
+            int slot = findSlot(oldKeys[i]);
+            cellKeys[slot] = oldKeys[i];
+            cellHeads[slot] = oldHeads[i];
+            cellCount++;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.vein.PackedPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Per-world record of ore blocks placed by players, so breaking them again grants no
+ * XP or bonus drops.
+ * <p>
+ * Positions are grouped by 16x16x16 chunk section; each section that holds at least one
+ * placed ore owns a 4096-bit bitset (64 longs). Sections are found through an
+ * open-addressing table keyed by the packed section coordinate, so a membership check
+ * is one hash probe plus one bit test, and unexplored or untouched sections cost nothing.
+ * Sections are dropped again once their last placed ore is broken.
+ * <p>
+ * A mark whose ore disappears without a break event (explosion, world edit) is pruned
+ * when its position is next built on, or when prospecting scans its section
+ * (see {@link #hasSection}).
+ * <p>
+ * Persisted with the world as one compact Base64 field for the whole world rather than
+ * per chunk, since the plugin has no hook into chunk serialization; pruning keeps it to
+ * the ores that still exist. Only touched from the owning world's thread.
+ */
+public class PlacedOreIndex implements Resource<EntityStore> {
+
+    private static final int WORDS_PER_SECTION = 64; // 4096 bits
+    private static final int INITIAL_SECTIONS = 16;
+
+    // Dense section storage; index i belongs to sectionKeys[i]
+    private long[] sectionKeys = new long[INITIAL_SECTIONS];
+    private long[][] sectionBits = new long[INITIAL_SECTIONS][];
+    private int[] sectionCounts = new int[INITIAL_SECTIONS];
+    private int sectionCount;
+
+    /** Open-addressing table: section index + 1, 0 = empty */
+    private int[] table = new int[INITIAL_SECTIONS * 2];
+
+    // ===============================
+    // Hytale Codec for world serialization
+    // ===============================
+
+    /** Layout version of the "Positions" field */
+    public static final int CURRENT_VERSION = 1;
+
+    public static final BuilderCodec<PlacedOreIndex> CODEC =
+            BuilderCodec.builder(PlacedOreIndex.class, PlacedOreIndex::new)
+                    .addField(new KeyedCodec<>("Version", Codec.INTEGER),
+                            (data, value) -> { }, // setter (only one layout so far)
+                            data -> CURRENT_VERSION)
+                    .addField(new KeyedCodec<>("Positions", Codec.STRING),
+                            PlacedOreIndex::decode, // setter
+                            PlacedOreIndex::encode) // getter
+                    .build();
+
+    public PlacedOreIndex() {
+    }
+
+    /** Copy constructor */
+    public PlacedOreIndex(PlacedOreIndex clone) {
+        this.sectionKeys = clone.sectionKeys.clone();
+        this.sectionBits = new long[clone.sectionBits.length][];
+        for (int i = 0; i < clone.sectionCount; i++) {
+            this.sectionBits[i] = clone.sectionBits[i].clone();
+        }
+        this.sectionCounts = clone.sectionCounts.clone();
+        this.sectionCount = clone.sectionCount;
+        this.table = clone.table.clone();
+    }
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        return new PlacedOreIndex(this);
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /** Marks a block as player-placed */
+    public void add(int x, int y, int z) {
+        long key = sectionKey(x, y, z);
+        int slot = findSlot(key);
+        int index = table[slot] - 1;
+        if (index < 0) {
+            index = addSection(key);
+            slot = findSlot(key);
+            table[slot] = index + 1;
+        }
+
+        int bit = localIndex(x, y, z);
+        long[] bits = sectionBits[index];
+        long mask = 1L << bit;
+        if ((bits[bit >>> 6] & mask) == 0) {
+            bits[bit >>> 6] |= mask;
+            sectionCounts[index]++;
+        }
+    }
+
+    /** Returns true if the block was placed by a player */
+    public boolean contains(int x, int y, int z) {
+        int index = table[findSlot(sectionKey(x, y, z))] - 1;
+        if (index < 0) return false;
+        int bit = localIndex(x, y, z);
+        return (sectionBits[index][bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Clears a block's placed flag (call when it is broken).
+     *
+     * @return true if the block was marked as placed
+     */
+    public boolean remove(int x, int y, int z) {
+        long key = sectionKey(x, y, z);
+        int slot = findSlot(key);
+        int index = table[slot] - 1;
+        if (index < 0) return false;
+
+        int bit = localIndex(x, y, z);
+        long[] bits = sectionBits[index];
+        long mask = 1L << bit;
+        if ((bits[bit >>> 6] & mask) == 0) return false;
+
+        bits[bit >>> 6] &= ~mask;
+        if (--sectionCounts[index] == 0) removeSection(slot, index);
+        return true;
+    }
+
+    /** Returns true if any block of the 16x16x16 section holding this block is marked */
+    public boolean hasSection(int x, int y, int z) {
+        return table[findSlot(sectionKey(x, y, z))] != 0;
+    }
+
+    /** Total number of placed blocks tracked */
+    public int size() {
+        int total = 0;
+        for (int i = 0; i < sectionCount; i++) total += sectionCounts[i];
+        return total;
+    }
+
+    /** Number of chunk sections holding at least one placed block */
+    public int sectionCount() {
+        return sectionCount;
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static long sectionKey(int x, int y, int z) {
+        return PackedPos.pack(x >> 4, y >> 4, z >> 4);
+    }
+
+    private static int localIndex(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /** Returns the slot holding key, or the empty slot where it would go */
+    private int findSlot(long key) {
+        int mask = table.length - 1;
+        int slot = hash(key) & mask;
+        while (true) {
+            int entry = table[slot];
+            if (entry == 0 || sectionKeys[entry - 1] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int addSection(long key) {
+        if (sectionCount == sectionKeys.length) {
+            int capacity = sectionCount * 2;
+            sectionKeys = Arrays.copyOf(sectionKeys, capacity);
+            sectionBits = Arrays.copyOf(sectionBits, capacity);
+            sectionCounts = Arrays.copyOf(sectionCounts, capacity);
+        }
+        if ((sectionCount + 1) * 2 > table.length) {
+            table = new int[table.length * 2];
+            for (int i = 0; i < sectionCount; i++) table[findSlot(sectionKeys[i])] = i + 1;
+        }
+
+        int index = sectionCount++;
+        sectionKeys[index] = key;
+        sectionBits[index] = new long[WORDS_PER_SECTION];
+        sectionCounts[index] = 0;
+        return index;
+    }
+
+    /** Removes an empty section: backward-shift delete in the table, swap-remove in storage */
+    private void removeSection(int slot, int index) {
+        int mask = table.length - 1;
+        table[slot] = 0;
+        int hole = slot;
+        int next = (slot + 1) & mask;
+        while (table[next] != 0) {
+            int home = hash(sectionKeys[table[next] - 1]) & mask;
+            // Move the entry into the hole if its home slot does not lie in (hole, next]
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table[hole] = table[next];
+                table[next] = 0;
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        int last = --sectionCount;
+        if (index != last) {
+            sectionKeys[index] = sectionKeys[last];
+            sectionBits[index] = sectionBits[last];
+            sectionCounts[index] = sectionCounts[last];
+            table[findSlot(sectionKeys[index])] = index + 1;
+        }
+        sectionBits[last] = null;
+    }
+
+    /** Per section: key (8 bytes), bit count (2 bytes), then each set bit's local index (2 bytes) */
+    private String encode() {
+        int bytes = 0;
+        for (int i = 0; i < sectionCount; i++) bytes += 10 + sectionCounts[i] * 2;
+
+        ByteBuffer out = ByteBuffer.allocate(bytes);
+        for (int i = 0; i < sectionCount; i++) {
+            out.putLong(sectionKeys[i]);
+            out.putShort((short) sectionCounts[i]);
+            long[] bits = sectionBits[i];
+            for (int word = 0; word < WORDS_PER_SECTION; word++) {
+                long w = bits[word];
+                while (w != 0) {
+                    out.putShort((short) ((word << 6) | Long.numberOfTrailingZeros(w)));
+                    w &= w - 1;
+                }
+            }
+        }
+        return Base64.getEncoder().withoutPadding().encodeToString(out.array());
+    }
+
+    private void decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) return;
+
+        ByteBuffer in = ByteBuffer.wrap(Base64.getDecoder().decode(encoded));
+        while (in.remaining() >= 10) {
+            long key = in.getLong();
+            int count = in.getShort() & 0xFFFF;
+            int sx = PackedPos.x(key), sy = PackedPos.y(key), sz = PackedPos.z(key);
+            for (int i = 0; i < count && in.remaining() >= 2; i++) {
+                int local = in.getShort() & 0xFFF;
+                add((sx << 4) | (local & 15), (sy << 4) | (local >>> 8), (sz << 4) | ((local >>> 4) & 15));
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.prospect.ProspectScan;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-world list of prospecting scans in progress, advanced by ProspectSystem in the
+ * order they were requested.
+ * <p>
+ * Only touched from the owning world's thread.
+ */
+public class ProspectQueue implements Resource<EntityStore> {
+
+    private final List<ProspectScan> scans = new ArrayList<>();
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Scans belong to the live world; a copy starts idle
+        return new ProspectQueue();
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    public void add(ProspectScan scan) {
+        scans.add(scan);
+    }
+
+    public boolean isEmpty() {
+        return scans.isEmpty();
+    }
+
+    /** True if the player already has a scan in progress */
+    public boolean hasScanFor(Ref<EntityStore> owner) {
+        for (ProspectScan scan : scans) {
+            if (scan.getOwner() == owner) return true;
+        }
+        return false;
+    }
+
+    public List<ProspectScan> scans() {
+        return scans;
+    }
+}
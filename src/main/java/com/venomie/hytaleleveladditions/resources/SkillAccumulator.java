@@ -0,0 +1,171 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.journal.XpLogFormat;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+/**
+ * Per-world buffer of one skill's progress earned during the current tick, per entity.
+ * <p>
+ * Event systems add amounts here instead of scheduling a CommandBuffer closure per event;
+ * the skill's accrual system drains it once per tick. The buffer is an open-addressing
+ * table keyed by entity ref (hashed on the ref index) with parallel primitive arrays, so
+ * adding and draining allocate nothing once the table has grown to the world's working size.
+ * <p>
+ * Resources are registered by class, so each skill has a small subclass that fixes the
+ * skill and the unit of its amounts. Only touched from the owning world's thread.
+ * <p>
+ * Each slot also keeps the XP log source and block position of the last event folded into
+ * it, so the accrual system can log the granted XP with where it was earned.
+ */
+public abstract class SkillAccumulator implements Resource<EntityStore> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Position of events that have none (e.g., hits); a packed corner no world reaches */
+    public static final long NO_POSITION = Long.MIN_VALUE;
+
+    private final SkillType skill;
+
+    /** Slot key; null means empty */
+    private Ref<EntityStore>[] refs;
+
+    /** Amount accumulated for the ref in the same slot */
+    private double[] amounts;
+
+    /** Blocks or hits folded into the slot this tick */
+    private int[] events;
+
+    /** XP log source ID of the slot's last event, or {@link XpLogFormat#NO_NAME} */
+    private int[] sources;
+
+    /** {@link com.venomie.hytaleleveladditions.vein.PackedPos} of the slot's last event, or {@link #NO_POSITION} */
+    private long[] positions;
+
+    /** Slots in insertion order, so draining does not scan the whole table */
+    private int[] usedSlots;
+    private int size;
+
+    protected SkillAccumulator(SkillType skill) {
+        this.skill = skill;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    public SkillType getSkill() {
+        return skill;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Number of distinct refs with pending amounts */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visits every pending entry once, then clears the buffer.
+     */
+    public void drain(Consumer consumer) {
+        for (int i = 0; i < size; i++) {
+            int slot = usedSlots[i];
+            consumer.accept(refs[slot], amounts[slot], events[slot], sources[slot], positions[slot]);
+            refs[slot] = null;
+            amounts[slot] = 0;
+            events[slot] = 0;
+        }
+        size = 0;
+    }
+
+    /** Receives drained entries */
+    @FunctionalInterface
+    public interface Consumer {
+        /**
+         * @param events blocks or hits the amount was earned for
+         * @param sourceId XP log source ID of the last event, or {@link XpLogFormat#NO_NAME}
+         * @param position packed position of the last event, or {@link #NO_POSITION}
+         */
+        void accept(Ref<EntityStore> ref, double amount, int events, int sourceId, long position);
+    }
+
+    // ===============================
+    // Subclass API
+    // ===============================
+
+    /**
+     * Adds an amount for an entity. Repeated adds for the same ref in one tick are summed;
+     * the source and position of the last add are kept.
+     *
+     * @param count blocks or hits the amount was earned for
+     */
+    protected void addAmount(Ref<EntityStore> ref, double amount, int count, int sourceId, long position) {
+        if ((size + 1) * 2 > refs.length) grow();
+
+        int slot = findSlot(refs, ref);
+        if (refs[slot] == null) {
+            refs[slot] = ref;
+            usedSlots[size++] = slot;
+        }
+        amounts[slot] += amount;
+        events[slot] += count;
+        sources[slot] = sourceId;
+        positions[slot] = position;
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static int findSlot(Ref<EntityStore>[] table, Ref<EntityStore> ref) {
+        int mask = table.length - 1;
+        int slot = mix(ref.getIndex()) & mask;
+        while (table[slot] != null && table[slot] != ref) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        refs = (Ref<EntityStore>[]) new Ref[capacity];
+        amounts = new double[capacity];
+        events = new int[capacity];
+        sources = new int[capacity];
+        positions = new long[capacity];
+        usedSlots = new int[capacity / 2];
+    }
+
+    private void grow() {
+        Ref<EntityStore>[] oldRefs = refs;
+        double[] oldAmounts = amounts;
+        int[] oldEvents = events;
+        int[] oldSources = sources;
+        long[] oldPositions = positions;
+        int[] oldUsed = usedSlots;
+        int oldSize = size;
+
+        allocate(oldRefs.length * 2);
+        for (int i = 0; i < oldSize; i++) {
+            int oldSlot = oldUsed[i];
+            int slot = findSlot(refs, oldRefs[oldSlot]);
+            refs[slot] = oldRefs[oldSlot];
+            amounts[slot] = oldAmounts[oldSlot];
+            events[slot] = oldEvents[oldSlot];
+            sources[slot] = oldSources[oldSlot];
+            positions[slot] = oldPositions[oldSlot];
+            usedSlots[i] = slot;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-world list of players whose skill HUD has a pending change, flushed by SkillHudSystem.
+ * <p>
+ * Each player appears at most once (guarded by SkillHudComponent's queued flag), so a burst
+ * of XP gains costs one entry no matter how many times the values change.
+ * <p>
+ * Only touched from the owning world's thread.
+ */
+public class SkillHudQueue implements Resource<EntityStore> {
+
+    private final List<Ref<EntityStore>> pending = new ArrayList<>();
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Pending refs belong to the live world; a copy starts empty
+        return new SkillHudQueue();
+    }
+
+    public void add(Ref<EntityStore> ref) {
+        pending.add(ref);
+    }
+
+    public boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /** Pending players; SkillHudSystem removes the ones it flushed */
+    public List<Ref<EntityStore>> pending() {
+        return pending;
+    }
+}
@@ -0,0 +1,35 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.journal.XpLogFormat;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-world buffer of sword damage dealt during the current tick, per attacker.
+ * <p>
+ * SwordDamageEventSystem adds the counted damage of every hit here; SwordXpAccrualSystem
+ * converts each attacker's total to XP once per tick.
+ */
+public class SwordDamageAccumulator extends SkillAccumulator {
+
+    public SwordDamageAccumulator() {
+        super(SkillType.Sword);
+    }
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Pending damage is tick-local; a copy starts empty
+        return new SwordDamageAccumulator();
+    }
+
+    /**
+     * Adds counted damage for an attacker. Repeated adds for the same ref in one tick are summed.
+     */
+    public void add(Ref<EntityStore> attacker, double damage) {
+        if (damage > 0) addAmount(attacker, damage, 1, XpLogFormat.NO_NAME, NO_POSITION);
+    }
+}
@@ -0,0 +1,144 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Per-world record of how much sword damage each target has already been credited for,
+ * used to apply SwordXpRules' per-target diminishing returns.
+ * <p>
+ * Open-addressing table keyed by target ref with parallel primitive arrays. Entries are
+ * forgotten once their target is gone or has not been hit for a while: {@link #sweepIfDue}
+ * rebuilds the table from the live entries every few seconds, so lookups never have to
+ * deal with deletions. Each world's ledger keeps its own sweep deadline.
+ * <p>
+ * Only touched from the owning world's thread.
+ */
+public class SwordTargetLedger implements Resource<EntityStore> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Time between sweeps of one world's ledger */
+    public static final long SWEEP_INTERVAL_MILLIS = 10_000L;
+
+    /** Slot key; null means empty */
+    private Ref<EntityStore>[] refs;
+
+    /** Damage credited towards XP so far */
+    private double[] credited;
+
+    /** Last time the target was hit (System.currentTimeMillis) */
+    private long[] lastHitMillis;
+
+    private int size;
+
+    /** When this ledger is next swept (System.currentTimeMillis) */
+    private long nextSweepMillis;
+
+    public SwordTargetLedger() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Tied to live entity refs; a copy starts empty
+        return new SwordTargetLedger();
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    /**
+     * Returns the damage already credited for a target and adds {@code amount} to it.
+     */
+    public double getAndAdd(Ref<EntityStore> target, double amount, long nowMillis) {
+        if ((size + 1) * 2 > refs.length) rehash(refs.length * 2, Long.MIN_VALUE);
+
+        int slot = findSlot(refs, target);
+        if (refs[slot] == null) {
+            refs[slot] = target;
+            size++;
+        }
+        double before = credited[slot];
+        credited[slot] = before + amount;
+        lastHitMillis[slot] = nowMillis;
+        return before;
+    }
+
+    /** Number of targets being tracked */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sweeps the ledger if {@link #SWEEP_INTERVAL_MILLIS} have passed since the last sweep.
+     *
+     * @param memoryMillis how long a target is remembered after its last hit
+     */
+    public void sweepIfDue(long nowMillis, long memoryMillis) {
+        if (nowMillis < nextSweepMillis) return;
+        sweep(nowMillis - memoryMillis);
+        nextSweepMillis = nowMillis + SWEEP_INTERVAL_MILLIS;
+    }
+
+    /**
+     * Drops targets that were removed from the world or not hit since {@code cutoffMillis};
+     * they start from zero if hit again.
+     */
+    public void sweep(long cutoffMillis) {
+        if (size == 0) return;
+        // Shrink back when a big fight is over
+        int capacity = refs.length;
+        while (capacity > INITIAL_CAPACITY && size * 8 < capacity) capacity >>= 1;
+        rehash(capacity, cutoffMillis);
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static int findSlot(Ref<EntityStore>[] table, Ref<EntityStore> ref) {
+        int mask = table.length - 1;
+        int slot = mix(ref.getIndex()) & mask;
+        while (table[slot] != null && table[slot] != ref) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        refs = (Ref<EntityStore>[]) new Ref[capacity];
+        credited = new double[capacity];
+        lastHitMillis = new long[capacity];
+    }
+
+    /** Rebuilds the table at the given capacity, keeping valid entries hit at or after cutoff */
+    private void rehash(int capacity, long cutoffMillis) {
+        Ref<EntityStore>[] oldRefs = refs;
+        double[] oldCredited = credited;
+        long[] oldLastHit = lastHitMillis;
+
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldRefs.length; i++) {
+            Ref<EntityStore> ref = oldRefs[i];
+            if (ref == null || !ref.isValid() || oldLastHit[i] < cutoffMillis) continue;
+
+            int slot = findSlot(refs, ref);
+            refs[slot] = ref;
+            credited[slot] = oldCredited[i];
+            lastHitMillis[slot] = oldLastHit[i];
+            size++;
+        }
+    }
+}
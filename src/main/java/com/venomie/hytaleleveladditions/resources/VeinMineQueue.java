@@ -0,0 +1,62 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Resource;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.vein.VeinSearch;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-world list of vein-mining searches in progress, advanced by VeinMiningSystem.
+ * <p>
+ * Only touched from the owning world's thread.
+ */
+public class VeinMineQueue implements Resource<EntityStore> {
+
+    private final List<VeinSearch> searches = new ArrayList<>();
+
+    /** Round-robin start index, so one huge vein can't starve the others */
+    private int nextIndex;
+
+    @Nullable
+    @Override
+    public Resource<EntityStore> clone() {
+        // Searches belong to the live world; a copy starts idle
+        return new VeinMineQueue();
+    }
+
+    // ===============================
+    // Public API
+    // ===============================
+
+    public void add(VeinSearch search) {
+        searches.add(search);
+    }
+
+    public boolean isEmpty() {
+        return searches.isEmpty();
+    }
+
+    /** True if the player already has a vein being mined */
+    public boolean hasSearchFor(Ref<EntityStore> owner) {
+        for (VeinSearch search : searches) {
+            if (search.getOwner() == owner) return true;
+        }
+        return false;
+    }
+
+    public List<VeinSearch> searches() {
+        return searches;
+    }
+
+    /** Index of the search to serve first this tick, advanced on every call */
+    public int nextStartIndex() {
+        if (searches.isEmpty()) return 0;
+        int start = nextIndex % searches.size();
+        nextIndex = start + 1;
+        return start;
+    }
+}
@@ -1,6 +0,0 @@
-package com.venomie.hytaleleveladditions.skills;
-
-public enum SkillType {
-    Mining,
-    Sword
-}
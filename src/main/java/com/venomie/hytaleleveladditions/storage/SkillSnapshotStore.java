@@ -0,0 +1,452 @@
+package com.venomie.hytaleleveladditions.storage;
+
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Write-behind store of per-player skill snapshots in a memory-mapped file.
+ * <p>
+ * The file is a fixed-record open-addressing hash table keyed by player UUID, so an
+ * offline player's XP is a single probe into the mapping without touching the world save.
+ * <p>
+ * World threads only {@link #stage} snapshots into an in-memory pending map (one reusable
+ * slot per online player); {@link #flush()} writes dirty slots to the mapping and is meant to run
+ * on a single background thread. Reads are lock-free optimistic reads validated by a
+ * StampedLock, falling back to a read lock if a write raced them. When the table fills up it
+ * is rebuilt at twice the size in a side file that atomically replaces this one.
+ *
+ * <pre>
+ * Header (64 bytes): magic, version, recordSize, capacity, count
+ * Record (128 bytes):
+ *   [0..16)   UUID (all zero = empty slot)
+ *   [16..24)  last update, epoch millis
+ *   [24..26)  name length in bytes
+ *   [26..58)  name, UTF-8, truncated to 32 bytes
+ *   [64..128) XP per skill ID (8 slots)
+ * </pre>
+ */
+public final class SkillSnapshotStore implements Closeable {
+
+    private static final int MAGIC = 0x4C415353; // "LASS"
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 128;
+    private static final int MAX_SKILLS = 8;
+    private static final int MAX_NAME_BYTES = 32;
+
+    private static final int OFF_NAME_LENGTH = 24;
+    private static final int OFF_NAME = 26;
+    private static final int OFF_XP = 64;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double MAX_LOAD = 0.6;
+
+    static {
+        for (SkillType skill : SkillType.values()) {
+            if (skill.getId() >= MAX_SKILLS) {
+                throw new IllegalStateException("SkillSnapshotStore holds skill IDs below " + MAX_SKILLS);
+            }
+        }
+    }
+
+    /** Offline view of a player's skills */
+    public record Snapshot(UUID playerId, String name, long updatedAtMillis, long[] xp) {
+        public long getXp(SkillType skill) {
+            return xp[skill.ordinal()];
+        }
+    }
+
+    /** Latest not-yet-written state for one player; reused across flushes */
+    private static final class Pending {
+        /** XP indexed by skill ID, as laid out on disk */
+        final long[] xp = new long[MAX_SKILLS];
+        String name;
+        boolean dirty;
+        /** Player left; drop the slot once it has been written */
+        boolean evict;
+    }
+
+    private final Path file;
+    private final StampedLock lock = new StampedLock();
+    private final ConcurrentHashMap<UUID, Pending> pending = new ConcurrentHashMap<>();
+
+    /** Replaced (with the mapping) when the table grows; guarded by the write lock */
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+
+    private SkillSnapshotStore(Path file, FileChannel channel) {
+        this.file = file;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens (or creates) a snapshot file.
+     */
+    public static SkillSnapshotStore open(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        SkillSnapshotStore store = new SkillSnapshotStore(file, channel);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                store.initialize(INITIAL_CAPACITY);
+            } else {
+                store.load();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    // ===============================
+    // World-thread API
+    // ===============================
+
+    /**
+     * Records a player's current XP for the next flush. Cheap enough for world threads:
+     * no I/O, and no allocation once the player has a pending slot.
+     */
+    public void stage(UUID playerId, String name, SkillSet skills) {
+        stage(playerId, name, skills, false);
+    }
+
+    /**
+     * Records a player's final XP as they leave; their pending slot is dropped
+     * after the next flush writes it.
+     */
+    public void stageAndRelease(UUID playerId, String name, SkillSet skills) {
+        stage(playerId, name, skills, true);
+    }
+
+    private void stage(UUID playerId, String name, SkillSet skills, boolean evict) {
+        Pending slot = pending.computeIfAbsent(playerId, id -> new Pending());
+        synchronized (slot) {
+            for (SkillType skill : SkillType.values()) {
+                slot.xp[skill.getId()] = skills.getXp(skill);
+            }
+            if (name != null) slot.name = name;
+            slot.dirty = true;
+            slot.evict = evict;
+        }
+    }
+
+    // ===============================
+    // Reads (any thread)
+    // ===============================
+
+    /**
+     * Returns the stored snapshot of a player, or null if they have none.
+     */
+    public Snapshot read(UUID playerId) {
+        long stamp = lock.tryOptimisticRead();
+        Snapshot snapshot = readUnlocked(playerId);
+        if (lock.validate(stamp)) return snapshot;
+
+        stamp = lock.readLock();
+        try {
+            return readUnlocked(playerId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /** Visits every stored snapshot (e.g., to seed leaderboards at startup) */
+    public void forEach(Consumer<Snapshot> consumer) {
+        List<Snapshot> snapshots = new ArrayList<>();
+        long stamp = lock.readLock();
+        try {
+            for (int slot = 0; slot < capacity; slot++) {
+                int offset = recordOffset(slot);
+                if (isEmpty(offset)) continue;
+                snapshots.add(decode(offset));
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        snapshots.forEach(consumer);
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return count;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // ===============================
+    // Background-thread API
+    // ===============================
+
+    /**
+     * Writes every dirty pending snapshot into the mapping. Call from one thread at a time.
+     *
+     * @return number of records written
+     */
+    public int flush() throws IOException {
+        int written = 0;
+        long[] xp = new long[MAX_SKILLS];
+        long now = System.currentTimeMillis();
+
+        for (var entry : pending.entrySet()) {
+            Pending slot = entry.getValue();
+            String name;
+            synchronized (slot) {
+                if (!slot.dirty) continue;
+                System.arraycopy(slot.xp, 0, xp, 0, MAX_SKILLS);
+                name = slot.name;
+                slot.dirty = false;
+            }
+            write(entry.getKey(), name, now, xp);
+            written++;
+        }
+
+        // Forget players who left, unless they were staged again meanwhile
+        pending.entrySet().removeIf(entry -> {
+            Pending slot = entry.getValue();
+            synchronized (slot) {
+                return slot.evict && !slot.dirty;
+            }
+        });
+        return written;
+    }
+
+    /** Flushes pending snapshots and forces the mapping to disk */
+    @Override
+    public void close() throws IOException {
+        flush();
+        long stamp = lock.writeLock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private void write(UUID playerId, String name, long updatedAt, long[] xp) throws IOException {
+        long stamp = lock.writeLock();
+        try {
+            int slot = findSlot(playerId);
+            int offset = recordOffset(slot);
+
+            if (isEmpty(offset)) {
+                if (count + 1 > capacity * MAX_LOAD) {
+                    grow();
+                    slot = findSlot(playerId);
+                    offset = recordOffset(slot);
+                }
+                count++;
+                buffer.putInt(16, count);
+                buffer.putLong(offset, playerId.getMostSignificantBits());
+                buffer.putLong(offset + 8, playerId.getLeastSignificantBits());
+            }
+            encode(offset, name, updatedAt, xp);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private Snapshot readUnlocked(UUID playerId) {
+        // A racing grow() may swap the buffer mid-read; validation catches it, but the
+        // read itself must not throw, so bound everything by this buffer's capacity.
+        MappedByteBuffer buf = buffer;
+        int cap = capacity;
+        if (buf == null || cap == 0) return null;
+
+        int mask = cap - 1;
+        int slot = hash(playerId) & mask;
+        for (int probes = 0; probes < cap; probes++) {
+            int offset = HEADER_SIZE + slot * RECORD_SIZE;
+            if (offset + RECORD_SIZE > buf.capacity()) return null;
+
+            long most = buf.getLong(offset);
+            long least = buf.getLong(offset + 8);
+            if (most == 0 && least == 0) return null;
+            if (most == playerId.getMostSignificantBits() && least == playerId.getLeastSignificantBits()) {
+                return decode(buf, offset);
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private int findSlot(UUID playerId) {
+        int mask = capacity - 1;
+        int slot = hash(playerId) & mask;
+        while (true) {
+            int offset = recordOffset(slot);
+            if (isEmpty(offset)) return slot;
+            if (buffer.getLong(offset) == playerId.getMostSignificantBits()
+                    && buffer.getLong(offset + 8) == playerId.getLeastSignificantBits()) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private boolean isEmpty(int offset) {
+        return buffer.getLong(offset) == 0 && buffer.getLong(offset + 8) == 0;
+    }
+
+    private Snapshot decode(int offset) {
+        return decode(buffer, offset);
+    }
+
+    private static Snapshot decode(MappedByteBuffer buf, int offset) {
+        UUID id = new UUID(buf.getLong(offset), buf.getLong(offset + 8));
+        long updatedAt = buf.getLong(offset + 16);
+
+        int nameLength = Math.min(MAX_NAME_BYTES, Math.max(0, buf.getShort(offset + OFF_NAME_LENGTH)));
+        byte[] nameBytes = new byte[nameLength];
+        buf.get(offset + OFF_NAME, nameBytes);
+
+        // Snapshot XP is indexed by ordinal, like SkillsComponent
+        long[] xp = new long[SkillType.values().length];
+        for (SkillType skill : SkillType.values()) {
+            xp[skill.ordinal()] = buf.getLong(offset + OFF_XP + skill.getId() * 8);
+        }
+        return new Snapshot(id, new String(nameBytes, StandardCharsets.UTF_8), updatedAt, xp);
+    }
+
+    private void encode(int offset, String name, long updatedAt, long[] xp) {
+        buffer.putLong(offset + 16, updatedAt);
+
+        if (name != null) {
+            byte[] nameBytes = truncateUtf8(name);
+            buffer.putShort(offset + OFF_NAME_LENGTH, (short) nameBytes.length);
+            buffer.put(offset + OFF_NAME, nameBytes);
+        }
+        for (int i = 0; i < MAX_SKILLS; i++) {
+            buffer.putLong(offset + OFF_XP + i * 8, xp[i]);
+        }
+    }
+
+    private static byte[] truncateUtf8(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= MAX_NAME_BYTES) return bytes;
+        // Drop to the last full character within the limit
+        int end = MAX_NAME_BYTES;
+        while (end > 0 && (bytes[end] & 0xC0) == 0x80) end--;
+        byte[] truncated = new byte[end];
+        System.arraycopy(bytes, 0, truncated, 0, end);
+        return truncated;
+    }
+
+    private static int recordOffset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    private static int hash(UUID id) {
+        long h = (id.getMostSignificantBits() ^ id.getLeastSignificantBits()) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void initialize(int newCapacity) throws IOException {
+        map(newCapacity);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, RECORD_SIZE);
+        buffer.putInt(12, newCapacity);
+        buffer.putInt(16, 0);
+        this.count = 0;
+    }
+
+    private void load() throws IOException {
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC) throw new IOException("Not a skill snapshot file");
+        if (header.getInt(4) != VERSION) throw new IOException("Unsupported snapshot version " + header.getInt(4));
+        if (header.getInt(8) != RECORD_SIZE) throw new IOException("Unexpected snapshot record size");
+
+        map(header.getInt(12));
+        this.count = buffer.getInt(16);
+    }
+
+    private void map(int newCapacity) throws IOException {
+        long size = HEADER_SIZE + (long) newCapacity * RECORD_SIZE;
+        if (size > Integer.MAX_VALUE) throw new IOException("Snapshot file would exceed 2 GiB");
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        this.capacity = newCapacity;
+    }
+
+    /**
+     * Doubles the table. The larger table is built in a temporary file next to this one and
+     * forced to disk, then moved over it atomically, so a crash at any point leaves either
+     * the old or the new table intact. Holds the write lock.
+     */
+    private void grow() throws IOException {
+        int newCapacity = capacity * 2;
+        long size = HEADER_SIZE + (long) newCapacity * RECORD_SIZE;
+        if (size > Integer.MAX_VALUE) throw new IOException("Snapshot file would exceed 2 GiB");
+
+        Path temp = file.resolveSibling(file.getFileName() + ".grow");
+        FileChannel newChannel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer newBuffer;
+        try {
+            // A fresh mapping reads as zeros, so every slot starts empty
+            newBuffer = newChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            newBuffer.putInt(0, MAGIC);
+            newBuffer.putInt(4, VERSION);
+            newBuffer.putInt(8, RECORD_SIZE);
+            newBuffer.putInt(12, newCapacity);
+            newBuffer.putInt(16, count);
+
+            byte[] record = new byte[RECORD_SIZE];
+            int mask = newCapacity - 1;
+            for (int slot = 0; slot < capacity; slot++) {
+                int offset = recordOffset(slot);
+                if (isEmpty(offset)) continue;
+                buffer.get(offset, record);
+                ByteBuffer view = ByteBuffer.wrap(record);
+                int target = hash(new UUID(view.getLong(0), view.getLong(8))) & mask;
+                while (newBuffer.getLong(recordOffset(target)) != 0 || newBuffer.getLong(recordOffset(target) + 8) != 0) {
+                    target = (target + 1) & mask;
+                }
+                newBuffer.put(recordOffset(target), record);
+            }
+            newBuffer.force();
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            newChannel.close();
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        // The open channel now refers to the moved file; the old mapping stays valid for
+        // racing optimistic readers until it is collected
+        FileChannel oldChannel = channel;
+        this.channel = newChannel;
+        this.buffer = newBuffer;
+        this.capacity = newCapacity;
+        oldChannel.close();
+    }
+}
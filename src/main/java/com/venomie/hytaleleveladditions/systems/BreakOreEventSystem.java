@@ -5,16 +5,26 @@ import com.hypixel.hytale.component.dependency.Dependency;
 import com.hypixel.hytale.component.dependency.RootDependency;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.EntityEventSystem;
-import com.hypixel.hytale.math.vector.Vector3f;
 import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.venomie.hytaleleveladditions.ExamplePlugin;
-import com.venomie.hytaleleveladditions.components.MiningLevelComponent;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.perks.MiningPerks;
+import com.venomie.hytaleleveladditions.ores.OreRegistry;
+import com.venomie.hytaleleveladditions.resources.DropSpawnQueue;
+import com.venomie.hytaleleveladditions.resources.MiningXpAccumulator;
+import com.venomie.hytaleleveladditions.resources.OreSectionIndex;
+import com.venomie.hytaleleveladditions.resources.PlacedOreIndex;
+import com.venomie.hytaleleveladditions.resources.VeinMineQueue;
 import com.venomie.hytaleleveladditions.systems.helpers.MiningExperienceHelper;
 import com.venomie.hytaleleveladditions.systems.helpers.MiningDropHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillComponentHelper;
+import com.venomie.hytaleleveladditions.vein.VeinSearch;
 import org.checkerframework.checker.nullness.compatqual.NonNullDecl;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -24,17 +34,38 @@ import java.util.Set;
 
 /**
  * Event system handling when a player breaks an ore block.
- * - Grants Mining XP
+ * - Queues Mining XP (applied once per tick by MiningXpAccrualSystem, shared with nearby
+ *   party members) and logs it to the XP log
  * - Adds milestone-based extra coal drops
+ * - Starts vein mining for players at or above the perk level
  * - Does not replace vanilla drops
+ * Every player ore break also updates the world's OreSectionIndex (prospecting counts).
+ * Blocks broken by VeinMiningSystem have no breaking entity and never reach this system;
+ * the vein is rewarded as a whole there.
+ * Ores placed by players (see PlaceOreEventSystem) grant nothing and only clear their mark.
  */
 public class BreakOreEventSystem extends EntityEventSystem<EntityStore, BreakBlockEvent> {
 
-    private final ComponentType<EntityStore, MiningLevelComponent> miningComponent;
+    private final ComponentType<EntityStore, SkillsComponent> skillsComponent;
+    private final ResourceType<EntityStore, MiningXpAccumulator> accumulatorType;
+    private final ResourceType<EntityStore, DropSpawnQueue> dropQueueType;
+    private final ResourceType<EntityStore, VeinMineQueue> veinQueueType;
+    private final ResourceType<EntityStore, PlacedOreIndex> placedOresType;
+    private final ResourceType<EntityStore, OreSectionIndex> oreIndexType;
+
+    // ====== VEIN MINING ======
+    private final int veinMineMaxBlocks;
 
     public BreakOreEventSystem() {
         super(BreakBlockEvent.class);
-        this.miningComponent = ExamplePlugin.getMiningComponentType();
+        this.skillsComponent = ExamplePlugin.getSkillsComponentType();
+        this.accumulatorType = ExamplePlugin.getMiningXpAccumulatorType();
+        this.dropQueueType = ExamplePlugin.getDropSpawnQueueType();
+        this.veinQueueType = ExamplePlugin.getVeinMineQueueType();
+        this.placedOresType = ExamplePlugin.getPlacedOreIndexType();
+        this.oreIndexType = ExamplePlugin.getOreSectionIndexType();
+
+        this.veinMineMaxBlocks = ExamplePlugin.getConfig().getVeinMineMaxBlocks();
     }
 
     @Override
@@ -44,30 +75,62 @@ public class BreakOreEventSystem extends EntityEventSystem<EntityStore, BreakBlo
                        @NotNull CommandBuffer<EntityStore> commandBuffer,
                        @NotNull BreakBlockEvent breakBlockEvent) {
 
+        if (!PluginMetrics.isEnabled()) {
+            process(index, archetypeChunk, store, breakBlockEvent);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            process(index, archetypeChunk, store, breakBlockEvent);
+        } finally {
+            PluginMetrics.BREAK_EVENTS.increment();
+            PluginMetrics.HANDLE_LATENCY.record(System.nanoTime() - start);
+        }
+    }
+
+    private void process(int index,
+                         ArchetypeChunk<EntityStore> archetypeChunk,
+                         Store<EntityStore> store,
+                         BreakBlockEvent breakBlockEvent) {
+
+        // Only ores should trigger XP and extra coal (cached per BlockType)
+        OreProfile ore = OreRegistry.get(breakBlockEvent.getBlockType());
+        Vector3i blockPosition = breakBlockEvent.getTargetBlock();
+        if (ore == null) return;
+
+        // Keep prospecting counts current for every player ore break, placed ores included
+        // (vein blocks are updated by VeinMiningSystem)
+        store.getResource(oreIndexType).oreRemoved(blockPosition.x, blockPosition.y, blockPosition.z);
+
+        // Player-placed ores give nothing; breaking one clears its mark
+        if (store.getResource(placedOresType).remove(blockPosition.x, blockPosition.y, blockPosition.z)) {
+            if (PluginMetrics.isEnabled()) PluginMetrics.PLACED_ORE_BREAKS.increment();
+            return;
+        }
+
+        if (PluginMetrics.isEnabled()) PluginMetrics.ORE_BREAKS.increment();
+
         Ref<EntityStore> ref = archetypeChunk.getReferenceTo(index);
         Player player = store.getComponent(ref, Player.getComponentType());
         if (player == null) return;
 
-        // Convert block position to Vector3f
-        Vector3i blockPosInt = breakBlockEvent.getTargetBlock();
-        Vector3f blockPosition = new Vector3f(blockPosInt.x, blockPosInt.y, blockPosInt.z);
-
-        String blockId = breakBlockEvent.getBlockType().getId();
-
-        // Only ores should trigger XP and extra coal
-        if (!blockId.contains("Ore")) return;
+        // Null until the player's first skill XP; such players mine with level 1 perks
+        MiningPerks perks = SkillComponentHelper.miningPerks(store.getComponent(ref, skillsComponent));
 
-        // ECS-safe mutation
-        commandBuffer.run((s) -> {
-            MiningLevelComponent mining = store.getComponent(ref, miningComponent);
+        // 1️⃣ Queue Mining XP; applied (attaching SkillsComponent if needed) at the next accrual tick
+        MiningExperienceHelper.queueXp(store, store.getResource(accumulatorType), ref, ore,
+                blockPosition.x, blockPosition.y, blockPosition.z);
 
-            // 1️⃣ Add Mining XP and handle level-ups
-            assert mining != null;
-            MiningExperienceHelper.handleXpAndLevel(player, mining, blockId);
+        // 2️⃣ Handle milestone-based extra coal drop (does not replace vanilla drops)
+        MiningDropHelper.handleExtraCoalDrop(perks, ore, blockPosition, store.getResource(dropQueueType));
 
-            // 2️⃣ Handle milestone-based extra coal drop (does not replace vanilla drops)
-            MiningDropHelper.handleExtraCoalDrop(mining, blockId, blockPosition, player.getWorld().getEntityStore(), player.getWorld());
-        });
+        // 3️⃣ Vein-mining perk: the rest of the vein is broken over the next ticks
+        VeinMineQueue veins = store.getResource(veinQueueType);
+        if (perks.canVeinMine(ore) && !veins.hasSearchFor(ref)) {
+            veins.add(new VeinSearch(ref, breakBlockEvent.getBlockType(), ore,
+                    blockPosition.x, blockPosition.y, blockPosition.z, veinMineMaxBlocks));
+        }
     }
 
     @Nullable
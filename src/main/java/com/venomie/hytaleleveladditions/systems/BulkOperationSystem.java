@@ -0,0 +1,150 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.bulk.BulkJob;
+import com.venomie.hytaleleveladditions.bulk.BulkOperation;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.formulas.LevelCurve;
+import com.venomie.hytaleleveladditions.formulas.LevelCurves;
+import com.venomie.hytaleleveladditions.resources.BulkJobQueue;
+import com.venomie.hytaleleveladditions.skills.LevelChange;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import com.venomie.hytaleleveladditions.systems.helpers.MiningExperienceHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillComponentHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillHudHelper;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Advances the current bulk job of each world within a per-tick time budget.
+ * <p>
+ * Bulk jobs are server-wide: the same job is queued on every world and each world works
+ * through its own online players, adding its progress to the shared BulkJob.
+ * On its first tick in a world a job collects the refs of every player in the world by
+ * walking the archetype chunks once; after that each tick processes targets until the
+ * budget runs out, checking the clock every {@link #CLOCK_CHECK_INTERVAL} entities.
+ * Cancellation is honored between entities, and progress is reported to the requester
+ * at every 25% and when the last world finishes.
+ */
+public class BulkOperationSystem extends TickingSystem<EntityStore> {
+
+    // ====== CONFIG ======
+    public static final long DEFAULT_BUDGET_NANOS = 2_000_000L; // 2 ms per tick
+    private static final int CLOCK_CHECK_INTERVAL = 8;
+
+    private final ComponentType<EntityStore, SkillsComponent> skillsComponent;
+    private final ResourceType<EntityStore, BulkJobQueue> queueType;
+    private final long budgetNanos;
+
+    public BulkOperationSystem(ComponentType<EntityStore, SkillsComponent> skillsComponent,
+                               ResourceType<EntityStore, BulkJobQueue> queueType,
+                               long budgetNanos) {
+        this.skillsComponent = skillsComponent;
+        this.queueType = queueType;
+        this.budgetNanos = budgetNanos > 0 ? budgetNanos : DEFAULT_BUDGET_NANOS;
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @NotNull Store<EntityStore> store) {
+        BulkJobQueue queue = store.getResource(queueType);
+        BulkJob job = queue.current();
+        if (job == null) return;
+
+        if (!queue.isStarted()) {
+            if (job.isCancelRequested()) {
+                end(queue, job);
+                return;
+            }
+            collectTargets(store, queue.targets());
+            queue.markStarted();
+            job.startWorld(queue.targets().size());
+        }
+
+        long deadline = System.nanoTime() + budgetNanos;
+        int batch = 0;
+        while (queue.hasNext() && !job.isCancelRequested()) {
+            // Always make some progress, then stop once the budget is spent
+            if (batch > 0 && batch % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() >= deadline) break;
+            apply(store, job, queue.next());
+            batch++;
+        }
+        job.advance(batch);
+
+        if (job.isCancelRequested() || !queue.hasNext()) {
+            end(queue, job);
+        } else if (job.crossedQuarter()) {
+            report(job);
+        }
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private void collectTargets(Store<EntityStore> store, List<Ref<EntityStore>> targets) {
+        // Every player, not only those with skills: GrantLevels attaches a SkillsComponent
+        store.forEachChunk(PlayerRef.getComponentType(), (chunk, commandBuffer) -> {
+            for (int i = 0; i < chunk.size(); i++) {
+                targets.add(chunk.getReferenceTo(i));
+            }
+        });
+    }
+
+    /** Applies the job's operation to one entity; entities that left since collection are skipped */
+    private void apply(Store<EntityStore> store, BulkJob job, Ref<EntityStore> ref) {
+        if (!ref.isValid()) return;
+
+        // Players without skills have nothing to reset or recompute; GrantLevels attaches
+        // their component after the tick
+        if (job.getOperation() == BulkOperation.GrantLevels) {
+            SkillComponentHelper.ensureLater(store, ref, skills -> applyTo(store, job, ref, skills));
+            return;
+        }
+        SkillsComponent skills = store.getComponent(ref, skillsComponent);
+        if (skills != null) applyTo(store, job, ref, skills);
+    }
+
+    private static void applyTo(Store<EntityStore> store, BulkJob job, Ref<EntityStore> ref, SkillsComponent skills) {
+        SkillType skill = job.getSkill();
+        LevelChange change = null;
+        switch (job.getOperation()) {
+            case ResetAll -> skills.setXp(skill, 0);
+            case GrantLevels -> {
+                LevelCurve curve = LevelCurves.forSkill(skill);
+                int level = skills.getLevel(skill);
+                change = skills.addXp(skill, curve.totalXpForLevel(level + job.getLevels()) - curve.totalXpForLevel(level));
+            }
+            // Re-setting XP refreshes the cached level against the current curve
+            case Recompute -> skills.setXp(skill, skills.getXp(skill));
+        }
+
+        SkillHudHelper.refresh(store, ref, skills);
+
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef == null) return;
+
+        MiningExperienceHelper.publishProgress(playerRef, skills);
+        if (change != null) MiningExperienceHelper.notifyLevelUp(playerRef, change);
+    }
+
+    /** This world is done with the job; the last world to finish reports the final status */
+    private void end(BulkJobQueue queue, BulkJob job) {
+        queue.finishCurrent();
+        if (job.finishWorld()) report(job);
+    }
+
+    private void report(BulkJob job) {
+        PlayerRef requester = job.getRequester();
+        if (requester != null) {
+            requester.sendMessage(Message.raw("[Bulk] " + job.describe()));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.Holder;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.entity.item.ItemComponent;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.resources.DropSpawnQueue;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Spawns the bonus drops buffered in each world's DropSpawnQueue.
+ * <p>
+ * Once per tick, merged stacks are turned into item entities and added to the world
+ * in a single world.execute task. At most {@code maxSpawnsPerTick} entities are spawned
+ * per world per tick; the rest stay queued for the next tick.
+ */
+public class DropSpawnSystem extends TickingSystem<EntityStore> {
+
+    private final ResourceType<EntityStore, DropSpawnQueue> queueType;
+    private final int maxSpawnsPerTick;
+
+    public DropSpawnSystem(ResourceType<EntityStore, DropSpawnQueue> queueType, int maxSpawnsPerTick) {
+        this.queueType = queueType;
+        this.maxSpawnsPerTick = Math.max(1, maxSpawnsPerTick);
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @NotNull Store<EntityStore> store) {
+        DropSpawnQueue queue = store.getResource(queueType);
+        if (queue.isEmpty()) return;
+
+        long start = PluginMetrics.isEnabled() ? System.nanoTime() : 0;
+        List<Holder<EntityStore>> batch = new ArrayList<>(Math.min(queue.size(), maxSpawnsPerTick));
+        queue.drain(maxSpawnsPerTick, (itemId, amount, blockX, blockY, blockZ) -> {
+            Holder<EntityStore> entity = createDrop(store, itemId, amount, blockX, blockY, blockZ);
+            if (entity != null) batch.add(entity);
+        });
+        if (start != 0) {
+            PluginMetrics.DROPS_SPAWNED.add(batch.size());
+            PluginMetrics.DROP_FLUSH_LATENCY.record(System.nanoTime() - start);
+        }
+        if (batch.isEmpty()) return;
+
+        // One task for the whole batch instead of one per drop
+        World world = store.getExternalData().getWorld();
+        world.execute(() -> {
+            Store<EntityStore> entityStore = world.getEntityStore().getStore();
+            for (Holder<EntityStore> holder : batch) {
+                entityStore.addEntity(holder, AddReason.SPAWN);
+            }
+        });
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    /** Builds the item entity for one merged stack; null if the item could not be created */
+    private static Holder<EntityStore> createDrop(Store<EntityStore> store, String itemId, int amount,
+                                                 int blockX, int blockY, int blockZ) {
+        return ItemComponent.generateItemDrop(store,
+                new ItemStack(itemId, amount),
+                new Vector3d(blockX + .5, blockY + .5, blockZ + .5),
+                Vector3f.ZERO,
+                0, 0, 0);
+    }
+}
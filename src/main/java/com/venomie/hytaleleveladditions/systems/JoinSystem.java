@@ -0,0 +1,100 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.resources.JoinQueue;
+import com.venomie.hytaleleveladditions.resources.PartyMemberGrid;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import com.venomie.hytaleleveladditions.systems.helpers.MiningExperienceHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.PartyHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillComponentHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillHudHelper;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the join work queued by PlayerLevelMiningSystem, a fixed number of players per tick.
+ * <p>
+ * For each player: migrates legacy Mining XP, refreshes the leaderboard and snapshot with
+ * their saved XP, shows the Mining HUD (or a chat message if the HUD is disabled) and
+ * adds them to the world's party grid if they are in a party.
+ * The work runs in one world.execute task per tick, since it attaches and removes components.
+ * After a restart, hundreds of reconnecting players cost at most {@code joinsPerTick}
+ * of this work per tick; the rest wait their turn, in join order.
+ */
+public class JoinSystem extends TickingSystem<EntityStore> {
+
+    private final ResourceType<EntityStore, JoinQueue> queueType;
+    private final ResourceType<EntityStore, PartyMemberGrid> partyGridType;
+    private final int joinsPerTick;
+
+    public JoinSystem(ResourceType<EntityStore, JoinQueue> queueType,
+                      ResourceType<EntityStore, PartyMemberGrid> partyGridType,
+                      int joinsPerTick) {
+        this.queueType = queueType;
+        this.partyGridType = partyGridType;
+        this.joinsPerTick = Math.max(1, joinsPerTick);
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @NotNull Store<EntityStore> store) {
+        JoinQueue queue = store.getResource(queueType);
+        if (queue.isEmpty()) return;
+
+        List<Ref<EntityStore>> batch = new ArrayList<>(Math.min(queue.size(), joinsPerTick));
+        while (batch.size() < joinsPerTick) {
+            Ref<EntityStore> ref = queue.poll();
+            if (ref == null) break;
+            // Players that already left don't use up the budget
+            if (ref.isValid()) batch.add(ref);
+        }
+        if (batch.isEmpty()) return;
+
+        // Migration and the HUD component add and remove components, which a tick may not do;
+        // one task for the whole batch
+        World world = store.getExternalData().getWorld();
+        world.execute(() -> {
+            Store<EntityStore> entityStore = world.getEntityStore().getStore();
+            for (Ref<EntityStore> ref : batch) {
+                if (!ref.isValid()) continue;
+                PlayerRef playerRef = entityStore.getComponent(ref, PlayerRef.getComponentType());
+                if (playerRef != null) join(entityStore, ref, playerRef);
+            }
+        });
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private void join(Store<EntityStore> store, Ref<EntityStore> ref, PlayerRef playerRef) {
+        // Null for players who never earned skill XP; they get a component on their first XP
+        SkillsComponent skills = SkillComponentHelper.migrateLegacy(store, ref);
+
+        // Make sure the leaderboard knows this player's latest XP
+        if (skills != null) MiningExperienceHelper.publishProgress(playerRef, skills);
+
+        // Show the Mining HUD, or fall back to a chat message if it is disabled
+        if (SkillHudHelper.isEnabled()) {
+            SkillHudHelper.attach(store, ref, playerRef, SkillComponentHelper.orUnskilled(skills));
+        } else {
+            int level = SkillComponentHelper.orUnskilled(skills).getLevel(SkillType.Mining);
+            playerRef.sendMessage(Message.raw("Mining Level loaded! Level: " + level));
+        }
+
+        // Party members share XP with this player from their first break in this world
+        PartyHelper.track(store, store.getResource(partyGridType), ref, playerRef);
+
+        if (PluginMetrics.isEnabled()) PluginMetrics.JOINS_PROCESSED.increment();
+    }
+}
@@ -0,0 +1,95 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.boosts.XpBoosts;
+import com.venomie.hytaleleveladditions.boosts.XpMultipliers;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.resources.MiningXpAccumulator;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import com.venomie.hytaleleveladditions.systems.helpers.MiningExperienceHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillComponentHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillHudHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.XpLogHelper;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Applies the Mining XP buffered by BreakOreEventSystem, once per tick per world.
+ * <p>
+ * Each player with pending XP gets a single addXp call and at most one level-up
+ * message per tick, no matter how many ores they broke. A player's first Mining XP
+ * attaches their SkillsComponent, in a world task after the tick.
+ * <p>
+ * Active XP boosts are applied here, once per player per tick: the world's multiplier
+ * (global x world) is read once per tick and multiplied by the player's personal one.
+ * Each grant is written to the XP log here, once per recipient.
+ */
+public class MiningXpAccrualSystem extends TickingSystem<EntityStore> {
+
+    private final ResourceType<EntityStore, MiningXpAccumulator> accumulatorType;
+
+    public MiningXpAccrualSystem(ResourceType<EntityStore, MiningXpAccumulator> accumulatorType) {
+        this.accumulatorType = accumulatorType;
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @NotNull Store<EntityStore> store) {
+        MiningXpAccumulator accumulator = store.getResource(accumulatorType);
+        if (accumulator.isEmpty()) return;
+
+        long start = PluginMetrics.isEnabled() ? System.nanoTime() : 0;
+        XpMultipliers boosts = XpBoosts.current(System.currentTimeMillis());
+        double worldMultiplier = boosts.isNeutral()
+                ? 1.0
+                : boosts.forWorld(store.getExternalData().getWorld().getName());
+        try {
+            accumulator.drain((ref, xp, blocks, sourceId, position) ->
+                    apply(store, boosts, worldMultiplier, ref, (long) xp, blocks, sourceId, position));
+        } finally {
+            if (start != 0) PluginMetrics.ACCRUAL_LATENCY.record(System.nanoTime() - start);
+        }
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    /** Applies one player's XP for this tick */
+    private static void apply(Store<EntityStore> store, XpMultipliers boosts, double worldMultiplier,
+                              Ref<EntityStore> ref, long xp, int blocks, int sourceId, long position) {
+        if (!ref.isValid()) return;
+
+        SkillsComponent skills = SkillComponentHelper.get(store, ref);
+        if (skills != null) {
+            grant(store, boosts, worldMultiplier, ref, xp, blocks, sourceId, position, skills);
+            return;
+        }
+        // First XP attaches the player's SkillsComponent, after the tick; only this path builds a closure
+        SkillComponentHelper.ensureLater(store, ref,
+                attached -> grant(store, boosts, worldMultiplier, ref, xp, blocks, sourceId, position, attached));
+    }
+
+    private static void grant(Store<EntityStore> store, XpMultipliers boosts, double worldMultiplier,
+                              Ref<EntityStore> ref, long xp, int blocks, int sourceId, long position,
+                              SkillsComponent skills) {
+        // Publishing and level-up messages happen in the engine's notifier (skipped without a PlayerRef)
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+
+        double multiplier = worldMultiplier;
+        if (playerRef != null && boosts.hasPlayerBoosts()) {
+            multiplier *= boosts.forPlayer(playerRef.getUuid());
+        }
+        long granted = XpMultipliers.scale(xp, multiplier);
+        MiningExperienceHelper.ENGINE.grantXp(playerRef, skills, granted);
+        SkillHudHelper.refresh(store, ref, skills);
+
+        if (playerRef != null) {
+            XpLogHelper.logGranted(store, playerRef, SkillType.Mining, granted, multiplier, blocks, sourceId, position);
+        }
+    }
+}
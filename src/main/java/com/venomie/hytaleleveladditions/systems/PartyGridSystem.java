@@ -0,0 +1,83 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.party.Parties;
+import com.venomie.hytaleleveladditions.resources.PartyMemberGrid;
+import com.venomie.hytaleleveladditions.systems.helpers.PartyHelper;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps each world's PartyMemberGrid in step with its party members.
+ * <p>
+ * Every tick, tracked members' positions are copied into the grid; a member only
+ * changes grid cell when they cross a cell border. When party membership changes
+ * (a rare, command-driven event) the grid is rebuilt from the world's players.
+ * Costs nothing while nobody is in a party.
+ */
+public class PartyGridSystem extends TickingSystem<EntityStore> {
+
+    private final ResourceType<EntityStore, PartyMemberGrid> gridType;
+
+    public PartyGridSystem(ResourceType<EntityStore, PartyMemberGrid> gridType) {
+        this.gridType = gridType;
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @NotNull Store<EntityStore> store) {
+        PartyMemberGrid grid = store.getResource(gridType);
+
+        long version = Parties.version();
+        if (version != grid.getSyncedVersion()) {
+            resync(store, grid);
+            grid.setSyncedVersion(version);
+            return;
+        }
+        if (grid.isEmpty()) return;
+
+        // Backwards, so untracking (a swap-remove) doesn't skip anyone
+        List<PartyMemberGrid.Member> members = grid.members();
+        for (int i = members.size() - 1; i >= 0; i--) {
+            PartyMemberGrid.Member member = members.get(i);
+            Ref<EntityStore> ref = member.getRef();
+            TransformComponent transform = ref.isValid()
+                    ? store.getComponent(ref, TransformComponent.getComponentType())
+                    : null;
+            if (transform == null) {
+                grid.untrack(ref);
+                continue;
+            }
+            Vector3d position = transform.getPosition();
+            grid.move(member, position.x, position.y, position.z);
+        }
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private void resync(Store<EntityStore> store, PartyMemberGrid grid) {
+        grid.clear();
+        if (Parties.isEmpty()) return;
+
+        List<Ref<EntityStore>> players = new ArrayList<>();
+        store.forEachChunk(PlayerRef.getComponentType(), (chunk, commandBuffer) -> {
+            for (int i = 0; i < chunk.size(); i++) {
+                players.add(chunk.getReferenceTo(i));
+            }
+        });
+        for (Ref<EntityStore> ref : players) {
+            PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+            if (playerRef != null) PartyHelper.track(store, grid, ref, playerRef);
+        }
+    }
+}
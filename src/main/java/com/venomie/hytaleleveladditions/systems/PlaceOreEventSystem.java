@@ -0,0 +1,81 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.*;
+import com.hypixel.hytale.component.dependency.Dependency;
+import com.hypixel.hytale.component.dependency.RootDependency;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.event.events.ecs.PlaceBlockEvent;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.ExamplePlugin;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.resources.OreSectionIndex;
+import com.venomie.hytaleleveladditions.resources.PlacedOreIndex;
+import org.checkerframework.checker.nullness.compatqual.NonNullDecl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Event system recording ore blocks placed by players in the world's PlacedOreIndex,
+ * so BreakOreEventSystem can deny XP and bonus drops when they are broken again, and
+ * adds them to the world's OreSectionIndex (prospecting counts).
+ * <p>
+ * Runs after the other placement handlers and ignores placements they cancelled.
+ * A non-ore placement clears any stale mark at its position (left when a placed ore was
+ * removed without a break event, e.g. by an explosion).
+ */
+public class PlaceOreEventSystem extends EntityEventSystem<EntityStore, PlaceBlockEvent> {
+
+    private final ResourceType<EntityStore, PlacedOreIndex> placedOresType;
+    private final ResourceType<EntityStore, OreSectionIndex> oreIndexType;
+
+    public PlaceOreEventSystem() {
+        super(PlaceBlockEvent.class);
+        this.placedOresType = ExamplePlugin.getPlacedOreIndexType();
+        this.oreIndexType = ExamplePlugin.getOreSectionIndexType();
+    }
+
+    @Override
+    public void handle(int index,
+                       @NotNull ArchetypeChunk<EntityStore> archetypeChunk,
+                       @NotNull Store<EntityStore> store,
+                       @NotNull CommandBuffer<EntityStore> commandBuffer,
+                       @NotNull PlaceBlockEvent placeBlockEvent) {
+
+        if (placeBlockEvent.isCancelled()) return;
+
+        // Block items share their ID with the block they place
+        ItemStack item = placeBlockEvent.getItemInHand();
+        if (item == null) return;
+        OreProfile ore = SkillConfigs.current().classify(item.getItemId());
+        Vector3i position = placeBlockEvent.getTargetBlock();
+        if (ore == null) {
+            store.getResource(placedOresType).remove(position.x, position.y, position.z);
+            return;
+        }
+
+        store.getResource(placedOresType).add(position.x, position.y, position.z);
+        // Placed ores are real blocks, so prospecting counts them
+        store.getResource(oreIndexType).oreAdded(position.x, position.y, position.z, ore);
+    }
+
+    @Nullable
+    @Override
+    public Query<EntityStore> getQuery() {
+        return PlayerRef.getComponentType();
+    }
+
+    @NonNullDecl
+    @Override
+    public Set<Dependency<EntityStore>> getDependencies() {
+        // After every other placement handler, so placements they cancel are never marked
+        return Collections.singleton(RootDependency.last());
+    }
+}
@@ -3,31 +3,42 @@ package com.venomie.hytaleleveladditions.systems;
 import com.hypixel.hytale.component.*;
 import com.hypixel.hytale.component.query.Query;
 import com.hypixel.hytale.component.system.RefSystem;
-import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import org.jetbrains.annotations.NotNull;
-import com.venomie.hytaleleveladditions.components.MiningLevelComponent;
+import com.venomie.hytaleleveladditions.ExamplePlugin;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.resources.JoinQueue;
+import com.venomie.hytaleleveladditions.storage.SkillSnapshotStore;
 
 /**
- * PlayerLevelMiningSystem is responsible for initializing and managing
- * a player's MiningLevelComponent when a player enters the world.
+ * PlayerLevelMiningSystem tracks players entering and leaving the world.
+ * <p>
+ * Joins are only queued for JoinSystem, so a login storm does not run all of its join
+ * work in one tick. Players saved before SkillsComponent existed still carry the legacy
+ * MiningLevelComponent; JoinSystem moves its XP into SkillsComponent.
  * <p>
  * This system is a RefSystem, meaning it operates on individual entity references
  * instead of processing large archetype chunks.
  */
 public class PlayerLevelMiningSystem extends RefSystem<EntityStore> {
 
-    /** Reference to the MiningLevelComponent type for ECS access */
-    private final ComponentType<EntityStore, MiningLevelComponent> miningComponent;
+    /** Reference to the SkillsComponent type for ECS access */
+    private final ComponentType<EntityStore, SkillsComponent> skillsComponent;
+
+    /** Players waiting for their join work, processed by JoinSystem */
+    private final ResourceType<EntityStore, JoinQueue> joinQueueType;
 
     /**
      * Constructs a new PlayerLevelMiningSystem.
      *
-     * @param miningComponent the ECS ComponentType representing MiningLevelComponent
+     * @param skillsComponent the ECS ComponentType representing SkillsComponent
+     * @param joinQueueType the per-world queue of players waiting for their join work
      */
-    public PlayerLevelMiningSystem(ComponentType<EntityStore, MiningLevelComponent> miningComponent) {
-        this.miningComponent = miningComponent;
+    public PlayerLevelMiningSystem(ComponentType<EntityStore, SkillsComponent> skillsComponent,
+                                   ResourceType<EntityStore, JoinQueue> joinQueueType) {
+        this.skillsComponent = skillsComponent;
+        this.joinQueueType = joinQueueType;
     }
 
     /**
@@ -43,8 +54,9 @@ public class PlayerLevelMiningSystem extends RefSystem<EntityStore> {
 
     /**
      * Called when a player entity is added to the world.
-     * Ensures the player has a MiningLevelComponent and sends a welcome message
-     * with the current mining level.
+     * Only queues the player; JoinSystem migrates legacy XP and shows the Mining HUD
+     * (or a chat message) a bounded number of players per tick. No SkillsComponent is
+     * attached here: players get one with their first skill XP.
      *
      * @param ref reference to the entity
      * @param reason reason for addition
@@ -58,25 +70,13 @@ public class PlayerLevelMiningSystem extends RefSystem<EntityStore> {
             @NotNull Store<EntityStore> store,
             @NotNull CommandBuffer<EntityStore> commandBuffer
     ) {
-        // Get the PlayerRef component for sending messages
-        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
-        assert playerRef != null;
-
-        // Schedule ECS-safe mutation to initialize MiningLevelComponent
-        commandBuffer.run((s) -> {
-            // Ensure the entity has a MiningLevelComponent; create if missing
-            MiningLevelComponent mining = store.ensureAndGetComponent(ref, miningComponent);
-
-            // Notify player of their current mining level
-            playerRef.sendMessage(
-                    Message.raw("Mining Level loaded! Level: " + mining.getLevel())
-            );
-        });
+        store.getResource(joinQueueType).add(ref);
     }
 
     /**
      * Called when a player entity is removed from the world.
-     * Currently empty but reserved for cleanup logic if needed in the future.
+     * Stages the player's final skill XP for the offline snapshot file, so their
+     * progress stays readable after they leave.
      *
      * @param ref reference to the entity
      * @param removeReason reason for removal
@@ -90,6 +90,14 @@ public class PlayerLevelMiningSystem extends RefSystem<EntityStore> {
             @NotNull Store<EntityStore> store,
             @NotNull CommandBuffer<EntityStore> commandBuffer
     ) {
-        // Placeholder for cleanup logic if we want to save or reset mining state
+        SkillSnapshotStore snapshots = ExamplePlugin.getSnapshotStore();
+        if (snapshots == null) return;
+
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        SkillsComponent skills = store.getComponent(ref, skillsComponent);
+        if (playerRef == null || skills == null) return;
+
+        // Written (and the pending slot dropped) by the next background flush
+        snapshots.stageAndRelease(playerRef.getUuid(), playerRef.getUsername(), skills);
     }
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.ores.OreRegistry;
+import com.venomie.hytaleleveladditions.ores.OreSectionSummary;
+import com.venomie.hytaleleveladditions.prospect.ProspectScan;
+import com.venomie.hytaleleveladditions.resources.OreSectionIndex;
+import com.venomie.hytaleleveladditions.resources.PlacedOreIndex;
+import com.venomie.hytaleleveladditions.resources.ProspectQueue;
+import com.venomie.hytaleleveladditions.vein.PackedPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Advances the prospecting scans of each world and reports their results in chat.
+ * <p>
+ * Sections already in the world's OreSectionIndex cost one summary read each, with no
+ * limit. Sections that are not cached are scanned block by block and added to the index,
+ * at most {@code sectionsPerTick} (4096 blocks each) per world per tick; a scan that runs
+ * out of budget resumes on the next tick. Scans are served oldest first.
+ */
+public class ProspectSystem extends TickingSystem<EntityStore> {
+
+    private final ResourceType<EntityStore, ProspectQueue> queueType;
+    private final ResourceType<EntityStore, OreSectionIndex> indexType;
+    private final ResourceType<EntityStore, PlacedOreIndex> placedOresType;
+    private final int sectionsPerTick;
+
+    public ProspectSystem(ResourceType<EntityStore, ProspectQueue> queueType,
+                          ResourceType<EntityStore, OreSectionIndex> indexType,
+                          ResourceType<EntityStore, PlacedOreIndex> placedOresType,
+                          int sectionsPerTick) {
+        this.queueType = queueType;
+        this.indexType = indexType;
+        this.placedOresType = placedOresType;
+        this.sectionsPerTick = Math.max(1, sectionsPerTick);
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @NotNull Store<EntityStore> store) {
+        ProspectQueue queue = store.getResource(queueType);
+        if (queue.isEmpty()) return;
+
+        OreSectionIndex index = store.getResource(indexType);
+        PlacedOreIndex placedOres = store.getResource(placedOresType);
+        World world = store.getExternalData().getWorld();
+        int budget = sectionsPerTick;
+
+        List<ProspectScan> scans = queue.scans();
+        for (int i = 0; i < scans.size(); i++) {
+            ProspectScan scan = scans.get(i);
+            if (!scan.getOwner().isValid()) {
+                scans.remove(i--);
+                continue;
+            }
+
+            while (!scan.isDone()) {
+                long section = scan.nextSection();
+                OreSectionSummary summary = index.get(section);
+                if (summary == null) {
+                    if (budget == 0) break;
+                    summary = summarize(world, placedOres, section, index.oreTypes());
+                    index.put(section, summary);
+                    budget--;
+                    if (PluginMetrics.isEnabled()) PluginMetrics.PROSPECT_SECTIONS_SCANNED.increment();
+                } else if (PluginMetrics.isEnabled()) {
+                    PluginMetrics.PROSPECT_SECTIONS_CACHED.increment();
+                }
+                scan.accept(summary);
+            }
+
+            if (scan.isDone()) {
+                scans.remove(i--);
+                report(store, scan);
+            }
+        }
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    /**
+     * Reads every block of a section and records its ores. Placed-ore marks on blocks that
+     * are no longer ores are pruned on the way.
+     */
+    private static OreSectionSummary summarize(World world, PlacedOreIndex placedOres, long section, int oreTypes) {
+        OreSectionSummary summary = new OreSectionSummary(oreTypes);
+        int minX = PackedPos.x(section) << OreSectionSummary.SHIFT;
+        int minY = PackedPos.y(section) << OreSectionSummary.SHIFT;
+        int minZ = PackedPos.z(section) << OreSectionSummary.SHIFT;
+        boolean marked = placedOres.hasSection(minX, minY, minZ);
+
+        for (int y = minY; y < minY + OreSectionSummary.SIZE; y++) {
+            for (int z = minZ; z < minZ + OreSectionSummary.SIZE; z++) {
+                for (int x = minX; x < minX + OreSectionSummary.SIZE; x++) {
+                    BlockType blockType = world.getBlockType(x, y, z);
+
+                    // Cached per BlockType instance, so stone and dirt cost one IdentityTable probe
+                    OreProfile ore = blockType == null ? null : OreRegistry.get(blockType);
+                    if (ore != null) {
+                        summary.add(OreSectionSummary.localIndex(x, y, z), OreSectionIndex.typeOf(ore));
+                    } else if (marked) {
+                        placedOres.remove(x, y, z);
+                    }
+                }
+            }
+        }
+        return summary;
+    }
+
+    private static void report(Store<EntityStore> store, ProspectScan scan) {
+        if (PluginMetrics.isEnabled()) PluginMetrics.PROSPECT_SCANS.increment();
+
+        PlayerRef playerRef = store.getComponent(scan.getOwner(), PlayerRef.getComponentType());
+        if (playerRef == null) return;
+
+        StringBuilder text = new StringBuilder("=== Prospecting (" + scan.getRadius() + " blocks) ===");
+        List<OreProfile> ores = scan.getOres();
+        long[] counts = scan.getCounts();
+        boolean found = false;
+        for (int type = 0; type < counts.length; type++) {
+            if (counts[type] == 0) continue;
+            text.append('\n').append(displayName(ores.get(type))).append(": ").append(counts[type]);
+            found = true;
+        }
+        if (!found) text.append("\nNo ore nearby.");
+        playerRef.sendMessage(Message.raw(text.toString()));
+    }
+
+    /** "Ore_Copper_" → "Copper" */
+    private static String displayName(OreProfile ore) {
+        String name = ore.getPrefix();
+        if (name.startsWith("Ore_")) name = name.substring(4);
+        if (name.endsWith("_")) name = name.substring(0, name.length() - 1);
+        return name;
+    }
+}
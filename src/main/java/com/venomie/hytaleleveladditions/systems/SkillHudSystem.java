@@ -0,0 +1,65 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.components.SkillHudComponent;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.resources.SkillHudQueue;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Sends pending skill HUD updates, at most one per player per throttle interval.
+ * <p>
+ * Players still inside their interval stay queued; by the time they are flushed, every
+ * change in between has been coalesced into the latest values, and nothing is sent if
+ * the values went back to what the client already shows.
+ */
+public class SkillHudSystem extends TickingSystem<EntityStore> {
+
+    private final ComponentType<EntityStore, SkillHudComponent> hudComponent;
+    private final ResourceType<EntityStore, SkillHudQueue> queueType;
+
+    /** Minimum time between two updates to the same player */
+    private final long minIntervalNanos;
+
+    public SkillHudSystem(ComponentType<EntityStore, SkillHudComponent> hudComponent,
+                          ResourceType<EntityStore, SkillHudQueue> queueType,
+                          int updatesPerSecond) {
+        this.hudComponent = hudComponent;
+        this.queueType = queueType;
+        this.minIntervalNanos = 1_000_000_000L / Math.max(1, updatesPerSecond);
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @NotNull Store<EntityStore> store) {
+        SkillHudQueue queue = store.getResource(queueType);
+        if (queue.isEmpty()) return;
+
+        long now = System.nanoTime();
+        List<Ref<EntityStore>> pending = queue.pending();
+        int kept = 0;
+        for (int i = 0; i < pending.size(); i++) {
+            Ref<EntityStore> ref = pending.get(i);
+            if (!ref.isValid()) continue;
+
+            SkillHudComponent state = store.getComponent(ref, hudComponent);
+            if (state == null) continue;
+
+            if (!state.canSend(now, minIntervalNanos)) {
+                pending.set(kept++, ref);
+                continue;
+            }
+            if (state.flush(SkillType.Mining.name(), now) && PluginMetrics.isEnabled()) {
+                PluginMetrics.HUD_UPDATES.increment();
+            }
+        }
+        pending.subList(kept, pending.size()).clear();
+    }
+}
@@ -0,0 +1,94 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.*;
+import com.hypixel.hytale.component.dependency.Dependency;
+import com.hypixel.hytale.component.dependency.Order;
+import com.hypixel.hytale.component.dependency.SystemGroupDependency;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
+import com.hypixel.hytale.server.core.modules.entity.damage.DamageModule;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.combat.SwordXpRules;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.resources.SwordDamageAccumulator;
+import com.venomie.hytaleleveladditions.resources.SwordTargetLedger;
+import org.checkerframework.checker.nullness.compatqual.NonNullDecl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Event system recording sword damage dealt by players.
+ * - Runs after the damage filter group, so only damage that survived filtering (not
+ *   cancelled, not reduced to zero) counts
+ * - Only damage from a player holding a sword (SwordXpRules weapon prefixes) counts
+ * - Damage to other players is ignored, so friends can't farm each other
+ * - Each hit is discounted by the target's SwordTargetLedger entry (diminishing returns per target)
+ * - The counted damage is summed per attacker in SwordDamageAccumulator; XP is applied
+ *   once per tick by SwordXpAccrualSystem, never per hit
+ */
+public class SwordDamageEventSystem extends EntityEventSystem<EntityStore, Damage> {
+
+    private final ResourceType<EntityStore, SwordDamageAccumulator> accumulatorType;
+    private final ResourceType<EntityStore, SwordTargetLedger> ledgerType;
+
+    public SwordDamageEventSystem(ResourceType<EntityStore, SwordDamageAccumulator> accumulatorType,
+                                  ResourceType<EntityStore, SwordTargetLedger> ledgerType) {
+        super(Damage.class);
+        this.accumulatorType = accumulatorType;
+        this.ledgerType = ledgerType;
+    }
+
+    @Override
+    public void handle(int index,
+                       @NotNull ArchetypeChunk<EntityStore> archetypeChunk,
+                       @NotNull Store<EntityStore> store,
+                       @NotNull CommandBuffer<EntityStore> commandBuffer,
+                       @NotNull Damage damage) {
+
+        // Filters ran first; skip damage they cancelled or reduced to nothing
+        if (damage.isCancelled() || damage.getAmount() <= 0) return;
+        if (!(damage.getSource() instanceof Damage.EntitySource source)) return;
+
+        Ref<EntityStore> attacker = source.getRef();
+        Ref<EntityStore> target = archetypeChunk.getReferenceTo(index);
+        if (attacker == null || !attacker.isValid() || attacker.equals(target)) return;
+
+        // Damage to other players never counts
+        if (store.getComponent(target, PlayerRef.getComponentType()) != null) return;
+
+        // Only players earn Sword XP; their SkillsComponent is attached with the first XP
+        Player player = store.getComponent(attacker, Player.getComponentType());
+        if (player == null) return;
+
+        SwordXpRules rules = SkillConfigs.current().getSword();
+        ItemStack weapon = player.getInventory().getItemInHand();
+        if (weapon == null || !rules.isSword(weapon.getItemId())) return;
+
+        double amount = damage.getAmount();
+        double credited = store.getResource(ledgerType).getAndAdd(target, amount, System.currentTimeMillis());
+        store.getResource(accumulatorType).add(attacker, rules.countedDamage(credited, amount));
+
+        if (PluginMetrics.isEnabled()) PluginMetrics.SWORD_HITS.increment();
+    }
+
+    @Nullable
+    @Override
+    public Query<EntityStore> getQuery() {
+        return Query.any();
+    }
+
+    @NonNullDecl
+    @Override
+    public Set<Dependency<EntityStore>> getDependencies() {
+        // Read the final amount: after armor, invulnerability and other plugins' filters
+        return Collections.singleton(new SystemGroupDependency<>(Order.AFTER, DamageModule.get().getFilterDamageGroup()));
+    }
+}
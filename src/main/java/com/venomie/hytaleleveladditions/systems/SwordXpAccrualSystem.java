@@ -0,0 +1,104 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.boosts.XpBoosts;
+import com.venomie.hytaleleveladditions.boosts.XpMultipliers;
+import com.venomie.hytaleleveladditions.combat.SwordXpRules;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.journal.XpLogFormat;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.resources.SkillAccumulator;
+import com.venomie.hytaleleveladditions.resources.SwordDamageAccumulator;
+import com.venomie.hytaleleveladditions.resources.SwordTargetLedger;
+import com.venomie.hytaleleveladditions.skills.LevelChange;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillComponentHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.SkillExperienceHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.XpLogHelper;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Converts the sword damage buffered by SwordDamageEventSystem into Sword XP, once per
+ * tick per world.
+ * <p>
+ * Each attacker's summed damage goes through the SwordXpRules curve once, then active XP
+ * boosts apply as for Mining. Every few seconds the target ledger is swept, so targets that
+ * died or were left alone give full XP again.
+ */
+public class SwordXpAccrualSystem extends TickingSystem<EntityStore> {
+
+    /** How long a target keeps its diminished value after the last hit */
+    private static final long TARGET_MEMORY_MILLIS = 5 * 60_000L;
+
+    private final ResourceType<EntityStore, SwordDamageAccumulator> accumulatorType;
+    private final ResourceType<EntityStore, SwordTargetLedger> ledgerType;
+
+    public SwordXpAccrualSystem(ResourceType<EntityStore, SwordDamageAccumulator> accumulatorType,
+                                ResourceType<EntityStore, SwordTargetLedger> ledgerType) {
+        this.accumulatorType = accumulatorType;
+        this.ledgerType = ledgerType;
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @NotNull Store<EntityStore> store) {
+        long now = System.currentTimeMillis();
+        // The sweep deadline lives in each world's ledger, so every world is swept on schedule
+        store.getResource(ledgerType).sweepIfDue(now, TARGET_MEMORY_MILLIS);
+
+        SwordDamageAccumulator accumulator = store.getResource(accumulatorType);
+        if (accumulator.isEmpty()) return;
+
+        SwordXpRules rules = SkillConfigs.current().getSword();
+        XpMultipliers boosts = XpBoosts.current(now);
+        double worldMultiplier = boosts.isNeutral()
+                ? 1.0
+                : boosts.forWorld(store.getExternalData().getWorld().getName());
+        accumulator.drain((attacker, damage, hits, sourceId, position) ->
+                apply(store, rules, boosts, worldMultiplier, attacker, damage, hits));
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    /** Applies one attacker's Sword XP for this tick */
+    private static void apply(Store<EntityStore> store, SwordXpRules rules, XpMultipliers boosts, double worldMultiplier,
+                              Ref<EntityStore> attacker, double damage, int hits) {
+        if (!attacker.isValid()) return;
+
+        PlayerRef playerRef = store.getComponent(attacker, PlayerRef.getComponentType());
+        double multiplier = playerRef != null && boosts.hasPlayerBoosts()
+                ? worldMultiplier * boosts.forPlayer(playerRef.getUuid())
+                : worldMultiplier;
+
+        long xp = XpMultipliers.scale(rules.xpForDamage(damage), multiplier);
+        if (xp <= 0) return;
+
+        SkillsComponent skills = SkillComponentHelper.get(store, attacker);
+        if (skills != null) {
+            grant(store, playerRef, xp, multiplier, hits, skills);
+            return;
+        }
+        // First XP attaches the player's SkillsComponent, after the tick; only this path builds a closure
+        SkillComponentHelper.ensureLater(store, attacker, attached -> grant(store, playerRef, xp, multiplier, hits, attached));
+    }
+
+    private static void grant(Store<EntityStore> store, PlayerRef playerRef, long xp, double multiplier, int hits,
+                              SkillsComponent skills) {
+        LevelChange change = skills.addXp(SkillType.Sword, xp);
+        if (PluginMetrics.isEnabled()) PluginMetrics.SWORD_XP_GRANTED.add(xp);
+        if (playerRef == null) return;
+
+        XpLogHelper.logGranted(store, playerRef, SkillType.Sword, xp, multiplier, hits,
+                XpLogFormat.NO_NAME, SkillAccumulator.NO_POSITION);
+
+        SkillExperienceHelper.publishProgress(playerRef, skills, SkillType.Sword);
+        SkillExperienceHelper.notifyLevelUp(playerRef, SkillType.Sword, change);
+    }
+}
@@ -0,0 +1,130 @@
+package com.venomie.hytaleleveladditions.systems;
+
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.ResourceType;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.system.tick.TickingSystem;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.resources.DropSpawnQueue;
+import com.venomie.hytaleleveladditions.resources.MiningXpAccumulator;
+import com.venomie.hytaleleveladditions.resources.OreSectionIndex;
+import com.venomie.hytaleleveladditions.resources.PlacedOreIndex;
+import com.venomie.hytaleleveladditions.resources.VeinMineQueue;
+import com.venomie.hytaleleveladditions.systems.helpers.MiningDropHelper;
+import com.venomie.hytaleleveladditions.systems.helpers.MiningExperienceHelper;
+import com.venomie.hytaleleveladditions.vein.VeinSearch;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Advances the vein-mining searches of each world.
+ * <p>
+ * At most {@code blocksPerTick} blocks are broken per world per tick, shared round-robin
+ * between active veins. When a vein finishes, its XP is queued as one accumulator entry
+ * and its bonus drops are rolled together and queued at the origin block, so a vein
+ * costs one pass through the XP and drop pipelines rather than one per block.
+ * Player-placed ores are never treated as part of a vein.
+ */
+public class VeinMiningSystem extends TickingSystem<EntityStore> {
+
+    private final ComponentType<EntityStore, SkillsComponent> skillsComponent;
+    private final ResourceType<EntityStore, VeinMineQueue> veinQueueType;
+    private final ResourceType<EntityStore, MiningXpAccumulator> accumulatorType;
+    private final ResourceType<EntityStore, DropSpawnQueue> dropQueueType;
+    private final ResourceType<EntityStore, PlacedOreIndex> placedOresType;
+    private final ResourceType<EntityStore, OreSectionIndex> oreIndexType;
+    private final int blocksPerTick;
+
+    public VeinMiningSystem(ComponentType<EntityStore, SkillsComponent> skillsComponent,
+                            ResourceType<EntityStore, VeinMineQueue> veinQueueType,
+                            ResourceType<EntityStore, MiningXpAccumulator> accumulatorType,
+                            ResourceType<EntityStore, DropSpawnQueue> dropQueueType,
+                            ResourceType<EntityStore, PlacedOreIndex> placedOresType,
+                            ResourceType<EntityStore, OreSectionIndex> oreIndexType,
+                            int blocksPerTick) {
+        this.skillsComponent = skillsComponent;
+        this.veinQueueType = veinQueueType;
+        this.accumulatorType = accumulatorType;
+        this.dropQueueType = dropQueueType;
+        this.placedOresType = placedOresType;
+        this.oreIndexType = oreIndexType;
+        this.blocksPerTick = Math.max(1, blocksPerTick);
+    }
+
+    @Override
+    public void tick(float dt, int systemIndex, @NotNull Store<EntityStore> store) {
+        VeinMineQueue queue = store.getResource(veinQueueType);
+        if (queue.isEmpty()) return;
+
+        List<VeinSearch> searches = queue.searches();
+        WorldBlockAccess access = new WorldBlockAccess(store.getExternalData().getWorld(),
+                store.getResource(placedOresType), store.getResource(oreIndexType));
+
+        // Split the budget evenly, starting from a rotating index
+        int share = Math.max(1, blocksPerTick / searches.size());
+        int remaining = blocksPerTick;
+        int start = queue.nextStartIndex();
+        for (int i = 0; i < searches.size() && remaining > 0; i++) {
+            VeinSearch search = searches.get((start + i) % searches.size());
+            if (!search.getOwner().isValid()) continue;
+            remaining -= search.step(access, Math.min(share, remaining));
+        }
+
+        // Reward and drop finished veins (and veins whose miner left)
+        for (int i = searches.size() - 1; i >= 0; i--) {
+            VeinSearch search = searches.get(i);
+            if (!search.getOwner().isValid()) {
+                searches.remove(i);
+            } else if (search.isDone()) {
+                searches.remove(i);
+                reward(store, search);
+            }
+        }
+    }
+
+    private void reward(Store<EntityStore> store, VeinSearch search) {
+        int blocks = search.getBroken();
+        if (blocks == 0) return;
+
+        Ref<EntityStore> owner = search.getOwner();
+        SkillsComponent skills = store.getComponent(owner, skillsComponent);
+        if (skills == null) return;
+
+        MiningExperienceHelper.queueVeinXp(store, store.getResource(accumulatorType), owner, search.getOre(),
+                blocks, search.getOriginX(), search.getOriginY(), search.getOriginZ());
+        MiningDropHelper.queueVeinDrops(skills, search.getOre(), blocks,
+                search.getOriginX(), search.getOriginY(), search.getOriginZ(),
+                store.getResource(dropQueueType));
+    }
+
+    // ===============================
+    // VeinSearch.BlockAccess
+    // ===============================
+
+    /** One world's blocks, as seen and broken by vein searches during one tick */
+    private record WorldBlockAccess(World world, PlacedOreIndex placedOres, OreSectionIndex oreIndex)
+            implements VeinSearch.BlockAccess {
+
+        @Override
+        public BlockType getBlockType(int x, int y, int z) {
+            // Placed ores read as "not this ore", so they are neither broken nor rewarded
+            if (placedOres.contains(x, y, z)) return null;
+            return world.getBlockType(x, y, z);
+        }
+
+        @Override
+        public void breakBlock(int x, int y, int z) {
+            // Normal block break, so vanilla drops still happen for every vein block. There is no
+            // breaking entity, so no BreakBlockEvent reaches BreakOreEventSystem: keep the indexes
+            // that system maintains up to date here
+            world.breakBlock(x, y, z, 0);
+            placedOres.remove(x, y, z);
+            oreIndex.oreRemoved(x, y, z);
+        }
+    }
+}
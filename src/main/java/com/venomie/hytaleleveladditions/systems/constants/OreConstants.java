@@ -1,7 +1,14 @@
 package com.venomie.hytaleleveladditions.systems.constants;
 
-import java.util.*;
+import com.venomie.hytaleleveladditions.config.SkillConfigs;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
 
+import java.util.List;
+
+/**
+ * Names of the vanilla ore block prefixes, plus static shortcuts into the active
+ * SkillConfig. XP values and tiers live in Skills.json.
+ */
 public final class OreConstants {
     private OreConstants() {}
 
@@ -15,38 +22,34 @@ public final class OreConstants {
     public static final String MITHRIL = "Ore_Mithril_";
     public static final String ONYXIUM = "Ore_Onyxium_";
 
-    private static final Map<String, Integer> ORE_XP = new LinkedHashMap<>();
-    private static final List<String> ORE_PREFIXES;
-
-    static {
-        // XP mapping
-        ORE_XP.put(COPPER, 50);
-        ORE_XP.put(IRON, 75);
-        ORE_XP.put(THORIUM, 100);
-        ORE_XP.put(GOLD, 125);
-        ORE_XP.put(COBALT, 150);
-        ORE_XP.put(SILVER, 175);
-        ORE_XP.put(ADAMANTITE, 200);
-        ORE_XP.put(MITHRIL, 250);
-        ORE_XP.put(ONYXIUM, 300);
-
-        ORE_PREFIXES = new ArrayList<>(ORE_XP.keySet());
+    /** Default item dropped as the Mining bonus drop (overridable in Skills.json) */
+    public static final String BONUS_DROP_ITEM_ID = "Ingredient_Charcoal";
+
+    /** Returns the known ore profiles in tier order, from the active SkillConfig */
+    public static List<OreProfile> getProfiles() {
+        return SkillConfigs.current().getOres();
+    }
+
+    /**
+     * Classifies a block ID against the active SkillConfig. Slow path: scans string
+     * prefixes, so callers on the break path should go through OreRegistry, which caches
+     * the result per BlockType.
+     *
+     * @return the matching profile, an unlisted-ore profile for other "Ore" blocks, or null
+     */
+    public static OreProfile classify(String blockId) {
+        return SkillConfigs.current().classify(blockId);
     }
 
     /** Checks if a block ID starts with a known ore prefix */
     public static boolean isOre(String blockId) {
-        for (String prefix : ORE_PREFIXES) {
-            if (blockId.startsWith(prefix)) return true;
-        }
-        return false;
+        OreProfile profile = classify(blockId);
+        return profile != null && profile.isListed();
     }
 
     /** Gets XP for a given block ID, default 0 if not found */
     public static int getXpForOre(String blockId) {
-        for (Map.Entry<String, Integer> entry : ORE_XP.entrySet()) {
-            if (blockId.startsWith(entry.getKey())) return entry.getValue();
-        }
-        return 0;
+        OreProfile profile = classify(blockId);
+        return profile == null ? 0 : profile.getXp();
     }
 }
-
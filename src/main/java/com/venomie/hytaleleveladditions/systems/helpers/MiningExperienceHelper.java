@@ -1,28 +1,69 @@
 package com.venomie.hytaleleveladditions.systems.helpers;
 
-import com.hypixel.hytale.server.core.Message;
-import com.venomie.hytaleleveladditions.components.MiningLevelComponent;
-import com.hypixel.hytale.server.core.entity.entities.Player;
-import com.venomie.hytaleleveladditions.systems.constants.OreConstants;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.engine.MiningEngine;
+import com.venomie.hytaleleveladditions.engine.RandomSource;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.resources.MiningXpAccumulator;
+import com.venomie.hytaleleveladditions.skills.LevelChange;
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
 
 public class MiningExperienceHelper {
 
     /**
-     * Adds XP for a mined ore and notifies player if level increases.
-     * Only applies for recognized ores.
+     * Shared mining engine bound to this plugin: XP changes are published to the
+     * leaderboard and snapshot store, and level-ups are announced in chat.
      */
-    public static void handleXpAndLevel(Player player, MiningLevelComponent mining, String blockId) {
-        if (!OreConstants.isOre(blockId)) return;
+    public static final MiningEngine<PlayerRef> ENGINE = new MiningEngine<>(
+            (playerRef, skills, skill, change) -> {
+                publishProgress(playerRef, skills);
+                notifyLevelUp(playerRef, change);
+            },
+            RandomSource.DEFAULT);
 
-        int oldLevel = mining.getLevel();
+    /**
+     * Queues XP for a mined ore. The XP is applied (and level-ups announced)
+     * by MiningXpAccrualSystem at the next tick.
+     * Only applies for recognized ores. The XP is shared with nearby party members.
+     *
+     * @return the XP earned by the break, before boosts and sharing; 0 if none
+     */
+    public static long queueXp(Store<EntityStore> store, MiningXpAccumulator accumulator, Ref<EntityStore> ref,
+                               OreProfile ore, int x, int y, int z) {
+        if (!ore.isListed()) return 0;
 
         // Add XP based on Ore type
-        int xpToAdd = OreConstants.getXpForOre(blockId);
-        mining.addXp(xpToAdd);
+        long xp = MiningEngine.xpFor(ore, 1);
+        if (xp > 0) PartyHelper.queueShared(store, accumulator, ref, xp, 1, XpLogHelper.sourceId(ore), x, y, z);
+        return xp;
+    }
+
+    /**
+     * Queues the XP of a whole mined vein as a single entry, instead of one per block.
+     * The XP is shared with party members near the vein's origin.
+     *
+     * @return the XP earned by the vein, before boosts and sharing; 0 if none
+     */
+    public static long queueVeinXp(Store<EntityStore> store, MiningXpAccumulator accumulator, Ref<EntityStore> ref,
+                                   OreProfile ore, int blocks, int x, int y, int z) {
+        long xp = MiningEngine.xpFor(ore, blocks);
+        if (xp <= 0) return 0;
+
+        PartyHelper.queueShared(store, accumulator, ref, xp, blocks, XpLogHelper.sourceId(ore), x, y, z);
+        return xp;
+    }
+
+    /** Mining shorthand for {@link SkillExperienceHelper#notifyLevelUp} */
+    public static void notifyLevelUp(PlayerRef playerRef, LevelChange change) {
+        SkillExperienceHelper.notifyLevelUp(playerRef, SkillType.Mining, change);
+    }
 
-        int newLevel = mining.getLevel();
-        if (newLevel > oldLevel) {
-            player.sendMessage(Message.raw("Your Mining Level is now " + newLevel));
-        }
+    /** Mining shorthand for {@link SkillExperienceHelper#publishProgress} */
+    public static void publishProgress(PlayerRef playerRef, SkillSet skills) {
+        SkillExperienceHelper.publishProgress(playerRef, skills, SkillType.Mining);
     }
 }
@@ -0,0 +1,72 @@
+package com.venomie.hytaleleveladditions.systems.helpers;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.ExamplePlugin;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.party.Parties;
+import com.venomie.hytaleleveladditions.party.Party;
+import com.venomie.hytaleleveladditions.resources.MiningXpAccumulator;
+import com.venomie.hytaleleveladditions.resources.PartyMemberGrid;
+import com.venomie.hytaleleveladditions.vein.PackedPos;
+
+import java.util.List;
+
+/**
+ * Party XP sharing on top of the per-world PartyMemberGrid.
+ */
+public class PartyHelper {
+
+    /** Tracks the player in the grid if they are in a party; a no-op otherwise */
+    public static void track(Store<EntityStore> store, PartyMemberGrid grid, Ref<EntityStore> ref, PlayerRef playerRef) {
+        Party party = Parties.partyOf(playerRef.getUuid());
+        if (party == null) return;
+
+        TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+        if (transform == null) return;
+
+        Vector3d position = transform.getPosition();
+        grid.track(ref, playerRef.getUuid(), party.getId(), position.x, position.y, position.z);
+    }
+
+    /**
+     * Queues Mining XP earned at a block, split evenly between the player and the
+     * members of their party within the share radius of that block. The player
+     * keeps the remainder of the split. Without nearby members (or parties at all)
+     * the player gets everything.
+     *
+     * @param blocks blocks the XP was earned for
+     * @param sourceId XP log ID of the ore
+     */
+    public static void queueShared(Store<EntityStore> store, MiningXpAccumulator accumulator,
+                                   Ref<EntityStore> ref, long xp, int blocks, int sourceId, int x, int y, int z) {
+        long position = PackedPos.pack(x, y, z);
+        if (Parties.isEmpty()) {
+            accumulator.add(ref, xp, blocks, sourceId, position);
+            return;
+        }
+
+        PartyMemberGrid grid = store.getResource(ExamplePlugin.getPartyMemberGridType());
+        PartyMemberGrid.Member self = grid.get(ref);
+        List<PartyMemberGrid.Member> near = self != null
+                ? grid.collectNear(self, x + .5, y + .5, z + .5)
+                : List.of();
+
+        long share = xp / (near.size() + 1);
+        if (share == 0) {
+            // Too little to split
+            accumulator.add(ref, xp, blocks, sourceId, position);
+            return;
+        }
+        for (PartyMemberGrid.Member member : near) {
+            accumulator.add(member.getRef(), share, blocks, sourceId, position);
+        }
+        accumulator.add(ref, xp - share * near.size(), blocks, sourceId, position);
+
+        if (PluginMetrics.isEnabled()) PluginMetrics.PARTY_XP_SHARED.add(share * near.size());
+    }
+}
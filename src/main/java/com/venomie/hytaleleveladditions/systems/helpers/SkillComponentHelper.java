@@ -0,0 +1,117 @@
+package com.venomie.hytaleleveladditions.systems.helpers;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.ExamplePlugin;
+import com.venomie.hytaleleveladditions.components.MiningLevelComponent;
+import com.venomie.hytaleleveladditions.components.SkillsComponent;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.perks.MiningPerkTable;
+import com.venomie.hytaleleveladditions.perks.MiningPerks;
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Consumer;
+
+/**
+ * Lazy access to a player's SkillsComponent.
+ * <p>
+ * Players get a SkillsComponent the first time they earn skill XP, not when they join, so
+ * players who never mine or fight carry no skill data. Read-only paths treat a missing
+ * component as a fresh player (every skill at level 1) through {@link #UNSKILLED}.
+ * All methods must run on the world thread. Attaching and migrating the component are
+ * structural changes, so {@link #ensure} and {@link #migrateLegacy} must run where the
+ * store allows them (a command buffer task or a world.execute task); ticking systems use
+ * {@link #ensureLater}.
+ */
+public class SkillComponentHelper {
+
+    /** Stand-in for players without a SkillsComponent; never mutated */
+    public static final SkillSet UNSKILLED = new SkillSet();
+
+    /** The player's skills, or null if they have not earned any skill XP yet */
+    @Nullable
+    public static SkillsComponent get(Store<EntityStore> store, Ref<EntityStore> ref) {
+        return store.getComponent(ref, ExamplePlugin.getSkillsComponentType());
+    }
+
+    /**
+     * The player's skills, attached on first use. A newly attached component picks up the
+     * player's legacy Mining XP, if they still carry it.
+     */
+    public static SkillsComponent ensure(Store<EntityStore> store, Ref<EntityStore> ref) {
+        SkillsComponent skills = get(store, ref);
+        if (skills != null) return skills;
+
+        skills = store.ensureAndGetComponent(ref, ExamplePlugin.getSkillsComponentType());
+        migrateLegacy(store, ref, skills);
+        if (PluginMetrics.isEnabled()) PluginMetrics.SKILLS_ATTACHED.increment();
+        return skills;
+    }
+
+    /**
+     * Hands the player's skills to {@code then}: right away if they already have a
+     * SkillsComponent, otherwise from a world.execute task that attaches it first.
+     * For ticking systems, which may not add components during the tick. Per-player
+     * hot paths call {@link #get} first, so only the first XP builds a closure.
+     */
+    public static void ensureLater(Store<EntityStore> store, Ref<EntityStore> ref, Consumer<SkillsComponent> then) {
+        SkillsComponent skills = get(store, ref);
+        if (skills != null) {
+            then.accept(skills);
+            return;
+        }
+        World world = store.getExternalData().getWorld();
+        world.execute(() -> {
+            if (!ref.isValid()) return;
+            then.accept(ensure(world.getEntityStore().getStore(), ref));
+        });
+    }
+
+    /**
+     * Moves the XP of the legacy MiningLevelComponent into SkillsComponent and removes it.
+     * Attaches the SkillsComponent if the player has legacy XP but no component yet.
+     *
+     * @return the player's skills, or null if they have neither component
+     */
+    @Nullable
+    public static SkillsComponent migrateLegacy(Store<EntityStore> store, Ref<EntityStore> ref) {
+        if (store.getComponent(ref, ExamplePlugin.getMiningComponentType()) == null) {
+            return get(store, ref);
+        }
+        // ensure() runs the migration when it attaches the component
+        SkillsComponent skills = get(store, ref);
+        if (skills == null) return ensure(store, ref);
+
+        migrateLegacy(store, ref, skills);
+        return skills;
+    }
+
+    /** Perks for the player's Mining level; level 1 perks if they have no skills yet */
+    public static MiningPerks miningPerks(@Nullable SkillSet skills) {
+        return skills != null ? skills.getMiningPerks() : MiningPerkTable.forLevel(1);
+    }
+
+    /** The player's skills for display; {@link #UNSKILLED} if they have none yet */
+    public static SkillSet orUnskilled(@Nullable SkillSet skills) {
+        return skills != null ? skills : UNSKILLED;
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static void migrateLegacy(Store<EntityStore> store, Ref<EntityStore> ref, SkillsComponent skills) {
+        MiningLevelComponent legacy = store.getComponent(ref, ExamplePlugin.getMiningComponentType());
+        if (legacy == null) return;
+
+        // One-time migration from the legacy "Xp" field; never overwrite XP already earned
+        if (skills.getXp(SkillType.Mining) == 0) {
+            skills.setXp(SkillType.Mining, legacy.getXp());
+        }
+        store.removeComponent(ref, ExamplePlugin.getMiningComponentType());
+    }
+}
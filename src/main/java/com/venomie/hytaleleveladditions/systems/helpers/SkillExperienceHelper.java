@@ -0,0 +1,40 @@
+package com.venomie.hytaleleveladditions.systems.helpers;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.venomie.hytaleleveladditions.ExamplePlugin;
+import com.venomie.hytaleleveladditions.leaderboard.Leaderboards;
+import com.venomie.hytaleleveladditions.skills.LevelChange;
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import com.venomie.hytaleleveladditions.storage.SkillSnapshotStore;
+
+/**
+ * Level-up messages and progress publishing, shared by every skill.
+ */
+public class SkillExperienceHelper {
+
+    /**
+     * Notifies the player in chat if the XP change increased their level in the skill.
+     * Skipped for Mining while the Mining HUD is enabled; the HUD shows the new level instead.
+     */
+    public static void notifyLevelUp(PlayerRef playerRef, SkillType skill, LevelChange change) {
+        if (!change.leveledUp()) return;
+        if (skill == SkillType.Mining && SkillHudHelper.isEnabled()) return;
+        playerRef.sendMessage(Message.raw("Your " + skill + " Level is now " + change.newLevel()));
+    }
+
+    /**
+     * Publishes the player's current XP in the skill to its leaderboard and stages all
+     * their skills for the offline snapshot file.
+     * Call after any change to the player's XP.
+     */
+    public static void publishProgress(PlayerRef playerRef, SkillSet skills, SkillType skill) {
+        Leaderboards.forSkill(skill).update(playerRef.getUuid(), playerRef.getUsername(), skills.getXp(skill));
+
+        SkillSnapshotStore snapshots = ExamplePlugin.getSnapshotStore();
+        if (snapshots != null) {
+            snapshots.stage(playerRef.getUuid(), playerRef.getUsername(), skills);
+        }
+    }
+}
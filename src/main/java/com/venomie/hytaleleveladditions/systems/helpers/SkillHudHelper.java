@@ -0,0 +1,82 @@
+package com.venomie.hytaleleveladditions.systems.helpers;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.ExamplePlugin;
+import com.venomie.hytaleleveladditions.components.SkillHudComponent;
+import com.venomie.hytaleleveladditions.formulas.LevelCurve;
+import com.venomie.hytaleleveladditions.formulas.LevelCurves;
+import com.venomie.hytaleleveladditions.hud.SkillHud;
+import com.venomie.hytaleleveladditions.metrics.PluginMetrics;
+import com.venomie.hytaleleveladditions.skills.SkillSet;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+
+/**
+ * Helper for the Mining HUD: attaching it to joining players and recording XP changes.
+ * <p>
+ * Changes are only recorded here; SkillHudSystem sends them, throttled per player.
+ * When the HUD is disabled in config, callers fall back to chat messages.
+ */
+public class SkillHudHelper {
+
+    private static volatile boolean enabled;
+
+    /** Enables the HUD; set once at setup from HudUpdatesPerSecond */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Shows the Mining HUD to a player that just joined and queues its first update.
+     * Must run on the world thread (e.g., inside a command buffer task).
+     */
+    public static void attach(Store<EntityStore> store, Ref<EntityStore> ref, PlayerRef playerRef, SkillSet skills) {
+        if (!enabled) return;
+
+        Player player = store.getComponent(ref, Player.getComponentType());
+        if (player == null) return;
+
+        SkillHud hud = new SkillHud(playerRef);
+        player.getHudManager().setCustomHud(playerRef, hud);
+
+        SkillHudComponent state = store.ensureAndGetComponent(ref, ExamplePlugin.getSkillHudComponentType());
+        state.setHud(hud);
+        refresh(store, ref, skills);
+    }
+
+    /**
+     * Records the player's current Mining level and progress. Queues a HUD update only if
+     * the displayed level or whole percentage changed.
+     */
+    public static void refresh(Store<EntityStore> store, Ref<EntityStore> ref, SkillSet skills) {
+        if (!enabled) return;
+
+        SkillHudComponent state = store.getComponent(ref, ExamplePlugin.getSkillHudComponentType());
+        if (state == null) return;
+
+        int level = skills.getLevel(SkillType.Mining);
+        if (state.setTarget(level, progressPercent(skills, SkillType.Mining, level))) {
+            store.getResource(ExamplePlugin.getSkillHudQueueType()).add(ref);
+            if (PluginMetrics.isEnabled()) PluginMetrics.HUD_CHANGES.increment();
+        }
+    }
+
+    /** Progress into the current level as a whole percentage (100 at the max level) */
+    public static int progressPercent(SkillSet skills, SkillType skill, int level) {
+        LevelCurve curve = LevelCurves.forSkill(skill);
+        if (level >= curve.getMaxLevel()) return 100;
+
+        // xpForLevel(n) is the step from n-1 to n, so the current level's span is level + 1
+        long need = curve.xpForLevel(level + 1);
+        if (need <= 0) return 0;
+        long into = skills.getXp(skill) - curve.totalXpForLevel(level);
+        return (int) Math.max(0, Math.min(99, into * 100 / need));
+    }
+}
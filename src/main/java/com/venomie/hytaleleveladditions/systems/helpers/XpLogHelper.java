@@ -0,0 +1,53 @@
+package com.venomie.hytaleleveladditions.systems.helpers;
+
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.ExamplePlugin;
+import com.venomie.hytaleleveladditions.journal.XpJournal;
+import com.venomie.hytaleleveladditions.journal.XpLogFormat;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+import com.venomie.hytaleleveladditions.resources.SkillAccumulator;
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import com.venomie.hytaleleveladditions.vein.PackedPos;
+
+/**
+ * Writes XP events to the XP log journal, if it is enabled.
+ * Each call only copies the event into the journal's ring buffer; files are written
+ * by the journal's background thread.
+ * <p>
+ * Events are logged by the accrual systems as XP is granted: one record per recipient
+ * per tick, after boosts and the party split.
+ */
+public class XpLogHelper {
+
+    /** XP log ID of an ore, to carry in the skill accumulator until the XP is granted */
+    public static int sourceId(OreProfile ore) {
+        XpJournal journal = ExamplePlugin.getXpJournal();
+        return journal == null ? XpLogFormat.NO_NAME : journal.nameId(ore.getPrefix());
+    }
+
+    /**
+     * Logs XP granted to a player.
+     *
+     * @param xp XP granted, after boosts and sharing
+     * @param multiplier boost multiplier the XP was scaled by
+     * @param count blocks or hits the XP was earned for
+     * @param sourceId {@link #sourceId} of the source, or {@link XpLogFormat#NO_NAME}
+     * @param position packed position, or {@link SkillAccumulator#NO_POSITION}
+     */
+    public static void logGranted(Store<EntityStore> store, PlayerRef playerRef, SkillType skill,
+                                  long xp, double multiplier, int count, int sourceId, long position) {
+        XpJournal journal = ExamplePlugin.getXpJournal();
+        if (journal == null || xp <= 0) return;
+
+        long now = System.currentTimeMillis();
+        int worldId = journal.nameId(store.getExternalData().getWorld().getName());
+        if (position == SkillAccumulator.NO_POSITION) {
+            journal.record(now, playerRef.getUuid(), skill, xp, (float) multiplier, count, worldId, sourceId);
+        } else {
+            journal.record(now, playerRef.getUuid(), skill, xp, (float) multiplier, count, worldId, sourceId,
+                    PackedPos.x(position), PackedPos.y(position), PackedPos.z(position));
+        }
+    }
+}
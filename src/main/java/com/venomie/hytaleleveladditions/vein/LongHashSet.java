@@ -0,0 +1,91 @@
+package com.venomie.hytaleleveladditions.vein;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing set of primitive longs (linear probing, load factor 0.5).
+ * <p>
+ * 0 marks an empty slot, so the value 0 itself is tracked by a separate flag.
+ */
+public final class LongHashSet {
+
+    private long[] table;
+    private int size;
+    private boolean containsZero;
+
+    public LongHashSet(int expectedSize) {
+        this.table = new long[tableSizeFor(expectedSize)];
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @return true if the value was not present
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+        if ((size + 1) * 2 > table.length) rehash(table.length * 2);
+
+        int mask = table.length - 1;
+        int slot = hash(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) return false;
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = value;
+        size++;
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == 0) return containsZero;
+        int mask = table.length - 1;
+        int slot = hash(value) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == value) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        size = 0;
+        containsZero = false;
+    }
+
+    // ===============================
+    // Internal utility
+    // ===============================
+
+    private static int hash(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int needed = Math.max(8, expectedSize * 2);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private void rehash(int newLength) {
+        long[] old = table;
+        table = new long[newLength];
+        int mask = newLength - 1;
+        for (long value : old) {
+            if (value == 0) continue;
+            int slot = hash(value) & mask;
+            while (table[slot] != 0) slot = (slot + 1) & mask;
+            table[slot] = value;
+        }
+    }
+}
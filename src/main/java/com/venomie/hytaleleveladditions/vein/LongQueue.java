@@ -0,0 +1,53 @@
+package com.venomie.hytaleleveladditions.vein;
+
+import java.util.NoSuchElementException;
+
+/**
+ * FIFO queue of primitive longs backed by a growable ring buffer.
+ */
+public final class LongQueue {
+
+    private long[] elements;
+    private int head;
+    private int size;
+
+    public LongQueue(int initialCapacity) {
+        this.elements = new long[Math.max(4, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1)];
+    }
+
+    public void add(long value) {
+        if (size == elements.length) grow();
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    public long poll() {
+        if (size == 0) throw new NoSuchElementException();
+        long value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return value;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        long[] grown = new long[elements.length * 2];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, grown, 0, firstPart);
+        System.arraycopy(elements, 0, grown, firstPart, size - firstPart);
+        elements = grown;
+        head = 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.venomie.hytaleleveladditions.vein;
+
+/**
+ * Packs block coordinates into one long: 26 bits X, 26 bits Z, 12 bits Y.
+ * Covers X/Z in [-33554432, 33554431] and Y in [-2048, 2047].
+ */
+public final class PackedPos {
+
+    private PackedPos() {
+        // Utility class; prevent instantiation
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFFL);
+    }
+
+    public static int x(long packed) {
+        return (int) (packed >> 38);
+    }
+
+    public static int y(long packed) {
+        // Shift the 12 bits to the top and back to sign-extend
+        return (int) (packed << 52 >> 52);
+    }
+
+    public static int z(long packed) {
+        return (int) (packed << 26 >> 38);
+    }
+}
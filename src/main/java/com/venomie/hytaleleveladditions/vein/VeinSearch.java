@@ -0,0 +1,138 @@
+package com.venomie.hytaleleveladditions.vein;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.venomie.hytaleleveladditions.ores.OreProfile;
+
+/**
+ * Incremental breadth-first flood fill over one ore vein.
+ * <p>
+ * Starts next to the block the player broke and visits the 26 neighbours of every vein
+ * block, breaking blocks of the same BlockType in BFS order. Work is done in
+ * {@link #step} calls with a block budget, so a large vein is spread across ticks.
+ * Coordinates are packed into longs; the frontier and visited set are primitive.
+ */
+public final class VeinSearch {
+
+    /** World access needed by the search */
+    public interface BlockAccess {
+        BlockType getBlockType(int x, int y, int z);
+
+        void breakBlock(int x, int y, int z);
+    }
+
+    private final Ref<EntityStore> owner;
+    private final BlockType blockType;
+    private final OreProfile ore;
+    private final int originX;
+    private final int originY;
+    private final int originZ;
+    private final int maxBlocks;
+
+    private final LongQueue frontier;
+    private final LongHashSet visited;
+
+    /** Blocks broken so far (not counting the origin) */
+    private int broken;
+    private boolean seeded;
+
+    public VeinSearch(Ref<EntityStore> owner, BlockType blockType, OreProfile ore,
+                      int originX, int originY, int originZ, int maxBlocks) {
+        this.owner = owner;
+        this.blockType = blockType;
+        this.ore = ore;
+        this.originX = originX;
+        this.originY = originY;
+        this.originZ = originZ;
+        this.maxBlocks = maxBlocks;
+        this.frontier = new LongQueue(Math.min(maxBlocks, 64));
+        this.visited = new LongHashSet(Math.min(maxBlocks * 4, 1024));
+    }
+
+    // ===============================
+    // Accessors
+    // ===============================
+
+    public Ref<EntityStore> getOwner() {
+        return owner;
+    }
+
+    public OreProfile getOre() {
+        return ore;
+    }
+
+    public int getOriginX() {
+        return originX;
+    }
+
+    public int getOriginY() {
+        return originY;
+    }
+
+    public int getOriginZ() {
+        return originZ;
+    }
+
+    public int getBroken() {
+        return broken;
+    }
+
+    /** True once the vein is exhausted or the size cap is reached */
+    public boolean isDone() {
+        return seeded && (frontier.isEmpty() || broken >= maxBlocks);
+    }
+
+    // ===============================
+    // Search
+    // ===============================
+
+    /**
+     * Breaks up to {@code budget} vein blocks.
+     *
+     * @return number of blocks broken by this call
+     */
+    public int step(BlockAccess world, int budget) {
+        if (!seeded) {
+            // The origin is already broken by the player; only its neighbours are candidates
+            visited.add(PackedPos.pack(originX, originY, originZ));
+            enqueueNeighbours(world, originX, originY, originZ);
+            seeded = true;
+        }
+
+        int brokenNow = 0;
+        while (brokenNow < budget && broken < maxBlocks && !frontier.isEmpty()) {
+            long pos = frontier.poll();
+            int x = PackedPos.x(pos);
+            int y = PackedPos.y(pos);
+            int z = PackedPos.z(pos);
+
+            // The block may have changed since it was queued
+            if (world.getBlockType(x, y, z) != blockType) continue;
+
+            world.breakBlock(x, y, z);
+            broken++;
+            brokenNow++;
+            enqueueNeighbours(world, x, y, z);
+        }
+        return brokenNow;
+    }
+
+    private void enqueueNeighbours(BlockAccess world, int x, int y, int z) {
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    if ((dx | dy | dz) == 0) continue;
+                    // No point growing the frontier past what we're allowed to break
+                    if (broken + frontier.size() >= maxBlocks) return;
+
+                    long pos = PackedPos.pack(x + dx, y + dy, z + dz);
+                    if (!visited.add(pos)) continue;
+                    if (world.getBlockType(x + dx, y + dy, z + dz) == blockType) {
+                        frontier.add(pos);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.venomie.hytaleleveladditions.components;
+
+import com.venomie.hytaleleveladditions.skills.SkillType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SkillXpEncodingTest {
+
+    private static final int SKILLS = SkillType.values().length;
+
+    @Test
+    void roundTripsSmallAndLargeXp() {
+        for (long xp : new long[]{1, 127, 128, 16_383, 16_384, 1L << 40, Long.MAX_VALUE}) {
+            long[] original = new long[SKILLS];
+            original[SkillType.Mining.ordinal()] = xp;
+            original[SkillType.Sword.ordinal()] = 3;
+
+            long[] decoded = new long[SKILLS];
+            SkillXpEncoding.decode(SkillXpEncoding.encode(original), decoded);
+            assertArrayEquals(original, decoded, "xp " + xp);
+        }
+    }
+
+    @Test
+    void skillsWithoutXpAreNotWritten() {
+        assertEquals("", SkillXpEncoding.encode(new long[SKILLS]));
+
+        long[] decoded = {5, 5};
+        SkillXpEncoding.decode("", decoded);
+        assertArrayEquals(new long[SKILLS], decoded);
+    }
+
+    @Test
+    void unknownSkillIdsAreSkipped() {
+        // id 1000 (two-byte varint) with 7 XP, then Mining (id 0) with 42 XP
+        byte[] bytes = {(byte) 0xE8, 0x07, 0x07, 0x00, 0x2A};
+        long[] decoded = new long[SKILLS];
+        SkillXpEncoding.decode(Base64.getEncoder().withoutPadding().encodeToString(bytes), decoded);
+
+        assertEquals(42, decoded[SkillType.Mining.ordinal()]);
+        assertEquals(0, decoded[SkillType.Sword.ordinal()]);
+    }
+
+    @Test
+    void truncatedDataIsRejected() {
+        // Mining's id without its XP
+        String truncated = Base64.getEncoder().withoutPadding().encodeToString(new byte[]{0x00, (byte) 0x80});
+        assertThrows(IllegalArgumentException.class, () -> SkillXpEncoding.decode(truncated, new long[SKILLS]));
+    }
+}
@@ -0,0 +1,95 @@
+package com.venomie.hytaleleveladditions.leaderboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RankedSkipListTest {
+
+    private record Entry(UUID id, long xp) {
+    }
+
+    /** Leaderboard order: XP descending, then UUID ascending */
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparingLong(Entry::xp).reversed().thenComparing(Entry::id);
+
+    @Test
+    void ranksByXpDescendingThenUuid() {
+        RankedSkipList list = new RankedSkipList();
+        UUID a = new UUID(0, 1);
+        UUID b = new UUID(0, 2);
+        UUID c = new UUID(0, 3);
+        list.insert(c, 50, "c");
+        list.insert(b, 100, "b");
+        list.insert(a, 100, "a");
+
+        assertEquals(1, list.rankOf(a, 100));
+        assertEquals(2, list.rankOf(b, 100));
+        assertEquals(3, list.rankOf(c, 50));
+        assertEquals(0, list.rankOf(c, 49));
+    }
+
+    @Test
+    void rankAndRangeMatchASortedListThroughInsertsAndDeletes() {
+        RankedSkipList list = new RankedSkipList();
+        List<Entry> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 2_000; i++) {
+            if (!expected.isEmpty() && random.nextInt(3) == 0) {
+                Entry removed = expected.remove(random.nextInt(expected.size()));
+                assertTrue(list.delete(removed.id(), removed.xp()));
+            } else {
+                Entry entry = new Entry(new UUID(random.nextLong(), random.nextLong()), random.nextInt(500));
+                list.insert(entry.id(), entry.xp(), "p" + i);
+                expected.add(entry);
+            }
+        }
+        expected.sort(ORDER);
+
+        assertEquals(expected.size(), list.size());
+        for (int rank = 1; rank <= expected.size(); rank += 37) {
+            Entry entry = expected.get(rank - 1);
+            assertEquals(rank, list.rankOf(entry.id(), entry.xp()));
+        }
+
+        List<RankedSkipList.Node> page = list.range(11, 25);
+        assertEquals(25, page.size());
+        for (int i = 0; i < page.size(); i++) {
+            assertEquals(expected.get(10 + i).id(), page.get(i).id);
+        }
+    }
+
+    @Test
+    void rangeIsClippedToTheList() {
+        RankedSkipList list = new RankedSkipList();
+        for (int i = 0; i < 5; i++) {
+            list.insert(new UUID(0, i), i, null);
+        }
+
+        assertEquals(2, list.range(4, 10).size());
+        assertTrue(list.range(6, 10).isEmpty());
+        assertTrue(list.range(0, 10).isEmpty());
+        assertTrue(list.range(1, 0).isEmpty());
+    }
+
+    @Test
+    void deleteOfAnAbsentEntryIsRejected() {
+        RankedSkipList list = new RankedSkipList();
+        UUID id = UUID.randomUUID();
+        list.insert(id, 10, null);
+
+        assertFalse(list.delete(id, 11));
+        assertTrue(list.delete(id, 10));
+        assertFalse(list.delete(id, 10));
+        assertEquals(0, list.size());
+    }
+}
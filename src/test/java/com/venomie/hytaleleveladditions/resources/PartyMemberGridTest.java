@@ -0,0 +1,88 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class PartyMemberGridTest {
+
+    private static final int PARTY = 1;
+
+    @SuppressWarnings("unchecked")
+    private static Ref<EntityStore> ref() {
+        return mock(Ref.class);
+    }
+
+    @Test
+    void untrackedMemberIsNoLongerNear() {
+        PartyMemberGrid grid = new PartyMemberGrid(32);
+        Ref<EntityStore> self = ref();
+        Ref<EntityStore> other = ref();
+        grid.track(self, UUID.randomUUID(), PARTY, 0, 64, 0);
+        grid.track(other, UUID.randomUUID(), PARTY, 5, 64, 5);
+        PartyMemberGrid.Member member = grid.get(self);
+        assertEquals(1, grid.collectNear(member, 0, 64, 0).size());
+
+        grid.untrack(other);
+
+        assertNull(grid.get(other));
+        assertTrue(grid.collectNear(member, 0, 64, 0).isEmpty());
+        assertEquals(1, grid.members().size());
+    }
+
+    @Test
+    void removalsInSharedColumnsKeepTheRestLinked() {
+        // Many members per column, removed from the head, middle and tail of each column list
+        PartyMemberGrid grid = new PartyMemberGrid(32);
+        Ref<EntityStore> self = ref();
+        grid.track(self, UUID.randomUUID(), PARTY, 0, 64, 0);
+        List<Ref<EntityStore>> others = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            Ref<EntityStore> ref = ref();
+            grid.track(ref, UUID.randomUUID(), PARTY, i % 3 * 10 - 10, 64, i % 2 * 10);
+            others.add(ref);
+        }
+        for (int i = 0; i < others.size(); i += 3) {
+            grid.untrack(others.get(i));
+        }
+
+        List<PartyMemberGrid.Member> near = grid.collectNear(grid.get(self), 0, 64, 0);
+        assertEquals(40, near.size());
+        for (PartyMemberGrid.Member member : near) {
+            assertTrue(others.indexOf(member.getRef()) % 3 != 0);
+        }
+        assertEquals(41, grid.members().size());
+    }
+
+    @Test
+    void memberWhoMovedIsFoundInTheirNewColumnOnly() {
+        PartyMemberGrid grid = new PartyMemberGrid(16);
+        Ref<EntityStore> self = ref();
+        Ref<EntityStore> other = ref();
+        grid.track(self, UUID.randomUUID(), PARTY, 0, 64, 0);
+        grid.track(other, UUID.randomUUID(), PARTY, 4, 64, 4);
+
+        grid.move(grid.get(other), 500, 64, 500);
+        assertTrue(grid.collectNear(grid.get(self), 0, 64, 0).isEmpty());
+        assertEquals(1, grid.collectNear(grid.get(self), 500, 64, 500).size());
+    }
+
+    @Test
+    void otherPartiesAreIgnored() {
+        PartyMemberGrid grid = new PartyMemberGrid(32);
+        Ref<EntityStore> self = ref();
+        grid.track(self, UUID.randomUUID(), PARTY, 0, 64, 0);
+        grid.track(ref(), UUID.randomUUID(), PARTY + 1, 1, 64, 1);
+
+        assertTrue(grid.collectNear(grid.get(self), 0, 64, 0).isEmpty());
+    }
+}
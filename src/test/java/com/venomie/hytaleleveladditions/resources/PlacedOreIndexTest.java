@@ -0,0 +1,62 @@
+package com.venomie.hytaleleveladditions.resources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlacedOreIndexTest {
+
+    @Test
+    void removeClearsOnlyThatBlock() {
+        PlacedOreIndex index = new PlacedOreIndex();
+        index.add(1, 64, 1);
+        index.add(2, 64, 1);
+
+        assertTrue(index.remove(1, 64, 1));
+        assertFalse(index.contains(1, 64, 1));
+        assertTrue(index.contains(2, 64, 1));
+        assertFalse(index.remove(1, 64, 1));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void sectionIsDroppedWithItsLastBlock() {
+        PlacedOreIndex index = new PlacedOreIndex();
+        index.add(-1, 0, -1);
+        assertTrue(index.hasSection(-16, 0, -16));
+
+        assertTrue(index.remove(-1, 0, -1));
+        assertFalse(index.hasSection(-16, 0, -16));
+        assertEquals(0, index.sectionCount());
+    }
+
+    @Test
+    void removingSectionsKeepsTheOthersReachable() {
+        // Enough sections to grow the table, then remove every other one so entries
+        // are shifted back into the holes and swapped in storage
+        PlacedOreIndex index = new PlacedOreIndex();
+        for (int i = 0; i < 500; i++) {
+            index.add(i * 16, i % 7 * 16, -i * 16);
+        }
+        for (int i = 0; i < 500; i += 2) {
+            assertTrue(index.remove(i * 16, i % 7 * 16, -i * 16));
+        }
+
+        assertEquals(250, index.sectionCount());
+        for (int i = 0; i < 500; i++) {
+            assertEquals(i % 2 == 1, index.contains(i * 16, i % 7 * 16, -i * 16), "section " + i);
+        }
+    }
+
+    @Test
+    void copyIsIndependent() {
+        PlacedOreIndex index = new PlacedOreIndex();
+        index.add(5, 5, 5);
+        PlacedOreIndex copy = new PlacedOreIndex(index);
+
+        index.remove(5, 5, 5);
+        assertTrue(copy.contains(5, 5, 5));
+    }
+}